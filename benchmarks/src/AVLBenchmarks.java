@@ -0,0 +1,115 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw7 AVL.
+ *
+ * The tree holds the even keys 2k, so adding 2k + 1 always inserts a new
+ * leaf and removing 2k always hits.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class AVLBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private AVLBenchmarks() {
+    }
+
+    /**
+     * Returns the AVL benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new Add(), new Remove());
+    }
+
+    /**
+     * Populates an AVL with the even keys in distribution order.
+     *
+     * @param size         the number of keys
+     * @param distribution the key distribution
+     * @param random       the source of randomness
+     * @return the populated tree
+     */
+    private static AVL<Integer> populate(int size,
+            KeyDistribution distribution, Random random) {
+        AVL<Integer> tree = new AVL<>();
+        for (int key : distribution.order(size, random)) {
+            tree.add(2 * key);
+        }
+        return tree;
+    }
+
+    /**
+     * Adds an absent key as a new leaf, rebalancing on the way up, then
+     * removes it again.
+     */
+    private static class Add extends Benchmark {
+        private AVL<Integer> tree;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Add() {
+            super("AVL.add");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            tree = populate(size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 2, 1);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer key = keys[op & QUERY_MASK];
+            tree.add(key);
+            return tree.remove(key);
+        }
+
+        @Override
+        public void tearDown() {
+            tree = null;
+        }
+    }
+
+    /**
+     * Removes a present key, rebalancing on the way up, then adds it back.
+     */
+    private static class Remove extends Benchmark {
+        private AVL<Integer> tree;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Remove() {
+            super("AVL.remove");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            tree = populate(size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 2, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer removed = tree.remove(keys[op & QUERY_MASK]);
+            tree.add(removed);
+            return removed;
+        }
+
+        @Override
+        public void tearDown() {
+            tree = null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw3 ArrayDeque.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class ArrayDequeBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private ArrayDequeBenchmarks() {
+    }
+
+    /**
+     * Returns the ArrayDeque benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new AddFirst(), new AddLast());
+    }
+
+    /**
+     * Populates an ArrayDeque with the keys in distribution order.
+     *
+     * @param size         the number of keys
+     * @param distribution the key distribution
+     * @param random       the source of randomness
+     * @return the populated deque
+     */
+    private static ArrayDeque<Integer> populate(int size,
+            KeyDistribution distribution, Random random) {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int key : distribution.order(size, random)) {
+            deque.addLast(key);
+        }
+        return deque;
+    }
+
+    /**
+     * Adds to the front, then removes from the back so the deque rotates
+     * through its backing array at a constant size.
+     */
+    private static class AddFirst extends Benchmark {
+        private ArrayDeque<Integer> deque;
+        private Integer[] values;
+
+        /**
+         * Constructs the benchmark.
+         */
+        AddFirst() {
+            super("ArrayDeque.addFirst");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            deque = populate(size, distribution, random);
+            values = boxed(distribution.sample(size, QUERY_COUNT, random),
+                    1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            deque.addFirst(values[op & QUERY_MASK]);
+            return deque.removeLast();
+        }
+
+        @Override
+        public void tearDown() {
+            deque = null;
+        }
+    }
+
+    /**
+     * Adds to the back, then removes from the front so the deque rotates
+     * through its backing array at a constant size.
+     */
+    private static class AddLast extends Benchmark {
+        private ArrayDeque<Integer> deque;
+        private Integer[] values;
+
+        /**
+         * Constructs the benchmark.
+         */
+        AddLast() {
+            super("ArrayDeque.addLast");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            deque = populate(size, distribution, random);
+            values = boxed(distribution.sample(size, QUERY_COUNT, random),
+                    1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            deque.addLast(values[op & QUERY_MASK]);
+            return deque.removeFirst();
+        }
+
+        @Override
+        public void tearDown() {
+            deque = null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw1 ArrayList.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class ArrayListBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private ArrayListBenchmarks() {
+    }
+
+    /**
+     * Returns the ArrayList benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new AddAtIndex(), new RemoveAtIndex(), new Get(),
+                new Fill("2x", GrowthPolicy.DOUBLING),
+                new Fill("1.5x", GrowthPolicy.ONE_AND_A_HALF));
+    }
+
+    /**
+     * Populates an ArrayList with the keys in distribution order.
+     *
+     * @param size         the number of keys
+     * @param distribution the key distribution
+     * @param random       the source of randomness
+     * @return the populated list
+     */
+    private static ArrayList<Integer> populate(int size,
+            KeyDistribution distribution, Random random) {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int key : distribution.order(size, random)) {
+            list.addToBack(key);
+        }
+        return list;
+    }
+
+    /**
+     * Inserts at a distribution-chosen index, then removes from the back so
+     * the size stays constant.
+     */
+    private static class AddAtIndex extends Benchmark {
+        private static final Integer VALUE = 1332;
+
+        private ArrayList<Integer> list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        AddAtIndex() {
+            super("ArrayList.addAtIndex");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = populate(size, distribution, random);
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            list.addAtIndex(indices[op & QUERY_MASK], VALUE);
+            return list.removeFromBack();
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Removes at a distribution-chosen index, then adds the element back to
+     * the end so the size stays constant.
+     */
+    private static class RemoveAtIndex extends Benchmark {
+        private ArrayList<Integer> list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        RemoveAtIndex() {
+            super("ArrayList.removeAtIndex");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = populate(size, distribution, random);
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer removed = list.removeAtIndex(indices[op & QUERY_MASK]);
+            list.addToBack(removed);
+            return removed;
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Gets the element at a distribution-chosen index and unboxes it.
+     */
+    private static class Get extends Benchmark {
+        private ArrayList<Integer> list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Get() {
+            super("ArrayList.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = populate(size, distribution, random);
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return list.get(indices[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Builds a whole list of the benchmark size from empty with addToBack, so
+     * one operation covers every resize a growth policy causes on the way.
+     */
+    private static class Fill extends Benchmark {
+        private final GrowthPolicy growthPolicy;
+        private Integer[] values;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param label        the growth policy name to print
+         * @param growthPolicy the growth policy to fill with
+         */
+        Fill(String label, GrowthPolicy growthPolicy) {
+            super("ArrayList.fill(" + label + ")");
+            this.growthPolicy = growthPolicy;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            values = boxed(distribution.order(size, random), 1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            ArrayList<Integer> list = new ArrayList<>(growthPolicy);
+            for (Integer value : values) {
+                list.addToBack(value);
+            }
+            return list.size();
+        }
+
+        @Override
+        public void tearDown() {
+            values = null;
+        }
+    }
+}
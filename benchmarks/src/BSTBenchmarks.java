@@ -0,0 +1,130 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw4 BST.
+ *
+ * The tree holds the even keys 2k, so adding 2k + 1 always inserts a new
+ * leaf and contains(2k) always hits.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class BSTBenchmarks {
+
+    /**
+     * Sorted inserts degrade the BST into a linked list, so building one
+     * larger than this takes quadratic time and overflows the recursive add.
+     */
+    private static final int MAX_SEQUENTIAL_SIZE = 1_000;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private BSTBenchmarks() {
+    }
+
+    /**
+     * Returns the BST benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new Add(), new Contains());
+    }
+
+    /**
+     * Populates a BST with the even keys in distribution order.
+     *
+     * @param size         the number of keys
+     * @param distribution the key distribution
+     * @param random       the source of randomness
+     * @return the populated tree
+     */
+    private static BST<Integer> populate(int size,
+            KeyDistribution distribution, Random random) {
+        BST<Integer> tree = new BST<>();
+        for (int key : distribution.order(size, random)) {
+            tree.add(2 * key);
+        }
+        return tree;
+    }
+
+    /**
+     * Adds an absent key as a new leaf, then removes it again.
+     */
+    private static class Add extends Benchmark {
+        private BST<Integer> tree;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Add() {
+            super("BST.add");
+        }
+
+        @Override
+        public boolean supports(int size, KeyDistribution distribution) {
+            return distribution != KeyDistribution.SEQUENTIAL
+                    || size <= MAX_SEQUENTIAL_SIZE;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            tree = populate(size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 2, 1);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer key = keys[op & QUERY_MASK];
+            tree.add(key);
+            return tree.remove(key);
+        }
+
+        @Override
+        public void tearDown() {
+            tree = null;
+        }
+    }
+
+    /**
+     * Looks up a key that is present in the tree.
+     */
+    private static class Contains extends Benchmark {
+        private BST<Integer> tree;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Contains() {
+            super("BST.contains");
+        }
+
+        @Override
+        public boolean supports(int size, KeyDistribution distribution) {
+            return distribution != KeyDistribution.SEQUENTIAL
+                    || size <= MAX_SEQUENTIAL_SIZE;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            tree = populate(size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 2, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            return tree.contains(keys[op & QUERY_MASK]) ? 1 : 0;
+        }
+
+        @Override
+        public void tearDown() {
+            tree = null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import java.util.Random;
+
+/**
+ * A single benchmarked operation on one of the homework data structures.
+ *
+ * The runner calls setUp once per (size, distribution) pair, then calls
+ * operate repeatedly while timing it. Implementations should keep the
+ * structure at a steady size across calls to operate (for example by pairing
+ * an add with a cheap remove) so that every measured call sees the same
+ * amount of data.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public abstract class Benchmark {
+
+    /**
+     * The number of precomputed query keys each benchmark cycles through.
+     * Must be a power of two so op indices can be masked instead of modded.
+     */
+    public static final int QUERY_COUNT = 1 << 16;
+
+    /**
+     * Mask that maps an op index onto a slot of the query arrays.
+     */
+    protected static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    private final String name;
+
+    /**
+     * Constructs a new Benchmark.
+     *
+     * @param name the name printed in the results, e.g. "ArrayList.get"
+     */
+    protected Benchmark(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the benchmark.
+     *
+     * @return the name of the benchmark
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether this benchmark can reasonably be run with the given
+     * parameters. Used to skip combinations that would take hours or blow
+     * the stack, like sorted inserts into an unbalanced BST.
+     *
+     * @param size         the number of elements in the structure
+     * @param distribution the key distribution
+     * @return true if the combination should be run, false otherwise
+     */
+    public boolean supports(int size, KeyDistribution distribution) {
+        return true;
+    }
+
+    /**
+     * Builds the structure under test.
+     *
+     * @param size         the number of elements to populate it with
+     * @param distribution the key distribution to populate and query with
+     * @param random       the seeded source of randomness to use
+     */
+    public abstract void setUp(int size, KeyDistribution distribution,
+            Random random);
+
+    /**
+     * Runs one operation against the structure.
+     *
+     * The returned value is folded into a checksum by the runner so the JIT
+     * cannot eliminate the work as dead code.
+     *
+     * @param op the index of this operation, increasing from 0
+     * @return a value derived from the result of the operation
+     */
+    public abstract long operate(int op);
+
+    /**
+     * Boxes keys ahead of time so Integer allocation is not measured as part
+     * of the operation. Each key k is boxed as scale * k + offset, which lets
+     * benchmarks split the key space into present and absent keys.
+     *
+     * @param keys   the keys to box
+     * @param scale  the multiplier applied to each key
+     * @param offset the offset added to each key
+     * @return the boxed keys
+     */
+    protected static Integer[] boxed(int[] keys, int scale, int offset) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = scale * keys[i] + offset;
+        }
+        return boxed;
+    }
+
+    /**
+     * Releases the structure under test so it can be garbage collected
+     * before the next setUp.
+     */
+    public void tearDown() {
+        // nothing to release by default
+    }
+}
@@ -0,0 +1,279 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs the benchmarks for the hw1 - hw7 data structures and prints a
+ * JMH-style results table of average time per operation, along with the
+ * heap retained per element by the structure under test and the bytes
+ * allocated per operation.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java} and pass
+ * options through {@code -Dexec.args="..."}:
+ *
+ * <pre>
+ *   --include REGEX      only run benchmarks whose name matches REGEX
+ *   --sizes N,N,...      structure sizes (default 1000 ... 10000000)
+ *   --dists D,D,...      key distributions (SEQUENTIAL, RANDOM, ZIPFIAN)
+ *   --warmup N           warmup iterations per run (default 3)
+ *   --iterations N       measured iterations per run (default 5)
+ *   --time MS            length of each iteration in ms (default 1000)
+ *   --seed N             seed for key generation (default 1332)
+ * </pre>
+ *
+ * The largest sizes need a big heap for the node-based structures, e.g.
+ * {@code MAVEN_OPTS=-Xmx8g}.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Batches stop growing once a single batch takes this long, so the
+     * clock is read rarely enough not to skew nanosecond operations.
+     */
+    private static final long TARGET_BATCH_NANOS = 1_000_000L;
+
+    private static final int MAX_BATCH = 1 << 20;
+
+    private static final ThreadMXBean THREADS =
+            (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Folded results of every operation, published so the JIT cannot treat
+     * the benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    private Pattern include = Pattern.compile(".*");
+    private int[] sizes = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private KeyDistribution[] distributions = KeyDistribution.values();
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private long iterationNanos = 1_000_000_000L;
+    private long seed = 1332;
+
+    /**
+     * Operations run by every iteration so far, for per-operation figures
+     * that span iterations.
+     */
+    private long operations;
+
+    /**
+     * Not meant to be constructed outside of main.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the command line options described in the class comment
+     */
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parse(args);
+        runner.run(allBenchmarks());
+    }
+
+    /**
+     * Returns every registered benchmark.
+     *
+     * @return the list of benchmarks
+     */
+    private static List<Benchmark> allBenchmarks() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.addAll(ArrayListBenchmarks.all());
+        benchmarks.addAll(PrimitiveArrayListBenchmarks.all());
+        benchmarks.addAll(GapBufferListBenchmarks.all());
+        benchmarks.addAll(DoublyLinkedListBenchmarks.all());
+        benchmarks.addAll(ArrayDequeBenchmarks.all());
+        benchmarks.addAll(BSTBenchmarks.all());
+        benchmarks.addAll(MinHeapBenchmarks.all());
+        benchmarks.addAll(LinearProbingHashMapBenchmarks.all());
+        benchmarks.addAll(PrimitiveMapBenchmarks.all());
+        benchmarks.addAll(OffHeapMapBenchmarks.all());
+        benchmarks.addAll(AVLBenchmarks.all());
+        return benchmarks;
+    }
+
+    /**
+     * Parses the command line options.
+     *
+     * @param args the command line options
+     * @throws java.lang.IllegalArgumentException if an option is unknown or
+     *                                            is missing its value
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].isBlank()) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(
+                        "Missing value for option " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--include":
+                    include = Pattern.compile(value);
+                    break;
+                case "--sizes":
+                    String[] parts = value.split(",");
+                    sizes = new int[parts.length];
+                    for (int j = 0; j < parts.length; j++) {
+                        sizes[j] = (int) Double.parseDouble(parts[j].trim());
+                    }
+                    break;
+                case "--dists":
+                    String[] names = value.split(",");
+                    distributions = new KeyDistribution[names.length];
+                    for (int j = 0; j < names.length; j++) {
+                        distributions[j] = KeyDistribution.valueOf(
+                                names[j].trim().toUpperCase(Locale.ROOT));
+                    }
+                    break;
+                case "--warmup":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "--iterations":
+                    measurementIterations = Integer.parseInt(value);
+                    break;
+                case "--time":
+                    iterationNanos = Long.parseLong(value) * 1_000_000L;
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown option " + args[i - 1]);
+            }
+        }
+    }
+
+    /**
+     * Runs every matching benchmark over every size and distribution.
+     *
+     * @param benchmarks the benchmarks to choose from
+     */
+    private void run(List<Benchmark> benchmarks) {
+        System.out.printf("%-48s %10s %12s %4s %14s %12s  %-6s %10s %10s%n",
+                "Benchmark", "(size)", "(dist)", "Cnt", "Score", "Error",
+                "Units", "B/elem", "B/op");
+        for (Benchmark benchmark : benchmarks) {
+            if (!include.matcher(benchmark.getName()).find()) {
+                continue;
+            }
+            for (int size : sizes) {
+                for (KeyDistribution distribution : distributions) {
+                    if (benchmark.supports(size, distribution)) {
+                        run(benchmark, size, distribution);
+                    }
+                }
+            }
+        }
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Runs one benchmark for one size and distribution and prints its row.
+     *
+     * @param benchmark    the benchmark to run
+     * @param size         the size of the structure
+     * @param distribution the key distribution
+     */
+    private void run(Benchmark benchmark, int size,
+            KeyDistribution distribution) {
+        long heapBefore = usedHeap();
+        benchmark.setUp(size, distribution, new Random(seed));
+        double bytesPerElement = (double) (usedHeap() - heapBefore) / size;
+
+        int[] op = new int[1];
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(benchmark, op);
+        }
+        double[] scores = new double[measurementIterations];
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        long opsBefore = operations;
+        for (int i = 0; i < measurementIterations; i++) {
+            scores[i] = iteration(benchmark, op);
+        }
+        double bytesPerOp =
+                (double) (THREADS.getThreadAllocatedBytes(thread)
+                        - allocatedBefore) / (operations - opsBefore);
+
+        benchmark.tearDown();
+        System.gc();
+
+        double mean = 0;
+        for (double score : scores) {
+            mean += score;
+        }
+        mean /= scores.length;
+        double variance = 0;
+        for (double score : scores) {
+            variance += (score - mean) * (score - mean);
+        }
+        double error = scores.length > 1
+                ? Math.sqrt(variance / (scores.length - 1)) : Double.NaN;
+
+        System.out.printf(
+                "%-48s %10d %12s %4d %14.3f %12.3f  %-6s %10.1f %10.1f%n",
+                benchmark.getName(), size, distribution, scores.length, mean,
+                error, "ns/op", bytesPerElement, bytesPerOp);
+    }
+
+    /**
+     * Returns the number of bytes in use on the heap after asking for a full
+     * collection. Only an estimate, but good enough to compare the footprint
+     * of boxed and primitive layouts at large sizes.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Runs operations in growing batches until the iteration time is used up.
+     *
+     * @param benchmark the benchmark to run
+     * @param op        a one element holder of the next op index, advanced
+     *                  across iterations so queries keep moving
+     * @return the average time per operation in nanoseconds
+     */
+    private double iteration(Benchmark benchmark, int[] op) {
+        long sink = 0;
+        long ops = 0;
+        int batch = 1;
+        int next = op[0];
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long now = start;
+        while (now < deadline) {
+            long batchStart = now;
+            for (int i = 0; i < batch; i++) {
+                sink += benchmark.operate(next++);
+            }
+            ops += batch;
+            now = System.nanoTime();
+            if (now - batchStart < TARGET_BATCH_NANOS && batch < MAX_BATCH) {
+                batch *= 2;
+            }
+        }
+        op[0] = next;
+        operations += ops;
+        checksum += sink;
+        return (double) (now - start) / ops;
+    }
+}
@@ -0,0 +1,153 @@
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Replays request traces against a LinearProbingCache under every
+ * EvictionPolicy and prints the hit rate, the time per request and how many
+ * entries each cache ends up holding. An unbounded LinearProbingHashMap
+ * used as a cache is included for comparison: it hits on every repeat, but
+ * only by keeping every key it has ever seen.
+ *
+ * Each request is a get, followed by a put of the key on a miss. Two traces
+ * are replayed: Zipfian requests, and the same requests interrupted by
+ * regular scans of keys that are never requested again.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=CacheHitRateReport -Dexec.args="KEYS REQUESTS"}.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class CacheHitRateReport {
+
+    /**
+     * Requests between the start of two scans in the scan trace.
+     */
+    private static final int SCAN_PERIOD = 50_000;
+
+    /**
+     * Keys per scan in the scan trace.
+     */
+    private static final int SCAN_LENGTH = 20_000;
+
+    /**
+     * Folded results of every request, published so the JIT cannot treat the
+     * benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private CacheHitRateReport() {
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param args optionally, the number of distinct keys (default 1e6) and
+     *             the number of requests (default 1e7)
+     */
+    public static void main(String[] args) {
+        int keys = args.length > 0 ? (int) Double.parseDouble(args[0])
+                : 1_000_000;
+        int requests = args.length > 1 ? (int) Double.parseDouble(args[1])
+                : 10_000_000;
+        Random random = new Random(1332);
+        Integer[] zipfian = Benchmark.boxed(
+                KeyDistribution.ZIPFIAN.sample(keys, requests, random), 1, 0);
+        Integer[] scans = zipfian.clone();
+        int next = keys;
+        for (int start = 0; start < requests; start += SCAN_PERIOD) {
+            for (int i = start; i < Math.min(start + SCAN_LENGTH, requests);
+                    i++) {
+                scans[i] = next++;
+            }
+        }
+
+        System.out.printf("%-10s %-28s %10s %10s %12s%n", "Trace", "Cache",
+                "hit rate", "ns/req", "entries");
+        for (int percent : new int[] {1, 10}) {
+            int maximumSize = keys / 100 * percent;
+            for (EvictionPolicy policy : EvictionPolicy.values()) {
+                String name = policy + " " + percent + "% of keys";
+                replay("zipfian", name, zipfian, maximumSize, policy);
+                replay("scans", name, scans, maximumSize, policy);
+            }
+        }
+        unbounded("zipfian", zipfian);
+        unbounded("scans", scans);
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Replays a trace against a new cache and prints a row.
+     *
+     * @param trace       the name of the trace
+     * @param name        the name of the cache
+     * @param requests    the requested keys
+     * @param maximumSize the maximum size of the cache
+     * @param policy      the eviction policy of the cache
+     */
+    private static void replay(String trace, String name, Integer[] requests,
+            int maximumSize, EvictionPolicy policy) {
+        LinearProbingCache<Integer, Integer> cache =
+                new LinearProbingCache<>(maximumSize, policy);
+        long sink = 0;
+        long start = System.nanoTime();
+        for (Integer key : requests) {
+            Integer value = cache.get(key);
+            if (value == null) {
+                cache.put(key, key);
+            } else {
+                sink += value;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        checksum += sink;
+        print(trace, name, (double) cache.hitCount() / requests.length,
+                elapsed, requests.length, cache.size());
+    }
+
+    /**
+     * Replays a trace against a LinearProbingHashMap that is never evicted
+     * from and prints a row.
+     *
+     * @param trace    the name of the trace
+     * @param requests the requested keys
+     */
+    private static void unbounded(String trace, Integer[] requests) {
+        LinearProbingHashMap<Integer, Integer> map =
+                new LinearProbingHashMap<>();
+        long hits = 0;
+        long start = System.nanoTime();
+        for (Integer key : requests) {
+            if (map.containsKey(key)) {
+                hits++;
+            } else {
+                map.put(key, key);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        checksum += hits;
+        print(trace, "LinearProbingHashMap", (double) hits / requests.length,
+                elapsed, requests.length, map.size());
+    }
+
+    /**
+     * Prints one row of the report.
+     *
+     * @param trace    the name of the trace
+     * @param name     the name of the cache
+     * @param hitRate  the fraction of requests that hit
+     * @param elapsed  the time the whole trace took in nanoseconds
+     * @param requests the number of requests
+     * @param entries  the number of entries left in the cache
+     */
+    private static void print(String trace, String name, double hitRate,
+            long elapsed, int requests, int entries) {
+        System.out.printf(Locale.ROOT, "%-10s %-28s %9.2f%% %10.1f %12d%n",
+                trace, name, 100 * hitRate, (double) elapsed / requests,
+                entries);
+    }
+}
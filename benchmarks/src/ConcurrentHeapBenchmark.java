@@ -0,0 +1,295 @@
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the throughput of ConcurrentMinHeap in both removal orders
+ * against a MinHeap behind one global lock, over a range of thread counts.
+ * Every thread alternates adding a random value and removing a small one,
+ * like a dispatcher whose producers also consume, so the heap keeps its
+ * prefilled size. The table reports the total operations per microsecond
+ * over all threads.
+ *
+ * Each ConcurrentMinHeap gets two sub-heaps per thread, the MultiQueue
+ * rule of thumb, rather than two per processor.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=ConcurrentHeapBenchmark -Dexec.args="..."}:
+ *
+ * <pre>
+ *   --threads N,N,...    thread counts (default 1,2,4,8,16,32,64)
+ *   --size N             number of values in the heap (default 1000000)
+ *   --warmup N           warmup iterations per run (default 2)
+ *   --iterations N       measured iterations per run (default 5)
+ *   --time MS            length of each iteration in ms (default 1000)
+ * </pre>
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class ConcurrentHeapBenchmark {
+
+    /**
+     * Folded results of every operation, published so the JIT cannot treat
+     * the benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    private int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+    private int size = 1_000_000;
+    private int warmupIterations = 2;
+    private int measurementIterations = 5;
+    private long iterationMillis = 1000;
+
+    /**
+     * The operations the benchmark calls on every heap.
+     */
+    private interface SharedHeap {
+
+        /**
+         * Adds a value.
+         *
+         * @param value the value to add
+         */
+        void add(Integer value);
+
+        /**
+         * Removes a value.
+         *
+         * @return the removed value
+         */
+        Integer remove();
+    }
+
+    /**
+     * Not meant to be constructed outside of main.
+     */
+    private ConcurrentHeapBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line options described in the class comment
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentHeapBenchmark benchmark = new ConcurrentHeapBenchmark();
+        benchmark.parse(args);
+        System.out.printf("%-40s %8s %4s %14s %12s  %-6s%n", "Benchmark",
+                "(threads)", "Cnt", "Score", "Error", "Units");
+        benchmark.run("MinHeap[locked]", threads -> new LockedHeap());
+        for (RemovalOrder order : RemovalOrder.values()) {
+            benchmark.run("ConcurrentMinHeap[" + order + "]",
+                threads -> new SharedConcurrentHeap(threads, order));
+        }
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Parses the command line options.
+     *
+     * @param args the command line options
+     * @throws java.lang.IllegalArgumentException if an option is unknown or
+     *                                            is missing its value
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].isBlank()) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(
+                        "Missing value for option " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--threads":
+                    String[] parts = value.split(",");
+                    threadCounts = new int[parts.length];
+                    for (int j = 0; j < parts.length; j++) {
+                        threadCounts[j] = Integer.parseInt(parts[j].trim());
+                    }
+                    break;
+                case "--size":
+                    size = (int) Double.parseDouble(value);
+                    break;
+                case "--warmup":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "--iterations":
+                    measurementIterations = Integer.parseInt(value);
+                    break;
+                case "--time":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown option " + args[i - 1]);
+            }
+        }
+    }
+
+    /**
+     * Fills a new heap for every thread count and measures it.
+     *
+     * @param name    the name of the heap
+     * @param factory creates an empty heap for the given number of threads
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    private void run(String name, IntFunction<SharedHeap> factory)
+            throws InterruptedException {
+        for (int threads : threadCounts) {
+            SharedHeap heap = factory.apply(threads);
+            int seed = 1332;
+            for (int i = 0; i < size; i++) {
+                seed = next(seed);
+                heap.add(seed >>> 1);
+            }
+
+            for (int i = 0; i < warmupIterations; i++) {
+                iteration(heap, threads);
+            }
+            double[] scores = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) {
+                scores[i] = iteration(heap, threads);
+            }
+
+            double mean = 0;
+            for (double score : scores) {
+                mean += score;
+            }
+            mean /= scores.length;
+            double variance = 0;
+            for (double score : scores) {
+                variance += (score - mean) * (score - mean);
+            }
+            double error = scores.length > 1
+                    ? Math.sqrt(variance / (scores.length - 1)) : Double.NaN;
+
+            System.out.printf(Locale.ROOT,
+                    "%-40s %8d %4d %14.3f %12.3f  %-6s%n", name, threads,
+                    scores.length, mean, error, "ops/us");
+        }
+    }
+
+    /**
+     * Runs every thread for one iteration.
+     *
+     * @param heap    the heap to operate on
+     * @param threads the number of threads
+     * @return the total operations per microsecond over all threads
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    private double iteration(SharedHeap heap, int threads)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean stop = new AtomicBoolean();
+        long[] ops = new long[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                int seed = 0x9e3779b9 * (id + 1);
+                long count = 0;
+                long sink = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!stop.get()) {
+                    for (int i = 0; i < 32; i++) {
+                        seed = next(seed);
+                        heap.add(seed >>> 1);
+                        sink += heap.remove();
+                    }
+                    count += 64;
+                }
+                ops[id] = count;
+                checksum += sink;
+            });
+            workers[t].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(iterationMillis);
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        long total = 0;
+        for (long count : ops) {
+            total += count;
+        }
+        return total * 1000.0 / elapsed;
+    }
+
+    /**
+     * Advances an xorshift generator, which keeps the value stream cheap
+     * and thread local.
+     *
+     * @param seed the current state, never 0
+     * @return the next state
+     */
+    private static int next(int seed) {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        return x;
+    }
+
+    /**
+     * Guards a MinHeap with one monitor, the way callers share a MinHeap
+     * between threads today.
+     */
+    private static final class LockedHeap implements SharedHeap {
+        private final MinHeap<Integer> heap = new MinHeap<>();
+
+        @Override
+        public synchronized void add(Integer value) {
+            heap.add(value);
+        }
+
+        @Override
+        public synchronized Integer remove() {
+            return heap.remove();
+        }
+    }
+
+    /**
+     * Passes every operation straight to a ConcurrentMinHeap.
+     */
+    private static final class SharedConcurrentHeap implements SharedHeap {
+        private final ConcurrentMinHeap<Integer> heap;
+
+        /**
+         * Constructs the heap with QUEUES_PER_PROCESSOR sub-heaps per thread.
+         *
+         * @param threads the number of threads that will share the heap
+         * @param order   the removal order of the heap
+         */
+        SharedConcurrentHeap(int threads, RemovalOrder order) {
+            heap = new ConcurrentMinHeap<>(
+                    ConcurrentMinHeap.QUEUES_PER_PROCESSOR * threads, order);
+        }
+
+        @Override
+        public void add(Integer value) {
+            heap.add(value);
+        }
+
+        @Override
+        public Integer remove() {
+            return heap.remove();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Measures the throughput of ConcurrentLinearProbingHashMap against a
+ * LinearProbingHashMap behind one global lock, over a range of thread
+ * counts. Every thread runs the same mix of containsKey and put calls on
+ * keys spread uniformly over a prefilled map, and the table reports the
+ * total operations per microsecond over all threads.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=ConcurrentMapBenchmark -Dexec.args="..."}:
+ *
+ * <pre>
+ *   --threads N,N,...    thread counts (default 1,2,4,8,16,32,64)
+ *   --size N             number of keys in the map (default 1000000)
+ *   --writes PERCENT     share of operations that are puts (default 10)
+ *   --warmup N           warmup iterations per run (default 2)
+ *   --iterations N       measured iterations per run (default 5)
+ *   --time MS            length of each iteration in ms (default 1000)
+ * </pre>
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class ConcurrentMapBenchmark {
+
+    /**
+     * Folded results of every operation, published so the JIT cannot treat
+     * the benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    private int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+    private int size = 1_000_000;
+    private int writePercent = 10;
+    private int warmupIterations = 2;
+    private int measurementIterations = 5;
+    private long iterationMillis = 1000;
+
+    /**
+     * Not meant to be constructed outside of main.
+     */
+    private ConcurrentMapBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line options described in the class comment
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentMapBenchmark benchmark = new ConcurrentMapBenchmark();
+        benchmark.parse(args);
+        System.out.printf("%-40s %8s %4s %14s %12s  %-6s%n", "Benchmark",
+                "(threads)", "Cnt", "Score", "Error", "Units");
+        benchmark.run("LinearProbingHashMap[locked]",
+                () -> new LockedMap<>(new LinearProbingHashMap<>()));
+        benchmark.run("ConcurrentLinearProbingHashMap",
+                ConcurrentLinearProbingHashMap::new);
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Parses the command line options.
+     *
+     * @param args the command line options
+     * @throws java.lang.IllegalArgumentException if an option is unknown or
+     *                                            is missing its value
+     */
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].isBlank()) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(
+                        "Missing value for option " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--threads":
+                    String[] parts = value.split(",");
+                    threadCounts = new int[parts.length];
+                    for (int j = 0; j < parts.length; j++) {
+                        threadCounts[j] = Integer.parseInt(parts[j].trim());
+                    }
+                    break;
+                case "--size":
+                    size = (int) Double.parseDouble(value);
+                    break;
+                case "--writes":
+                    writePercent = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "--iterations":
+                    measurementIterations = Integer.parseInt(value);
+                    break;
+                case "--time":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown option " + args[i - 1]);
+            }
+        }
+    }
+
+    /**
+     * Fills a map and measures it at every thread count.
+     *
+     * @param name    the name of the map
+     * @param factory creates the empty map
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    private void run(String name,
+            Supplier<OpenAddressingMap<Integer, Integer>> factory)
+            throws InterruptedException {
+        OpenAddressingMap<Integer, Integer> map = factory.get();
+        for (int key = 0; key < size; key++) {
+            map.put(key, key);
+        }
+
+        for (int threads : threadCounts) {
+            for (int i = 0; i < warmupIterations; i++) {
+                iteration(map, threads);
+            }
+            double[] scores = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) {
+                scores[i] = iteration(map, threads);
+            }
+
+            double mean = 0;
+            for (double score : scores) {
+                mean += score;
+            }
+            mean /= scores.length;
+            double variance = 0;
+            for (double score : scores) {
+                variance += (score - mean) * (score - mean);
+            }
+            double error = scores.length > 1
+                    ? Math.sqrt(variance / (scores.length - 1)) : Double.NaN;
+
+            System.out.printf(Locale.ROOT,
+                    "%-40s %8d %4d %14.3f %12.3f  %-6s%n", name, threads,
+                    scores.length, mean, error, "ops/us");
+        }
+    }
+
+    /**
+     * Runs every thread for one iteration.
+     *
+     * @param map     the map to operate on
+     * @param threads the number of threads
+     * @return the total operations per microsecond over all threads
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     *                                        for the worker threads
+     */
+    private double iteration(OpenAddressingMap<Integer, Integer> map,
+            int threads) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean stop = new AtomicBoolean();
+        long[] ops = new long[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                // xorshift keeps the key stream cheap and thread local
+                int seed = 0x9e3779b9 * (id + 1);
+                long count = 0;
+                long sink = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!stop.get()) {
+                    for (int i = 0; i < 64; i++) {
+                        seed ^= seed << 13;
+                        seed ^= seed >>> 17;
+                        seed ^= seed << 5;
+                        int key = (seed >>> 1) % size;
+                        if ((seed & 127) * 100 < writePercent * 128) {
+                            map.put(key, key);
+                        } else if (map.containsKey(key)) {
+                            sink++;
+                        }
+                    }
+                    count += 64;
+                }
+                ops[id] = count;
+                checksum += sink;
+            });
+            workers[t].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(iterationMillis);
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        long total = 0;
+        for (long count : ops) {
+            total += count;
+        }
+        return total * 1000.0 / elapsed;
+    }
+
+    /**
+     * Guards every method of a map with the map's monitor, the way callers
+     * share a LinearProbingHashMap between threads today.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    private static final class LockedMap<K, V>
+            implements OpenAddressingMap<K, V> {
+        private final OpenAddressingMap<K, V> map;
+
+        /**
+         * Constructs the wrapper.
+         *
+         * @param map the map to guard
+         */
+        LockedMap(OpenAddressingMap<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public synchronized V put(K key, V value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public synchronized V remove(K key) {
+            return map.remove(key);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public synchronized Set<K> keySet() {
+            return map.keySet();
+        }
+
+        @Override
+        public synchronized List<V> values() {
+            return map.values();
+        }
+
+        @Override
+        public synchronized void resizeBackingTable(int length) {
+            map.resizeBackingTable(length);
+        }
+
+        @Override
+        public synchronized void clear() {
+            map.clear();
+        }
+
+        @Override
+        public synchronized int size() {
+            return map.size();
+        }
+    }
+}
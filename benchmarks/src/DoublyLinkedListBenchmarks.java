@@ -0,0 +1,61 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw2 DoublyLinkedList.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class DoublyLinkedListBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private DoublyLinkedListBenchmarks() {
+    }
+
+    /**
+     * Returns the DoublyLinkedList benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new Get());
+    }
+
+    /**
+     * Gets the element at a distribution-chosen index.
+     */
+    private static class Get extends Benchmark {
+        private DoublyLinkedList<Integer> list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Get() {
+            super("DoublyLinkedList.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new DoublyLinkedList<>();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return list.get(indices[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+}
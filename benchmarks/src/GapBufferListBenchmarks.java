@@ -0,0 +1,181 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks comparing the hw1 GapBufferList against ArrayList on an
+ * editor-style workload.
+ *
+ * Each edit benchmark works in bursts of {@value #BURST} operations around a
+ * cursor chosen from the key distribution: the first half of a burst types
+ * elements in one after another, and the second half backspaces over them,
+ * leaving the list at its original size.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class GapBufferListBenchmarks {
+
+    /**
+     * The number of operations between cursor jumps. Must be a power of two.
+     */
+    private static final int BURST = 64;
+
+    private static final Integer VALUE = 1332;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private GapBufferListBenchmarks() {
+    }
+
+    /**
+     * Returns the GapBufferList benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new GapBufferEdit(), new ArrayListEdit(),
+                new GapBufferGet());
+    }
+
+    /**
+     * Returns the index the given op of a burst types or backspaces at.
+     *
+     * @param cursors the cursor positions, one per burst
+     * @param op      the op index
+     * @return the index to edit at
+     */
+    private static int editIndex(int[] cursors, int op) {
+        int cursor = cursors[(op / BURST) & (Benchmark.QUERY_COUNT - 1)];
+        int step = op & (BURST - 1);
+        return step < BURST / 2 ? cursor + step : cursor + BURST - 1 - step;
+    }
+
+    /**
+     * Returns whether the given op of a burst is a type rather than a
+     * backspace.
+     *
+     * @param op the op index
+     * @return true if the op adds, false if it removes
+     */
+    private static boolean isAdd(int op) {
+        return (op & (BURST - 1)) < BURST / 2;
+    }
+
+    /**
+     * Types and backspaces around a cursor in a GapBufferList.
+     */
+    private static class GapBufferEdit extends Benchmark {
+        private GapBufferList<Integer> list;
+        private int[] cursors;
+
+        /**
+         * Constructs the benchmark.
+         */
+        GapBufferEdit() {
+            super("GapBufferList.edit");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new GapBufferList<>();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            cursors = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            int index = editIndex(cursors, op);
+            if (isAdd(op)) {
+                list.addAtIndex(index, VALUE);
+                return index;
+            }
+            return list.removeAtIndex(index);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Types and backspaces around a cursor in an ArrayList.
+     */
+    private static class ArrayListEdit extends Benchmark {
+        private ArrayList<Integer> list;
+        private int[] cursors;
+
+        /**
+         * Constructs the benchmark.
+         */
+        ArrayListEdit() {
+            super("ArrayList.edit");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new ArrayList<>();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            cursors = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            int index = editIndex(cursors, op);
+            if (isAdd(op)) {
+                list.addAtIndex(index, VALUE);
+                return index;
+            }
+            return list.removeAtIndex(index);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Gets the element at a distribution-chosen index.
+     */
+    private static class GapBufferGet extends Benchmark {
+        private GapBufferList<Integer> list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        GapBufferGet() {
+            super("GapBufferList.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new GapBufferList<>();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            // Park the gap in the middle so gets land on both sides of it
+            list.addAtIndex(size / 2, VALUE);
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return list.get(indices[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+}
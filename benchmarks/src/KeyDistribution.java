@@ -0,0 +1,141 @@
+import java.util.Random;
+
+/**
+ * The distributions benchmark keys can be drawn from.
+ *
+ * Every distribution draws keys from [0, n). The order method gives the order
+ * the n keys are inserted in when a structure is populated, and the sample
+ * method gives the stream of keys that are queried afterwards.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public enum KeyDistribution {
+    /**
+     * Keys are inserted and queried in ascending order, wrapping around.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Keys are inserted in shuffled order and queried uniformly at random.
+     */
+    RANDOM,
+
+    /**
+     * Keys are inserted in shuffled order and queried following a scrambled
+     * Zipfian distribution, so a small set of hot keys spread across the key
+     * space receives most of the queries.
+     */
+    ZIPFIAN;
+
+    /**
+     * The skew of the Zipfian distribution. 0.99 is the usual YCSB default.
+     */
+    private static final double ZIPFIAN_THETA = 0.99;
+
+    /**
+     * Returns the n keys in [0, n) in the order they should be inserted.
+     *
+     * @param n      the number of keys
+     * @param random the source of randomness
+     * @return a permutation of [0, n)
+     */
+    public int[] order(int n, Random random) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+        }
+        if (this != SEQUENTIAL) {
+            // Fisher-Yates shuffle
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = temp;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns count query keys in [0, n) drawn from this distribution.
+     *
+     * @param n      the number of distinct keys
+     * @param count  the number of keys to draw
+     * @param random the source of randomness
+     * @return the drawn keys
+     */
+    public int[] sample(int n, int count, Random random) {
+        int[] keys = new int[count];
+        switch (this) {
+            case SEQUENTIAL:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = i % n;
+                }
+                break;
+            case RANDOM:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = random.nextInt(n);
+                }
+                break;
+            case ZIPFIAN:
+                sampleZipfian(keys, n, random);
+                break;
+            default:
+                throw new IllegalStateException(
+                        "Unknown key distribution " + this);
+        }
+        return keys;
+    }
+
+    /**
+     * Fills keys with scrambled Zipfian ranks using the rejection-free method
+     * from Gray et al., "Quickly Generating Billion-Record Synthetic
+     * Databases". Ranks are scrambled through a hash so the hot keys are not
+     * all clustered at the low end of the key space.
+     *
+     * @param keys   the array to fill
+     * @param n      the number of distinct keys
+     * @param random the source of randomness
+     */
+    private static void sampleZipfian(int[] keys, int n, Random random) {
+        double zetaN = 0;
+        for (int i = 1; i <= n; i++) {
+            zetaN += 1 / Math.pow(i, ZIPFIAN_THETA);
+        }
+        double zeta2 = 1 + 1 / Math.pow(2, ZIPFIAN_THETA);
+        double alpha = 1 / (1 - ZIPFIAN_THETA);
+        double eta = (1 - Math.pow(2.0 / n, 1 - ZIPFIAN_THETA))
+                / (1 - zeta2 / zetaN);
+
+        for (int i = 0; i < keys.length; i++) {
+            double u = random.nextDouble();
+            double uz = u * zetaN;
+            long rank;
+            if (uz < 1) {
+                rank = 0;
+            } else if (uz < zeta2) {
+                rank = 1;
+            } else {
+                rank = (long) (n * Math.pow(eta * u - eta + 1, alpha));
+            }
+            keys[i] = (int) Long.remainderUnsigned(scramble(rank), n);
+        }
+    }
+
+    /**
+     * Scrambles a rank with the 64-bit MurmurHash3 finalizer.
+     *
+     * @param rank the rank to scramble
+     * @return the scrambled value
+     */
+    private static long scramble(long rank) {
+        long h = rank;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
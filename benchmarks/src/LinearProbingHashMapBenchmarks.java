@@ -0,0 +1,563 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for the hw6 LinearProbingHashMap and the alternative
+ * OpenAddressingMap implementations next to it. Every implementation runs
+ * the same workloads so their rows can be compared directly.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class LinearProbingHashMapBenchmarks {
+
+    /**
+     * An odd multiplier, so multiplying by it maps distinct ints to distinct
+     * ints.
+     */
+    private static final int SCRAMBLE = 0x9E3779B9;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private LinearProbingHashMapBenchmarks() {
+    }
+
+    /**
+     * Returns the hash map benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        addAll(benchmarks, "LinearProbingHashMap", LinearProbingHashMap::new);
+        addAll(benchmarks, "FlatLinearProbingHashMap",
+                FlatLinearProbingHashMap::new);
+        addAll(benchmarks, "FlatLinearProbingHashMap[pow2]",
+                () -> new FlatLinearProbingHashMap<>(
+                        FlatLinearProbingHashMap.INITIAL_CAPACITY,
+                        TableSizing.POWER_OF_TWO));
+        addAll(benchmarks, "RobinHoodHashMap", RobinHoodHashMap::new);
+        addAll(benchmarks, "SwissTableHashMap", SwissTableHashMap::new);
+        for (ScanMode mode : ScanMode.values()) {
+            benchmarks.add(new Scan(mode));
+        }
+        for (BatchMode mode : BatchMode.values()) {
+            benchmarks.add(new Batch(mode));
+        }
+        for (LookupMode mode : LookupMode.values()) {
+            benchmarks.add(new Lookup(mode));
+        }
+        return benchmarks;
+    }
+
+    /**
+     * Adds every workload for one map implementation.
+     *
+     * @param benchmarks the list to add to
+     * @param name       the name of the implementation
+     * @param factory    creates empty maps of the implementation
+     */
+    private static void addAll(List<Benchmark> benchmarks, String name,
+            Supplier<OpenAddressingMap<Integer, Integer>> factory) {
+        benchmarks.add(new Put(name, factory));
+        benchmarks.add(new Get(name, factory));
+        benchmarks.add(new Miss(name, factory));
+        benchmarks.add(new Churn(name, factory));
+    }
+
+    /**
+     * Populates a map with the keys in distribution order, mapping each key
+     * to itself.
+     *
+     * @param factory      creates the empty map
+     * @param size         the number of keys
+     * @param distribution the key distribution
+     * @param random       the source of randomness
+     * @return the populated map
+     */
+    private static OpenAddressingMap<Integer, Integer> populate(
+            Supplier<OpenAddressingMap<Integer, Integer>> factory, int size,
+            KeyDistribution distribution, Random random) {
+        OpenAddressingMap<Integer, Integer> map = factory.get();
+        for (int key : distribution.order(size, random)) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    /**
+     * Replaces the value of a present key.
+     */
+    private static class Put extends Benchmark {
+        private final Supplier<OpenAddressingMap<Integer, Integer>> factory;
+        private OpenAddressingMap<Integer, Integer> map;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param name    the name of the implementation
+         * @param factory creates empty maps of the implementation
+         */
+        Put(String name,
+                Supplier<OpenAddressingMap<Integer, Integer>> factory) {
+            super(name + ".put");
+            this.factory = factory;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = populate(factory, size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer key = keys[op & QUERY_MASK];
+            return map.put(key, key);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present key.
+     */
+    private static class Get extends Benchmark {
+        private final Supplier<OpenAddressingMap<Integer, Integer>> factory;
+        private OpenAddressingMap<Integer, Integer> map;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param name    the name of the implementation
+         * @param factory creates empty maps of the implementation
+         */
+        Get(String name,
+                Supplier<OpenAddressingMap<Integer, Integer>> factory) {
+            super(name + ".get");
+            this.factory = factory;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = populate(factory, size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Looks up a key that is not in the map, which has to probe until it is
+     * sure the key is absent.
+     */
+    private static class Miss extends Benchmark {
+        private final Supplier<OpenAddressingMap<Integer, Integer>> factory;
+        private OpenAddressingMap<Integer, Integer> map;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param name    the name of the implementation
+         * @param factory creates empty maps of the implementation
+         */
+        Miss(String name,
+                Supplier<OpenAddressingMap<Integer, Integer>> factory) {
+            super(name + ".containsKey(miss)");
+            this.factory = factory;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = populate(factory, size, distribution, random);
+            keys = boxed(distribution.sample(size, QUERY_COUNT, random), 1,
+                    size);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.containsKey(keys[op & QUERY_MASK]) ? 1 : 0;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Removes the oldest key and puts a brand new one, like a session cache
+     * expiring entries. The size never changes, so maps that leave DEL
+     * markers behind never resize to clear them.
+     */
+    private static class Churn extends Benchmark {
+        private final Supplier<OpenAddressingMap<Integer, Integer>> factory;
+        private OpenAddressingMap<Integer, Integer> map;
+        private int[] live;
+        private int oldest;
+        private int nextKey;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param name    the name of the implementation
+         * @param factory creates empty maps of the implementation
+         */
+        Churn(String name,
+                Supplier<OpenAddressingMap<Integer, Integer>> factory) {
+            super(name + ".churn");
+            this.factory = factory;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            live = distribution.order(size, random);
+            map = factory.get();
+            for (int key : live) {
+                map.put(key, key);
+            }
+            oldest = 0;
+            nextKey = size;
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer removed = map.remove(live[oldest]);
+            map.put(nextKey, nextKey);
+            live[oldest] = nextKey++;
+            if (++oldest == live.length) {
+                oldest = 0;
+            }
+            return removed;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+            live = null;
+        }
+    }
+
+    /**
+     * The ways LinearProbingHashMap can be scanned from end to end.
+     */
+    private enum ScanMode {
+        KEY_SET("keySet"), VALUES("values"), KEY_VIEW("keyView"),
+        VALUE_VIEW("valueView"), FOR_EACH("forEach"), CURSOR("cursor");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label the name of the method the mode scans with
+         */
+        ScanMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Visits every entry of a LinearProbingHashMap, the way an exporter
+     * reading the whole map would. One operation is one full scan.
+     */
+    private static class Scan extends Benchmark {
+        private final ScanMode mode;
+        private final BiConsumer<Integer, Integer> action;
+        private LinearProbingHashMap<Integer, Integer> map;
+        private long sum;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to scan the map
+         */
+        Scan(ScanMode mode) {
+            super("LinearProbingHashMap.scan(" + mode.label + ")");
+            this.mode = mode;
+            // built once so that forEach scans allocate nothing
+            this.action = (key, value) -> sum += value;
+        }
+
+        @Override
+        public boolean supports(int size, KeyDistribution distribution) {
+            // the order of the scan does not depend on the distribution
+            return distribution == KeyDistribution.RANDOM;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(key, key);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            sum = 0;
+            switch (mode) {
+                case KEY_SET:
+                    for (Integer key : map.keySet()) {
+                        sum += key;
+                    }
+                    break;
+                case VALUES:
+                    for (Integer value : map.values()) {
+                        sum += value;
+                    }
+                    break;
+                case KEY_VIEW:
+                    for (Integer key : map.keyView()) {
+                        sum += key;
+                    }
+                    break;
+                case VALUE_VIEW:
+                    for (Integer value : map.valueView()) {
+                        sum += value;
+                    }
+                    break;
+                case FOR_EACH:
+                    map.forEach(action);
+                    break;
+                default:
+                    for (int i = map.nextIndex(0); i != -1;
+                            i = map.nextIndex(i + 1)) {
+                        sum += map.valueAt(i);
+                    }
+                    break;
+            }
+            return sum;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * The ways a batch of keys can be looked up in or added to
+     * LinearProbingHashMap.
+     */
+    private enum BatchMode {
+        GET("get"), GET_ALL("getAll"), PUT("put"), PUT_ALL("putAll");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label the name of the method the mode calls
+         */
+        BatchMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Looks up or replaces the values of a batch of BATCH_SIZE keys, the way
+     * a join stage would, either one call per key or with a single batched
+     * call. One operation is one whole batch. Every other key of a lookup
+     * batch is absent, which get has to report by throwing; puts only
+     * replace present keys so the map keeps its size.
+     *
+     * Keys are scrambled with SCRAMBLE first. Absent keys just above a
+     * dense run of present ones would otherwise probe to the end of the run
+     * on every miss, and the row would measure that instead of the batching.
+     */
+    private static class Batch extends Benchmark {
+        private static final int BATCH_SIZE = 1024;
+
+        private final BatchMode mode;
+        private LinearProbingHashMap<Integer, Integer> map;
+        private Integer[] keys;
+        private final Integer[] batch = new Integer[BATCH_SIZE];
+        private final Integer[] out = new Integer[BATCH_SIZE];
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to process the batch
+         */
+        Batch(BatchMode mode) {
+            super("LinearProbingHashMap.batch(" + mode.label + ")");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(key * SCRAMBLE, key * SCRAMBLE);
+            }
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            if (mode == BatchMode.GET || mode == BatchMode.GET_ALL) {
+                for (int i = 1; i < sample.length; i += 2) {
+                    sample[i] += size;
+                }
+            }
+            keys = boxed(sample, SCRAMBLE, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            System.arraycopy(keys, (op * BATCH_SIZE) & QUERY_MASK, batch, 0,
+                    BATCH_SIZE);
+            long sum = 0;
+            switch (mode) {
+                case GET:
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        try {
+                            out[i] = map.get(batch[i]);
+                            sum++;
+                        } catch (NoSuchElementException e) {
+                            out[i] = null;
+                        }
+                    }
+                    break;
+                case GET_ALL:
+                    sum = map.getAll(batch, out);
+                    break;
+                case PUT:
+                    for (Integer key : batch) {
+                        sum += map.put(key, key);
+                    }
+                    break;
+                default:
+                    // the keys double as their own values, as in populate
+                    sum = map.putAll(batch, batch);
+                    break;
+            }
+            return sum;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * The ways a LinearProbingHashMap key can be looked up or updated when it
+     * may be missing.
+     */
+    private enum LookupMode {
+        GET("get"), CONTAINS_KEY_GET("containsKey+get"),
+        GET_OR_NULL("getOrNull"), CONTAINS_KEY_PUT("containsKey+get+put"),
+        MERGE("merge");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label the methods the mode calls
+         */
+        LookupMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Looks up a key of LinearProbingHashMap that is absent half the time,
+     * or increments the count of a present key. Lookups either catch the
+     * exception get throws on a miss, check containsKey before get and so
+     * probe twice on a hit, or probe once with getOrNull. Increments either
+     * check containsKey, get and put, probing three times, or probe once
+     * with merge.
+     *
+     * Keys are scrambled for the same reason as in Batch.
+     */
+    private static class Lookup extends Benchmark {
+        private final LookupMode mode;
+        private LinearProbingHashMap<Integer, Integer> map;
+        private Integer[] keys;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to look the key up
+         */
+        Lookup(LookupMode mode) {
+            super("LinearProbingHashMap.lookup(" + mode.label + ")");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(key * SCRAMBLE, key);
+            }
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            if (mode == LookupMode.GET || mode == LookupMode.CONTAINS_KEY_GET
+                    || mode == LookupMode.GET_OR_NULL) {
+                for (int i = 1; i < sample.length; i += 2) {
+                    sample[i] += size;
+                }
+            }
+            keys = boxed(sample, SCRAMBLE, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer key = keys[op & QUERY_MASK];
+            Integer value;
+            switch (mode) {
+                case GET:
+                    try {
+                        value = map.get(key);
+                    } catch (NoSuchElementException e) {
+                        value = null;
+                    }
+                    break;
+                case CONTAINS_KEY_GET:
+                    value = map.containsKey(key) ? map.get(key) : null;
+                    break;
+                case GET_OR_NULL:
+                    value = map.getOrNull(key);
+                    break;
+                case CONTAINS_KEY_PUT:
+                    value = map.containsKey(key) ? map.get(key) + 1 : 1;
+                    map.put(key, value);
+                    break;
+                default:
+                    value = map.merge(key, 1, Integer::sum);
+                    break;
+            }
+            return value == null ? 0 : value;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+}
@@ -0,0 +1,750 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw5 MinHeap, MinHeapIterative, its primitive
+ * LongIntMinHeap counterpart, IndexedMinHeap, DaryMinHeap, TopK,
+ * MergingIterator and the other PriorityHeaps, run on the same keys so
+ * their rows can be compared directly.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class MinHeapBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private MinHeapBenchmarks() {
+    }
+
+    /**
+     * Returns the MinHeap benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>(List.of(
+                new AddRemove(), new LongIntAddRemove(), new Build(),
+                new LongIntBuild()));
+        for (BuildMode mode : BuildMode.values()) {
+            benchmarks.add(new IterativeBuild(mode));
+        }
+        for (int arity : new int[] {2, 4, 8, 16}) {
+            benchmarks.add(new DaryAddRemove(arity));
+        }
+        for (IndexedMode mode : IndexedMode.values()) {
+            benchmarks.add(new Indexed(mode));
+        }
+        for (TopKMode mode : TopKMode.values()) {
+            benchmarks.add(new TopKStream(mode));
+        }
+        for (MergeMode mode : MergeMode.values()) {
+            benchmarks.add(new MergeRuns(mode));
+        }
+        for (HeapKind kind : HeapKind.values()) {
+            benchmarks.add(new Monotone(kind));
+            if (kind != HeapKind.RADIX) {
+                benchmarks.add(new Meld(kind));
+            }
+        }
+        return benchmarks;
+    }
+
+    /**
+     * Adds a distribution-chosen value, then removes the min so the heap
+     * stays at a constant size. Each call pays for one upheap and one full
+     * downheap from the root.
+     */
+    private static class AddRemove extends Benchmark {
+        private MinHeap<Integer> heap;
+        private Integer[] values;
+
+        /**
+         * Constructs the benchmark.
+         */
+        AddRemove() {
+            super("MinHeap.add+remove");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            ArrayList<Integer> data = new ArrayList<>(size);
+            for (int key : distribution.order(size, random)) {
+                data.add(key);
+            }
+            heap = new MinHeap<>(data);
+            values = boxed(distribution.sample(size, QUERY_COUNT, random),
+                    1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            heap.add(values[op & QUERY_MASK]);
+            return heap.remove();
+        }
+
+        @Override
+        public void tearDown() {
+            heap = null;
+        }
+    }
+
+    /**
+     * The AddRemove workload on a LongIntMinHeap, with each key's query
+     * index as its value, like a task id.
+     */
+    private static class LongIntAddRemove extends Benchmark {
+        private LongIntMinHeap heap;
+        private long[] values;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongIntAddRemove() {
+            super("LongIntMinHeap.add+remove");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            int[] order = distribution.order(size, random);
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = order[i];
+            }
+            heap = new LongIntMinHeap(keys, new int[size]);
+            values = new long[QUERY_COUNT];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                values[i] = sample[i];
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            heap.add(values[op & QUERY_MASK], op);
+            return heap.remove();
+        }
+
+        @Override
+        public void tearDown() {
+            heap = null;
+        }
+    }
+
+    /**
+     * Builds a MinHeap of every key with BuildHeap. One operation is one
+     * whole build.
+     */
+    private static class Build extends Benchmark {
+        private ArrayList<Integer> data;
+
+        /**
+         * Constructs the benchmark.
+         */
+        Build() {
+            super("MinHeap.buildHeap");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            data = new ArrayList<>(size);
+            for (int key : distribution.order(size, random)) {
+                data.add(key);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return new MinHeap<>(data).getMin();
+        }
+
+        @Override
+        public void tearDown() {
+            data = null;
+        }
+    }
+
+    /**
+     * Builds a LongIntMinHeap of every key with BuildHeap. One operation is
+     * one whole build.
+     */
+    private static class LongIntBuild extends Benchmark {
+        private long[] keys;
+        private int[] values;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongIntBuild() {
+            super("LongIntMinHeap.buildHeap");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            int[] order = distribution.order(size, random);
+            keys = new long[size];
+            values = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = order[i];
+                values[i] = i;
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return new LongIntMinHeap(keys, values).getMin();
+        }
+
+        @Override
+        public void tearDown() {
+            keys = null;
+            values = null;
+        }
+    }
+
+    /**
+     * The ways a MinHeapIterative can be filled with data.
+     */
+    private enum BuildMode {
+        ADD("add"), ARRAY_LIST("ArrayList"), ARRAY("array"),
+        COLLECTION("Collection"), ITERATOR("Iterator");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label what the heap is built from
+         */
+        BuildMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Fills a MinHeapIterative with every key, either by adding them one at
+     * a time or through one of its BuildHeap constructors. One operation is
+     * one whole heap.
+     */
+    private static class IterativeBuild extends Benchmark {
+        private final BuildMode mode;
+        private ArrayList<Integer> data;
+        private Integer[] array;
+        private ArrayDeque<Integer> deque;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to fill the heap
+         */
+        IterativeBuild(BuildMode mode) {
+            super("MinHeapIterative.build(" + mode.label + ")");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            data = new ArrayList<>(size);
+            for (int key : distribution.order(size, random)) {
+                data.add(key);
+            }
+            array = data.toArray(new Integer[0]);
+            deque = new ArrayDeque<>(data);
+        }
+
+        @Override
+        public long operate(int op) {
+            MinHeapIterative<Integer> heap;
+            switch (mode) {
+                case ADD:
+                    heap = new MinHeapIterative<>();
+                    for (Integer value : array) {
+                        heap.add(value);
+                    }
+                    break;
+                case ARRAY_LIST:
+                    heap = new MinHeapIterative<>(data);
+                    break;
+                case ARRAY:
+                    heap = new MinHeapIterative<>(array);
+                    break;
+                case COLLECTION:
+                    heap = new MinHeapIterative<>(deque);
+                    break;
+                default:
+                    heap = new MinHeapIterative<>(deque.iterator());
+                    break;
+            }
+            return heap.getMin();
+        }
+
+        @Override
+        public void tearDown() {
+            data = null;
+            array = null;
+            deque = null;
+        }
+    }
+
+    /**
+     * The AddRemove workload on a DaryMinHeap. Since the heap stays full,
+     * each remove downheaps from the root through every level.
+     */
+    private static class DaryAddRemove extends Benchmark {
+        private final int arity;
+        private DaryMinHeap<Integer> heap;
+        private Integer[] values;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param arity the arity of the heap
+         */
+        DaryAddRemove(int arity) {
+            super("DaryMinHeap[d=" + arity + "].add+remove");
+            this.arity = arity;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            ArrayList<Integer> data = new ArrayList<>(size);
+            for (int key : distribution.order(size, random)) {
+                data.add(key);
+            }
+            heap = new DaryMinHeap<>(data, arity);
+            values = boxed(distribution.sample(size, QUERY_COUNT, random),
+                    1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            heap.add(values[op & QUERY_MASK]);
+            return heap.remove();
+        }
+
+        @Override
+        public void tearDown() {
+            heap = null;
+        }
+    }
+
+    /**
+     * The ways an IndexedMinHeap is exercised.
+     */
+    private enum IndexedMode {
+        ADD_REMOVE("add+remove"), CANCEL("remove(handle)+add"),
+        DECREASE_KEY("decreaseKey");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label the methods the mode calls
+         */
+        IndexedMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Runs AddRemove on an IndexedMinHeap to show what tracking handles
+     * costs, cancels a random element and adds a new one like a timer being
+     * rescheduled, or lowers a random element's key like Dijkstra's
+     * algorithm relaxing an edge.
+     */
+    private static class Indexed extends Benchmark {
+        private final IndexedMode mode;
+        private IndexedMinHeap<Integer> heap;
+        private Integer[] values;
+        private int[] handles;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to exercise the heap
+         */
+        Indexed(IndexedMode mode) {
+            super("IndexedMinHeap." + mode.label);
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            ArrayList<Integer> data = new ArrayList<>(size);
+            for (int key : distribution.order(size, random)) {
+                data.add(key);
+            }
+            heap = new IndexedMinHeap<>(data);
+            values = boxed(distribution.sample(size, QUERY_COUNT, random),
+                    1, 0);
+            // the heap stays full, so handles 0 to size - 1 stay in use
+            handles = new int[QUERY_COUNT];
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                handles[i] = random.nextInt(size);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            Integer value = values[op & QUERY_MASK];
+            int handle = handles[op & QUERY_MASK];
+            switch (mode) {
+                case ADD_REMOVE:
+                    heap.add(value);
+                    return heap.remove();
+                case CANCEL:
+                    Integer removed = heap.remove(handle);
+                    heap.add(value);
+                    return removed;
+                default:
+                    heap.decreaseKey(handle, heap.get(handle) - 1);
+                    return heap.getMin();
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            heap = null;
+        }
+    }
+
+    /**
+     * The ways the largest items of a stream are found.
+     */
+    private enum TopKMode {
+        SORT("sort"), REMOVE_ADD("MinHeap.remove+add"), TOP_K("TopK.offer");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label how the largest items are found
+         */
+        TopKMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Finds the TOP_K_COUNT largest of every key, by sorting all of them,
+     * through a MinHeap of the largest so far that removes and adds to
+     * replace its min, or through TopK. One operation is one whole stream.
+     */
+    private static class TopKStream extends Benchmark {
+
+        /**
+         * The number of largest keys to find.
+         */
+        private static final int TOP_K_COUNT = 1000;
+
+        private final TopKMode mode;
+        private Integer[] stream;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to find the largest keys
+         */
+        TopKStream(TopKMode mode) {
+            super("top" + TOP_K_COUNT + "(" + mode.label + ")");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            stream = boxed(distribution.order(size, random), 1, 0);
+        }
+
+        @Override
+        public long operate(int op) {
+            switch (mode) {
+                case SORT:
+                    ArrayList<Integer> all = new ArrayList<>(List.of(stream));
+                    all.sort(Collections.reverseOrder());
+                    return all.get(Math.min(TOP_K_COUNT, all.size()) - 1);
+                case REMOVE_ADD:
+                    MinHeap<Integer> heap = new MinHeap<>();
+                    for (Integer value : stream) {
+                        if (heap.size() < TOP_K_COUNT) {
+                            heap.add(value);
+                        } else if (value > heap.getMin()) {
+                            heap.remove();
+                            heap.add(value);
+                        }
+                    }
+                    return heap.getMin();
+                default:
+                    TopK<Integer> topK = new TopK<>(TOP_K_COUNT);
+                    for (Integer value : stream) {
+                        topK.offer(value);
+                    }
+                    return topK.getMin();
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            stream = null;
+        }
+    }
+
+    /**
+     * The ways sorted runs are merged.
+     */
+    private enum MergeMode {
+        SORT("concat+sort"), HEAP("MergingIterator[HEAP]"),
+        LOSER_TREE("MergingIterator[LOSER_TREE]");
+
+        private final String label;
+
+        /**
+         * Constructs the mode.
+         *
+         * @param label how the runs are merged
+         */
+        MergeMode(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Splits the keys into RUN_COUNT sorted runs, like spill files, and
+     * merges them back into one sorted sequence, either by concatenating
+     * and sorting or through a MergingIterator. One operation is one whole
+     * merge.
+     */
+    private static class MergeRuns extends Benchmark {
+
+        /**
+         * The number of runs to merge.
+         */
+        private static final int RUN_COUNT = 64;
+
+        private final MergeMode mode;
+        private List<List<Integer>> runs;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param mode how to merge the runs
+         */
+        MergeRuns(MergeMode mode) {
+            super("merge" + RUN_COUNT + "(" + mode.label + ")");
+            this.mode = mode;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            runs = new ArrayList<>(RUN_COUNT);
+            for (int i = 0; i < RUN_COUNT; i++) {
+                runs.add(new ArrayList<>());
+            }
+            for (int key : distribution.order(size, random)) {
+                runs.get(random.nextInt(RUN_COUNT)).add(key);
+            }
+            for (List<Integer> run : runs) {
+                Collections.sort(run);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            long sum = 0;
+            if (mode == MergeMode.SORT) {
+                ArrayList<Integer> all = new ArrayList<>();
+                for (List<Integer> run : runs) {
+                    all.addAll(run);
+                }
+                Collections.sort(all);
+                for (Integer value : all) {
+                    sum += value;
+                }
+                return sum;
+            }
+
+            List<Iterator<Integer>> sources = new ArrayList<>(RUN_COUNT);
+            for (List<Integer> run : runs) {
+                sources.add(run.iterator());
+            }
+            MergingIterator<Integer> merge = new MergingIterator<>(sources,
+                    mode == MergeMode.HEAP ? MergeStrategy.HEAP
+                            : MergeStrategy.LOSER_TREE);
+            while (merge.hasNext()) {
+                sum += merge.next();
+            }
+            return sum;
+        }
+
+        @Override
+        public void tearDown() {
+            runs = null;
+        }
+    }
+
+    /**
+     * The PriorityHeap implementations.
+     */
+    private enum HeapKind {
+        MIN_HEAP("MinHeap"), PAIRING("PairingHeap"), RADIX("RadixHeap");
+
+        private final String label;
+
+        /**
+         * Constructs the kind.
+         *
+         * @param label the name of the class
+         */
+        HeapKind(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Creates an empty heap of this kind.
+         *
+         * @return the new heap
+         */
+        private PriorityHeap<Integer> create() {
+            switch (this) {
+                case MIN_HEAP:
+                    return new MinHeap<>();
+                case PAIRING:
+                    return new PairingHeap<>();
+                default:
+                    return new RadixHeap();
+            }
+        }
+    }
+
+    /**
+     * Removes the min and adds it back plus a distribution-chosen weight, the
+     * way Dijkstra's algorithm settles a vertex and pushes a neighbor. The
+     * heap stays at a constant size and never goes below the last removed
+     * item, so RadixHeap can run it too. Calls go through PriorityHeap.
+     */
+    private static class Monotone extends Benchmark {
+        private final HeapKind kind;
+        private PriorityHeap<Integer> heap;
+        private int[] weights;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param kind the heap to run on
+         */
+        Monotone(HeapKind kind) {
+            super(kind.label + ".remove+add(monotone)");
+            this.kind = kind;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            heap = kind.create();
+            for (int key : distribution.order(size, random)) {
+                heap.add(key);
+            }
+            weights = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            int min = heap.remove();
+            heap.add(min + weights[op & QUERY_MASK]);
+            return min;
+        }
+
+        @Override
+        public void tearDown() {
+            heap = null;
+        }
+    }
+
+    /**
+     * Fills MELD_COUNT heaps with an equal share of the keys each, combines
+     * them into one and removes its min, like collecting per-shard results.
+     * A PairingHeap melds, and a MinHeap has to add every item of the others.
+     * One operation is the whole thing.
+     */
+    private static class Meld extends Benchmark {
+
+        /**
+         * The number of heaps to combine.
+         */
+        private static final int MELD_COUNT = 64;
+
+        private final HeapKind kind;
+        private Integer[][] shares;
+
+        /**
+         * Constructs the benchmark.
+         *
+         * @param kind the heap to run on, MIN_HEAP or PAIRING
+         */
+        Meld(HeapKind kind) {
+            super(kind.label + ".meld" + MELD_COUNT);
+            this.kind = kind;
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            Integer[] keys = boxed(distribution.order(size, random), 1, 0);
+            shares = new Integer[MELD_COUNT][];
+            for (int i = 0; i < MELD_COUNT; i++) {
+                shares[i] = Arrays.copyOfRange(keys,
+                        (int) ((long) size * i / MELD_COUNT),
+                        (int) ((long) size * (i + 1) / MELD_COUNT));
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            if (kind == HeapKind.PAIRING) {
+                PairingHeap<Integer> result = new PairingHeap<>();
+                for (Integer[] share : shares) {
+                    PairingHeap<Integer> heap = new PairingHeap<>();
+                    for (Integer value : share) {
+                        heap.add(value);
+                    }
+                    result.meld(heap);
+                }
+                return result.remove();
+            }
+
+            MinHeap<Integer> result = new MinHeap<>();
+            for (Integer[] share : shares) {
+                MinHeap<Integer> heap = new MinHeap<>();
+                for (Integer value : share) {
+                    heap.add(value);
+                }
+                Object[] items = heap.getBackingArray();
+                for (int i = 1; i <= heap.size(); i++) {
+                    result.add((Integer) items[i]);
+                }
+            }
+            return result.remove();
+        }
+
+        @Override
+        public void tearDown() {
+            shares = null;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the off-heap hw6 maps against a LinearProbingHashMap
+ * holding the same data as boxed Longs. The B/elem column shows what each
+ * one costs the Java heap; off-heap memory is not counted there.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class OffHeapMapBenchmarks {
+
+    /**
+     * The length of the byte[] keys and values, e.g. a 128 bit id.
+     */
+    private static final int BYTES_LENGTH = 16;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private OffHeapMapBenchmarks() {
+    }
+
+    /**
+     * Returns the off-heap map benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(new BoxedGet());
+        benchmarks.add(new LongLongGet());
+        benchmarks.add(new LongLongPut());
+        benchmarks.add(new BytesGet());
+        benchmarks.add(new BytesPut());
+        return benchmarks;
+    }
+
+    /**
+     * Spreads a key over the whole long range so the high half of its hash
+     * matters too.
+     *
+     * @param key a key in [0, n)
+     * @return the long key used for it
+     */
+    private static long spread(int key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Returns the BYTES_LENGTH byte array used as the key or value for a key.
+     *
+     * @param key a key in [0, n)
+     * @return the bytes for the key
+     */
+    private static byte[] bytes(int key) {
+        return ByteBuffer.allocate(BYTES_LENGTH).putLong(spread(key))
+                .putLong(~spread(key)).array();
+    }
+
+    /**
+     * Gets the value of a present key from a LinearProbingHashMap of boxed
+     * Longs, as the baseline for the off-heap maps.
+     */
+    private static class BoxedGet extends Benchmark {
+        private LinearProbingHashMap<Long, Long> map;
+        private Long[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BoxedGet() {
+            super("LinearProbingHashMap<Long,Long>.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(spread(key), (long) key);
+            }
+            keys = new Long[QUERY_COUNT];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                keys[i] = spread(sample[i]);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present key from an
+     * OffHeapLongLongLinearProbingMap.
+     */
+    private static class LongLongGet extends Benchmark {
+        private OffHeapLongLongLinearProbingMap map;
+        private long[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongLongGet() {
+            super("OffHeapLongLongLinearProbingMap.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new OffHeapLongLongLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(spread(key), key);
+            }
+            keys = new long[QUERY_COUNT];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                keys[i] = spread(sample[i]);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Replaces the value of a present key in an
+     * OffHeapLongLongLinearProbingMap.
+     */
+    private static class LongLongPut extends Benchmark {
+        private OffHeapLongLongLinearProbingMap map;
+        private long[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongLongPut() {
+            super("OffHeapLongLongLinearProbingMap.put");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new OffHeapLongLongLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(spread(key), key);
+            }
+            keys = new long[QUERY_COUNT];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                keys[i] = spread(sample[i]);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.put(keys[op & QUERY_MASK], op) ? 1 : 0;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present 16 byte key from an
+     * OffHeapBytesLinearProbingMap. Each get copies the value onto the heap.
+     */
+    private static class BytesGet extends Benchmark {
+        private OffHeapBytesLinearProbingMap map;
+        private byte[][] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BytesGet() {
+            super("OffHeapBytesLinearProbingMap.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new OffHeapBytesLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(bytes(key), bytes(key));
+            }
+            keys = new byte[QUERY_COUNT][];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                keys[i] = bytes(sample[i]);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK])[0];
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+            keys = null;
+        }
+    }
+
+    /**
+     * Replaces the value of a present 16 byte key in an
+     * OffHeapBytesLinearProbingMap. The value has the same length, so it is
+     * overwritten in place.
+     */
+    private static class BytesPut extends Benchmark {
+        private OffHeapBytesLinearProbingMap map;
+        private byte[][] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BytesPut() {
+            super("OffHeapBytesLinearProbingMap.put");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new OffHeapBytesLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(bytes(key), bytes(key));
+            }
+            keys = new byte[QUERY_COUNT][];
+            int[] sample = distribution.sample(size, QUERY_COUNT, random);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                keys[i] = bytes(sample[i]);
+            }
+        }
+
+        @Override
+        public long operate(int op) {
+            byte[] key = keys[op & QUERY_MASK];
+            return map.put(key, key) ? 1 : 0;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+            keys = null;
+        }
+    }
+}
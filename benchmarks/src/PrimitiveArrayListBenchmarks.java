@@ -0,0 +1,132 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the hw1 IntArrayList and LongArrayList, to be compared
+ * against the boxed ArrayList benchmarks of the same name.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class PrimitiveArrayListBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private PrimitiveArrayListBenchmarks() {
+    }
+
+    /**
+     * Returns the IntArrayList and LongArrayList benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        return List.of(new IntAddAtIndex(), new IntGet(), new LongGet());
+    }
+
+    /**
+     * Inserts at a distribution-chosen index, then removes from the back so
+     * the size stays constant.
+     */
+    private static class IntAddAtIndex extends Benchmark {
+        private IntArrayList list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        IntAddAtIndex() {
+            super("IntArrayList.addAtIndex");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new IntArrayList();
+            list.addAll(distribution.order(size, random));
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            list.addAtIndex(indices[op & QUERY_MASK], op);
+            return list.removeFromBack();
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Gets the element at a distribution-chosen index.
+     */
+    private static class IntGet extends Benchmark {
+        private IntArrayList list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        IntGet() {
+            super("IntArrayList.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new IntArrayList();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return list.get(indices[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+
+    /**
+     * Gets the element at a distribution-chosen index.
+     */
+    private static class LongGet extends Benchmark {
+        private LongArrayList list;
+        private int[] indices;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongGet() {
+            super("LongArrayList.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            list = new LongArrayList();
+            for (int key : distribution.order(size, random)) {
+                list.addToBack(key);
+            }
+            indices = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return list.get(indices[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            list = null;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for the primitive specializations of the hw6
+ * LinearProbingHashMap against the generic map fed the same primitive keys.
+ *
+ * Unlike LinearProbingHashMapBenchmarks, the generic rows box their keys
+ * and values inside the timed operation, the way callers holding ints and
+ * longs have to. The B/op column shows what that boxing allocates.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class PrimitiveMapBenchmarks {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private PrimitiveMapBenchmarks() {
+    }
+
+    /**
+     * Returns the primitive map benchmarks.
+     *
+     * @return the list of benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(new BoxedIntPut());
+        benchmarks.add(new IntIntPut());
+        benchmarks.add(new BoxedIntGet());
+        benchmarks.add(new IntIntGet());
+        benchmarks.add(new BoxedLongGet());
+        benchmarks.add(new LongObjectGet());
+        return benchmarks;
+    }
+
+    /**
+     * Replaces the value of a present int key in a LinearProbingHashMap,
+     * boxing the key and value.
+     */
+    private static class BoxedIntPut extends Benchmark {
+        private LinearProbingHashMap<Integer, Integer> map;
+        private int[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BoxedIntPut() {
+            super("LinearProbingHashMap<Integer,Integer>.put(int)");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(key, key);
+            }
+            keys = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.put(keys[op & QUERY_MASK], op);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Replaces the value of a present key in an IntIntLinearProbingMap.
+     */
+    private static class IntIntPut extends Benchmark {
+        private IntIntLinearProbingMap map;
+        private int[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        IntIntPut() {
+            super("IntIntLinearProbingMap.put");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new IntIntLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(key, key);
+            }
+            keys = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.put(keys[op & QUERY_MASK], op) ? 1 : 0;
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present int key from a LinearProbingHashMap,
+     * boxing the key.
+     */
+    private static class BoxedIntGet extends Benchmark {
+        private LinearProbingHashMap<Integer, Integer> map;
+        private int[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BoxedIntGet() {
+            super("LinearProbingHashMap<Integer,Integer>.get(int)");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(key, key);
+            }
+            keys = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present key from an IntIntLinearProbingMap.
+     */
+    private static class IntIntGet extends Benchmark {
+        private IntIntLinearProbingMap map;
+        private int[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        IntIntGet() {
+            super("IntIntLinearProbingMap.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new IntIntLinearProbingMap();
+            for (int key : distribution.order(size, random)) {
+                map.put(key, key);
+            }
+            keys = distribution.sample(size, QUERY_COUNT, random);
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]);
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present long key from a LinearProbingHashMap,
+     * boxing the key.
+     */
+    private static class BoxedLongGet extends Benchmark {
+        private LinearProbingHashMap<Long, String> map;
+        private long[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        BoxedLongGet() {
+            super("LinearProbingHashMap<Long,String>.get(long)");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LinearProbingHashMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(1_000_000_007L * key, Integer.toString(key));
+            }
+            keys = longKeys(distribution.sample(size, QUERY_COUNT, random));
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]).length();
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Gets the value of a present key from a LongObjectLinearProbingMap.
+     */
+    private static class LongObjectGet extends Benchmark {
+        private LongObjectLinearProbingMap<String> map;
+        private long[] keys;
+
+        /**
+         * Constructs the benchmark.
+         */
+        LongObjectGet() {
+            super("LongObjectLinearProbingMap<String>.get");
+        }
+
+        @Override
+        public void setUp(int size, KeyDistribution distribution,
+                Random random) {
+            map = new LongObjectLinearProbingMap<>();
+            for (int key : distribution.order(size, random)) {
+                map.put(1_000_000_007L * key, Integer.toString(key));
+            }
+            keys = longKeys(distribution.sample(size, QUERY_COUNT, random));
+        }
+
+        @Override
+        public long operate(int op) {
+            return map.get(keys[op & QUERY_MASK]).length();
+        }
+
+        @Override
+        public void tearDown() {
+            map = null;
+        }
+    }
+
+    /**
+     * Turns int keys into the long keys the long-keyed maps are filled with,
+     * spread past the int range.
+     *
+     * @param keys the int keys
+     * @return the long keys
+     */
+    private static long[] longKeys(int[] keys) {
+        long[] longs = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            longs[i] = 1_000_000_007L * keys[i];
+        }
+        return longs;
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Prints the probe length distribution of the open-addressing maps that can
+ * report one, for a few key patterns, so changes to the hashing scheme can
+ * be judged by how many slots a lookup inspects and not only by time.
+ *
+ * The churn pattern fills the map with random keys, then removes the oldest
+ * key and puts a new one size / 2 times. The histogram only counts entries,
+ * so it shows how churn shifts entries around, not the DEL markers left
+ * behind.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=ProbeLengthReport -Dexec.args="SIZE"}.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class ProbeLengthReport {
+
+    /**
+     * Not meant to be constructed.
+     */
+    private ProbeLengthReport() {
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param args optionally, the number of keys to insert (default 1e6)
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? (int) Double.parseDouble(args[0])
+                : 1_000_000;
+        System.out.printf("%-12s %-32s %10s %10s %8s%n", "Keys", "Map",
+                "Capacity", "Mean", "Max");
+        for (String pattern : new String[] {"sequential", "strided",
+                "random", "churn"}) {
+            int[] keys = keys(pattern,
+                    pattern.equals("churn") ? size + size / 2 : size,
+                    new Random(1332));
+            report(pattern, "FlatLinearProbingHashMap", keys, size,
+                    FlatLinearProbingHashMap::new,
+                    FlatLinearProbingHashMap::probeLengthHistogram,
+                    FlatLinearProbingHashMap::capacity);
+            report(pattern, "FlatLinearProbingHashMap[pow2]", keys, size,
+                    () -> new FlatLinearProbingHashMap<>(
+                            FlatLinearProbingHashMap.INITIAL_CAPACITY,
+                            TableSizing.POWER_OF_TWO),
+                    FlatLinearProbingHashMap::probeLengthHistogram,
+                    FlatLinearProbingHashMap::capacity);
+            report(pattern, "RobinHoodHashMap", keys, size,
+                    RobinHoodHashMap::new,
+                    RobinHoodHashMap::probeLengthHistogram,
+                    RobinHoodHashMap::capacity);
+        }
+    }
+
+    /**
+     * Puts the first size keys into a new map, then churns through the rest
+     * by removing the oldest key for each new one, and prints a row.
+     *
+     * @param pattern   the name of the key pattern
+     * @param name      the name of the map
+     * @param keys      the keys to insert, in order
+     * @param size      the number of keys live at once
+     * @param factory   creates the empty map
+     * @param histogram returns the probe length histogram of the map
+     * @param capacity  returns the capacity of the map
+     * @param <M>       the type of the map
+     */
+    private static <M extends OpenAddressingMap<Integer, Integer>> void report(
+            String pattern, String name, int[] keys, int size,
+            Supplier<M> factory, Function<M, int[]> histogram,
+            Function<M, Integer> capacity) {
+        M map = factory.get();
+        for (int i = 0; i < keys.length; i++) {
+            if (i >= size) {
+                map.remove(keys[i - size]);
+            }
+            map.put(keys[i], keys[i]);
+        }
+
+        int[] counts = histogram.apply(map);
+        long total = 0;
+        for (int d = 0; d < counts.length; d++) {
+            total += (long) d * counts[d];
+        }
+        System.out.printf(Locale.ROOT, "%-12s %-32s %10d %10.3f %8d%n",
+                pattern, name, capacity.apply(map), (double) total / size,
+                counts.length - 1);
+    }
+
+    /**
+     * Returns distinct keys following a pattern.
+     *
+     * @param pattern "sequential" for 0, 1, 2, ..., "strided" for multiples
+     *                of 1024, or "random" and "churn" for uniformly random
+     *                ints
+     * @param size    the number of keys
+     * @param random  the source of randomness
+     * @return the keys
+     */
+    private static int[] keys(String pattern, int size, Random random) {
+        int[] keys = new int[size];
+        if (pattern.equals("random") || pattern.equals("churn")) {
+            HashSet<Integer> seen = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                int key = random.nextInt();
+                while (!seen.add(key)) {
+                    key = random.nextInt();
+                }
+                keys[i] = key;
+            }
+        } else {
+            int shift = pattern.equals("strided") ? 10 : 0;
+            for (int i = 0; i < size; i++) {
+                keys[i] = i << shift;
+            }
+        }
+        return keys;
+    }
+}
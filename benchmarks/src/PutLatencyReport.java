@@ -0,0 +1,124 @@
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Times every single put while filling each hash map from empty, and prints
+ * latency percentiles. Average time per operation hides the put that has to
+ * rehash the whole table; the tail percentiles and the maximum do not.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=PutLatencyReport -Dexec.args="SIZE"}. Sizes in the tens
+ * of millions need a big heap, e.g. {@code MAVEN_OPTS=-Xmx8g}.
+ *
+ * Garbage collector pauses land in the tail too. To see only the cost of
+ * the maps themselves, run a smaller size with
+ * {@code -XX:+UnlockExperimentalVMOptions -XX:+UseEpsilonGC}, which never
+ * collects.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class PutLatencyReport {
+
+    /**
+     * Folded results of every put, published so the JIT cannot treat the
+     * benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private PutLatencyReport() {
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param args optionally, the number of keys to insert (default 1e7)
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? (int) Double.parseDouble(args[0])
+                : 10_000_000;
+        Integer[] keys = new Integer[size];
+        Random random = new Random(1332);
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        System.out.printf("%-32s %10s %10s %10s %10s %12s %10s%n", "Map",
+                "p50 ns", "p99 ns", "p99.9 ns", "p99.99 ns", "max ns",
+                "total ms");
+        report("LinearProbingHashMap", LinearProbingHashMap::new, keys);
+        report("FlatLinearProbingHashMap", FlatLinearProbingHashMap::new,
+                keys);
+        report("IncrementalLinearProbingHashMap",
+                IncrementalLinearProbingHashMap::new, keys);
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Fills a new map with the keys, timing every put, and prints a row. A
+     * smaller fill runs first so the JIT has compiled put before timing.
+     *
+     * @param name    the name of the map
+     * @param factory creates the empty map
+     * @param keys    the keys to put, some of which may repeat
+     */
+    private static void report(String name,
+            Supplier<OpenAddressingMap<Integer, Integer>> factory,
+            Integer[] keys) {
+        fill(factory.get(), keys, Math.min(keys.length, 200_000));
+        System.gc();
+
+        long[] latencies = fill(factory.get(), keys, keys.length);
+        long total = 0;
+        for (long latency : latencies) {
+            total += latency;
+        }
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT,
+                "%-32s %10d %10d %10d %10d %12d %10.1f%n", name,
+                percentile(latencies, 0.5), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), percentile(latencies, 0.9999),
+                latencies[latencies.length - 1], total / 1e6);
+    }
+
+    /**
+     * Puts the first count keys into a map, mapping each key to itself.
+     *
+     * @param map   the map to fill
+     * @param keys  the keys to put
+     * @param count the number of keys to put
+     * @return the time each put took in nanoseconds
+     */
+    private static long[] fill(OpenAddressingMap<Integer, Integer> map,
+            Integer[] keys, int count) {
+        long[] latencies = new long[count];
+        long sink = 0;
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            Integer old = map.put(keys[i], keys[i]);
+            latencies[i] = System.nanoTime() - start;
+            if (old != null) {
+                sink += old;
+            }
+        }
+        checksum += sink + map.size();
+        return latencies;
+    }
+
+    /**
+     * Returns a percentile of sorted values.
+     *
+     * @param sorted the values in ascending order
+     * @param p      the percentile, between 0 and 1
+     * @return the value at the percentile
+     */
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1,
+                Math.round(p * sorted.length))];
+    }
+}
@@ -0,0 +1,111 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares restarting with a warm OffHeapLongLongLinearProbingMap by
+ * replaying every put against loading a snapshot of it.
+ *
+ * Prints how long each step takes: rebuilding by put, both on and off the
+ * heap, writing the snapshot, loading it, the first get after loading, and a
+ * full pass of gets over the loaded map, which is when its pages are really
+ * read in. Right after the snapshot is written its pages are still in the
+ * page cache, so the full pass is the best case; from a cold disk it is
+ * bounded by how fast the disk reads.
+ *
+ * Run with {@code mvn -f benchmarks/pom.xml compile exec:java
+ * -Dexec.mainClass=SnapshotReport -Dexec.args="SIZE"}. The snapshot is
+ * written to java.io.tmpdir and deleted afterwards.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public final class SnapshotReport {
+
+    /**
+     * Folded results of every lookup, published so the JIT cannot treat the
+     * benchmarked work as dead code.
+     */
+    private static volatile long checksum;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private SnapshotReport() {
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param args optionally, the number of keys in the map (default 1e7)
+     * @throws java.io.IOException if the snapshot cannot be written or read
+     */
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? (int) Double.parseDouble(args[0])
+                : 10_000_000;
+        long[] keys = new long[size];
+        Random random = new Random(1332);
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextLong();
+        }
+
+        long start = System.nanoTime();
+        LinearProbingHashMap<Long, Long> boxed = new LinearProbingHashMap<>();
+        for (long key : keys) {
+            boxed.put(key, key);
+        }
+        print("LinearProbingHashMap<Long,Long> rebuild by put", start);
+        checksum += boxed.size();
+        boxed = null;
+
+        start = System.nanoTime();
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        for (long key : keys) {
+            map.put(key, key);
+        }
+        print("OffHeapLongLongLinearProbingMap rebuild by put", start);
+
+        Path file = Files.createTempFile("SnapshotReport", ".snapshot");
+        try {
+            start = System.nanoTime();
+            map.snapshot(file);
+            print("snapshot (" + Files.size(file) / (1 << 20) + " MB)",
+                    start);
+            map = null;
+
+            start = System.nanoTime();
+            OffHeapLongLongLinearProbingMap loaded =
+                    OffHeapLongLongLinearProbingMap.load(file);
+            print("load", start);
+
+            start = System.nanoTime();
+            checksum += loaded.get(keys[0]);
+            print("first get after load", start);
+
+            start = System.nanoTime();
+            long sum = 0;
+            for (long key : keys) {
+                sum += loaded.get(key);
+            }
+            checksum += sum;
+            print("get every key after load", start);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.err.println("checksum: " + checksum);
+    }
+
+    /**
+     * Prints one step of the report.
+     *
+     * @param step  what was timed
+     * @param start System.nanoTime() when the step started
+     */
+    private static void print(String step, long start) {
+        System.out.printf(Locale.ROOT, "%-48s %12.3f ms%n", step,
+                (System.nanoTime() - start) / 1e6);
+    }
+}
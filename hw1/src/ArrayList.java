@@ -21,19 +21,34 @@ public class ArrayList<T> {
      */
     public static final int INITIAL_CAPACITY = 9;
 
-    // Do not add new instance variables or modify existing ones.
     private T[] backingArray;
     private int size;
+    private final GrowthPolicy growthPolicy;
 
     /**
-     * Constructs a new ArrayList.
+     * Constructs a new ArrayList that doubles its capacity when full.
      *
      * Java does not allow for regular generic array creation, so you will have
      * to cast an Object[] to a T[] to get the generic typing.
      */
     public ArrayList() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs a new ArrayList that grows according to the given policy.
+     *
+     * @param growthPolicy the policy deciding the new capacity when full
+     * @throws java.lang.IllegalArgumentException if growthPolicy is null
+     */
+    public ArrayList(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException(
+                    "Tried to create ArrayList with null GrowthPolicy");
+        }
 
+        this.growthPolicy = growthPolicy;
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
     }
 
     /**
@@ -58,25 +73,18 @@ public class ArrayList<T> {
             throw new IllegalArgumentException("Tried to add null data to ArrayList");
         }
 
-        // Expand backingArray to 2 times its size if it has reached capacity.
+        // Grow backingArray per the growth policy if it has reached capacity,
+        // copying around index so the new element's slot is left open.
         if (size == backingArray.length) {
-            T[] tempArr = (T[]) new Object[2 * size];
-
-            for (int i = 0; i < index; i++) {
-                tempArr[i] = backingArray[i];
-            }
-
-            for (int i = index + 1; i < size + 1; i++) {
-                tempArr[i] = backingArray[i - 1];
-            }
-
+            T[] tempArr = (T[]) new Object[newCapacity(size + 1)];
+            System.arraycopy(backingArray, 0, tempArr, 0, index);
+            System.arraycopy(backingArray, index, tempArr, index + 1,
+                    size - index);
             backingArray = tempArr;
         } else {
-
             // Shift elements to right of index right to make space for element
-            for (int i = size; i > index; i--) {
-                backingArray[i] = backingArray[i - 1];
-            }
+            System.arraycopy(backingArray, index, backingArray, index + 1,
+                    size - index);
         }
 
         // Insert element
@@ -131,9 +139,8 @@ public class ArrayList<T> {
         T temp = backingArray[index];
 
         // Shift all elements to right of index left
-        for (int i = index; i < size - 1; i++) {
-            backingArray[i] = backingArray[i + 1];
-        }
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
 
         // Null out leftover value in array
         backingArray[size - 1] = null;
@@ -218,6 +225,57 @@ public class ArrayList<T> {
         size = 0;
     }
 
+    /**
+     * Grows the backing array, if necessary, so it can hold at least
+     * minCapacity elements without another resize.
+     *
+     * Must be O(n) if the array grows and O(1) otherwise.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(newCapacity(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the size of the list, releasing
+     * unused capacity.
+     *
+     * Must be O(n).
+     */
+    public void trimToSize() {
+        if (size < backingArray.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Returns the capacity to grow to, asking the growth policy and falling
+     * back to minCapacity if the policy comes up short or overflows.
+     *
+     * @param minCapacity the smallest capacity that is acceptable
+     * @return the new capacity of the backing array
+     */
+    private int newCapacity(int minCapacity) {
+        int capacity = growthPolicy.newCapacity(backingArray.length,
+                minCapacity);
+        return Math.max(capacity, minCapacity);
+    }
+
+    /**
+     * Copies the elements of the list into a new backing array of the given
+     * length.
+     *
+     * @param capacity the length of the new backing array
+     */
+    private void resize(int capacity) {
+        T[] tempArr = (T[]) new Object[capacity];
+        System.arraycopy(backingArray, 0, tempArr, 0, size);
+        backingArray = tempArr;
+    }
+
     /**
      * Returns the backing array of the list.
      *
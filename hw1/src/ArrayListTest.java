@@ -0,0 +1,125 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the ArrayList growth policy and capacity management.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class ArrayListTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testDoublingGrowth() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i <= ArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i);
+        }
+
+        assertEquals(2 * ArrayList.INITIAL_CAPACITY,
+                capacity(list));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOneAndAHalfGrowth() {
+        ArrayList<Integer> list = new ArrayList<>(GrowthPolicy.ONE_AND_A_HALF);
+        for (int i = 0; i <= ArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i);
+        }
+
+        assertEquals(ArrayList.INITIAL_CAPACITY
+                + ArrayList.INITIAL_CAPACITY / 2,
+                capacity(list));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCustomGrowthTooSmall() {
+        // A policy that never grows must still make room for the new element
+        ArrayList<Integer> list = new ArrayList<>((old, min) -> old);
+        for (int i = 0; i <= ArrayList.INITIAL_CAPACITY; i++) {
+            list.addToFront(i);
+        }
+
+        assertEquals(ArrayList.INITIAL_CAPACITY + 1,
+                capacity(list));
+        assertEquals(Integer.valueOf(ArrayList.INITIAL_CAPACITY), list.get(0));
+        assertEquals(Integer.valueOf(0),
+                list.get(ArrayList.INITIAL_CAPACITY));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowAtIndex() {
+        ArrayList<String> list = new ArrayList<>();
+        for (int i = 0; i < ArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(3, "new"); // 0a, 1a, 2a, new, 3a, ..., 8a
+
+        Object[] expected = new Object[2 * ArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = i + "a";
+        }
+        expected[3] = "new";
+        for (int i = 3; i < ArrayList.INITIAL_CAPACITY; i++) {
+            expected[i + 1] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnsureCapacity() {
+        ArrayList<String> list = new ArrayList<>();
+        list.addToBack("0a");
+        list.ensureCapacity(100);
+
+        assertEquals(100, capacity(list));
+        assertEquals("0a", list.get(0));
+
+        // Already large enough, so nothing should change
+        list.ensureCapacity(50);
+        assertEquals(100, capacity(list));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        ArrayList<String> list = new ArrayList<>();
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.trimToSize();
+
+        assertArrayEquals(new Object[] {"0a", "1a"}, list.getBackingArray());
+
+        // Adding to a trimmed list should grow it again
+        list.addToBack("2a");
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", null},
+                list.getBackingArray());
+
+        // Trimming an empty list should still allow adding
+        list.clear();
+        list.trimToSize();
+        list.addToFront("0a");
+        assertEquals(1, list.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNullGrowthPolicy() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ArrayList<String>(null));
+    }
+
+    /**
+     * Returns the length of the list's backing array.
+     *
+     * @param list the list to inspect
+     * @return the capacity of the list
+     */
+    private static int capacity(ArrayList<?> list) {
+        Object[] backingArray = list.getBackingArray();
+        return backingArray.length;
+    }
+}
@@ -0,0 +1,277 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A list with the same methods as ArrayList, backed by a gap buffer.
+ *
+ * The backing array keeps its unused capacity as a single gap that sits
+ * wherever the last add or remove happened. Elements before the gap are
+ * stored at their own index, and elements after it are stored at the end of
+ * the array. An add or remove first moves the gap to its index, which only
+ * costs as many copies as the distance the gap travels, then fills or widens
+ * the gap in O(1). Edits that cluster around a moving cursor, like typing in
+ * an editor, are therefore amortized O(1) instead of O(n).
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class GapBufferList<T> {
+
+    /**
+     * The initial capacity of the GapBufferList.
+     */
+    public static final int INITIAL_CAPACITY = ArrayList.INITIAL_CAPACITY;
+
+    private T[] backingArray;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs a new GapBufferList.
+     */
+    public GapBufferList() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be O(1) if index is the index of the last add or remove, and O(d)
+     * amortized otherwise, where d is the distance from that index.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Given add index is " + index
+                    + " which is out of bounds for GapBufferList of size "
+                    + size);
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to GapBufferList");
+        }
+
+        if (gapStart == gapEnd) {
+            grow();
+        }
+
+        moveGap(index);
+        backingArray[gapStart++] = data;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1) if the last edit was at the front, and O(n) otherwise.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        this.addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1) if the last edit was at the back, and O(n)
+     * otherwise.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        this.addAtIndex(size(), data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) if index is the index of the last add or remove, and O(d)
+     * otherwise, where d is the distance from that index.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Given remove index is "
+                    + index + " which is out of bounds for GapBufferList of "
+                    + "size " + size);
+        }
+
+        // With the gap at index, the element at index is right after the gap
+        moveGap(index);
+        T removed = backingArray[gapEnd];
+        backingArray[gapEnd++] = null;
+        return removed;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(1) if the last edit was at the front, and O(n) otherwise.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(
+                    "Tried removing while GapBufferList is empty");
+        }
+
+        return this.removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1) if the last edit was at the back, and O(n) otherwise.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(
+                    "Tried removing while GapBufferList is empty");
+        }
+
+        return this.removeAtIndex(size() - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Given get index is " + index
+                    + " which is out of bounds for GapBufferList of size "
+                    + size);
+        }
+
+        if (index < gapStart) {
+            return backingArray[index];
+        }
+        return backingArray[index + gapEnd - gapStart];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Returns the elements of the list in order, without the gap.
+     *
+     * Must be O(n).
+     *
+     * @return an array of length size holding the elements of the list
+     */
+    public Object[] toArray() {
+        Object[] copy = new Object[size()];
+        System.arraycopy(backingArray, 0, copy, 0, gapStart);
+        System.arraycopy(backingArray, gapEnd, copy, gapStart,
+                backingArray.length - gapEnd);
+        return copy;
+    }
+
+    /**
+     * Returns the backing array of the list, gap included.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return backingArray.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so it starts at index, copying only the elements between
+     * the old and new position across it. Slots that end up inside the gap
+     * are nulled out so removed elements can be garbage collected.
+     *
+     * @param index the index the gap should start at
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            // Move elements in [index, gapStart) to just before gapEnd
+            int count = gapStart - index;
+            System.arraycopy(backingArray, index, backingArray,
+                    gapEnd - count, count);
+            Arrays.fill(backingArray, index,
+                    Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // Move elements in [gapEnd, gapEnd + count) down to gapStart
+            int count = index - gapStart;
+            System.arraycopy(backingArray, gapEnd, backingArray, gapStart,
+                    count);
+            Arrays.fill(backingArray, Math.max(gapEnd, index), gapEnd + count,
+                    null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Doubles the capacity of the backing array, keeping the gap where it is
+     * and adding the new capacity to it.
+     */
+    private void grow() {
+        int capacity = Math.max(2 * backingArray.length, 1);
+        T[] tempArr = (T[]) new Object[capacity];
+        int tail = backingArray.length - gapEnd;
+        System.arraycopy(backingArray, 0, tempArr, 0, gapStart);
+        System.arraycopy(backingArray, gapEnd, tempArr, capacity - tail,
+                tail);
+        gapEnd = capacity - tail;
+        backingArray = tempArr;
+    }
+}
@@ -0,0 +1,141 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for GapBufferList.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class GapBufferListTest {
+
+    private static final int TIMEOUT = 200;
+    private GapBufferList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new GapBufferList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new Object[GapBufferList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a"); // 2a
+        list.addAtIndex(0, "1a"); // 1a, 2a
+        list.addAtIndex(2, "4a"); // 1a, 2a, 4a
+        list.addAtIndex(2, "3a"); // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a"); // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a"},
+                list.toArray());
+
+        // Gap sits after the last add at index 0
+        Object[] expected = new Object[GapBufferList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[5] = "1a";
+        expected[6] = "2a";
+        expected[7] = "3a";
+        expected[8] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddGrows() {
+        for (int i = 0; i < 2 * GapBufferList.INITIAL_CAPACITY; i++) {
+            list.addToFront(i + "a");
+        }
+
+        assertEquals(2 * GapBufferList.INITIAL_CAPACITY, list.size());
+        Object[] backingArray = list.getBackingArray();
+        assertEquals(2 * GapBufferList.INITIAL_CAPACITY, backingArray.length);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals((list.size() - 1 - i) + "a", list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a"); // 0a, 1a, 2a, 3a, 4a, 5a
+        }
+
+        assertEquals("2a", list.removeAtIndex(2)); // 0a, 1a, 3a, 4a, 5a
+        assertEquals("0a", list.removeFromFront()); // 1a, 3a, 4a, 5a
+        assertEquals("5a", list.removeFromBack()); // 1a, 3a, 4a
+
+        assertEquals(3, list.size());
+        assertArrayEquals(new Object[] {"1a", "3a", "4a"}, list.toArray());
+
+        // Removed elements must not linger in the gap
+        int nonNull = 0;
+        Object[] backingArray = list.getBackingArray();
+        for (Object o : backingArray) {
+            if (o != null) {
+                nonNull++;
+            }
+        }
+        assertEquals(3, nonNull);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesArrayList() {
+        Random random = new Random(1332);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        GapBufferList<Integer> actual = new GapBufferList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.addAtIndex(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index),
+                        actual.removeAtIndex(index));
+            }
+        }
+        assertArrayEquals(expected.toArray(), actual.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertArrayEquals(new Object[GapBufferList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.addAtIndex(1, "0a"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> list.addAtIndex(0, null));
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(0));
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.removeAtIndex(0));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromFront());
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromBack());
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Decides how large an ArrayList's backing array becomes when it runs out of
+ * room.
+ *
+ * Implementations only need to describe the growth curve; ArrayList itself
+ * makes sure the result is at least the capacity it asked for, so a policy
+ * that returns too small a value can never cause an overflow of the backing
+ * array.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Grows to twice the old capacity. This is the default ArrayList policy.
+     */
+    GrowthPolicy DOUBLING = (oldCapacity, minCapacity) -> 2 * oldCapacity;
+
+    /**
+     * Grows to one and a half times the old capacity, trading more frequent
+     * copies for less wasted space.
+     */
+    GrowthPolicy ONE_AND_A_HALF = (oldCapacity, minCapacity) ->
+            oldCapacity + (oldCapacity >> 1);
+
+    /**
+     * Returns the capacity to grow the backing array to.
+     *
+     * @param oldCapacity the current length of the backing array
+     * @param minCapacity the smallest capacity that fits the pending add
+     * @return the new length of the backing array
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+}
@@ -0,0 +1,252 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayList specialized for int elements.
+ *
+ * Mirrors the API of ArrayList, but stores elements directly in an int[]
+ * instead of boxing each one into an Integer referenced from an Object[].
+ * That cuts the cost per element from a 4 - 8 byte reference plus a 16 byte
+ * Integer down to 4 bytes, and get is a single array load instead of a load
+ * followed by a pointer chase to the boxed value.
+ *
+ * Since primitives cannot be null, none of the add methods throw
+ * IllegalArgumentException.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IntArrayList {
+
+    /**
+     * The initial capacity of the IntArrayList.
+     */
+    public static final int INITIAL_CAPACITY = ArrayList.INITIAL_CAPACITY;
+
+    private int[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new IntArrayList.
+     */
+    public IntArrayList() {
+        backingArray = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be amortized O(1) for index size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void addAtIndex(int index, int data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Given add index is " + index
+                    + " which is out of bounds for IntArrayList of size "
+                    + size);
+        }
+
+        if (size == backingArray.length) {
+            // Expand to 2 times the size, leaving a gap at index
+            int[] tempArr = new int[2 * size];
+            System.arraycopy(backingArray, 0, tempArr, 0, index);
+            System.arraycopy(backingArray, index, tempArr, index + 1,
+                    size - index);
+            backingArray = tempArr;
+        } else {
+            // Shift elements to right of index right to make space
+            System.arraycopy(backingArray, index, backingArray, index + 1,
+                    size - index);
+        }
+
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the front of the list
+     */
+    public void addToFront(int data) {
+        this.addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     */
+    public void addToBack(int data) {
+        this.addAtIndex(size, data);
+    }
+
+    /**
+     * Adds all of the elements to the back of the list in order, growing the
+     * backing array at most once.
+     *
+     * Must be amortized O(k) where k is the number of elements added.
+     *
+     * @param data the elements to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addAll(int[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null array to IntArrayList");
+        }
+
+        if (size + data.length > backingArray.length) {
+            int[] tempArr = new int[Math.max(2 * size, size + data.length)];
+            System.arraycopy(backingArray, 0, tempArr, 0, size);
+            backingArray = tempArr;
+        }
+
+        System.arraycopy(data, 0, backingArray, size, data.length);
+        size += data.length;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public int removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Given remove index is "
+                    + index + " which is out of bounds for IntArrayList of "
+                    + "size " + size);
+        }
+
+        int temp = backingArray[index];
+
+        // Shift all elements to right of index left
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+
+        // Zero out leftover value in array
+        backingArray[size - 1] = 0;
+        size--;
+
+        return temp;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public int removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried removing while IntArrayList is empty");
+        }
+
+        return this.removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public int removeFromBack() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried removing while IntArrayList is empty");
+        }
+
+        return this.removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Given get index is " + index
+                    + " which is out of bounds for IntArrayList of size "
+                    + size);
+        }
+
+        return backingArray[index];
+    }
+
+    /**
+     * Returns a copy of the elements in the list, in order, with no unused
+     * capacity.
+     *
+     * Must be O(n).
+     *
+     * @return an array of length size holding the elements of the list
+     */
+    public int[] toArray() {
+        int[] copy = new int[size];
+        System.arraycopy(backingArray, 0, copy, 0, size);
+        return copy;
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * @return the backing array of the list
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,123 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for IntArrayList.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IntArrayListTest {
+
+    private static final int TIMEOUT = 200;
+    private IntArrayList list;
+
+    @Before
+    public void setUp() {
+        list = new IntArrayList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, 2); // 2
+        list.addAtIndex(0, 1); // 1, 2
+        list.addAtIndex(2, 4); // 1, 2, 4
+        list.addAtIndex(2, 3); // 1, 2, 3, 4
+        list.addAtIndex(0, 0); // 0, 1, 2, 3, 4
+
+        assertEquals(5, list.size());
+
+        int[] expected = new int[IntArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndexResize() {
+        for (int i = 0; i < IntArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + 1);
+        }
+        list.addAtIndex(4, -1); // 1, 2, 3, 4, -1, 5, 6, 7, 8, 9
+
+        int[] expected = new int[2 * IntArrayList.INITIAL_CAPACITY];
+        expected[0] = 1;
+        expected[1] = 2;
+        expected[2] = 3;
+        expected[3] = 4;
+        expected[4] = -1;
+        for (int i = 5; i <= IntArrayList.INITIAL_CAPACITY; i++) {
+            expected[i] = i;
+        }
+        assertEquals(IntArrayList.INITIAL_CAPACITY + 1, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        list.addAll(new int[] {0, 1, 2, 3, 4, 5}); // 0, 1, 2, 3, 4, 5
+
+        assertEquals(2, list.removeAtIndex(2)); // 0, 1, 3, 4, 5
+        assertEquals(0, list.removeFromFront()); // 1, 3, 4, 5
+        assertEquals(5, list.removeFromBack()); // 1, 3, 4
+
+        int[] expected = new int[IntArrayList.INITIAL_CAPACITY];
+        expected[0] = 1;
+        expected[1] = 3;
+        expected[2] = 4;
+        assertEquals(3, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllAndToArray() {
+        list.addToBack(-1);
+        list.addAll(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+
+        assertEquals(12, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(10, list.get(11));
+        assertArrayEquals(new int[] {-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10},
+                list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addAll(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.addAtIndex(1, 0));
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(0));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromFront());
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromBack());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> list.addAll(null));
+    }
+}
@@ -0,0 +1,129 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for LongArrayList.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LongArrayListTest {
+
+    private static final int TIMEOUT = 200;
+
+    /**
+     * A value no int can hold, so a narrowing anywhere would show.
+     */
+    private static final long BIG = 1L << 40;
+
+    private LongArrayList list;
+
+    @Before
+    public void setUp() {
+        list = new LongArrayList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new long[LongArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, BIG + 2); // 2
+        list.addAtIndex(0, BIG + 1); // 1, 2
+        list.addAtIndex(2, BIG + 4); // 1, 2, 4
+        list.addAtIndex(2, BIG + 3); // 1, 2, 3, 4
+        list.addAtIndex(0, BIG); // 0, 1, 2, 3, 4
+
+        assertEquals(5, list.size());
+
+        long[] expected = new long[LongArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = BIG + i;
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndexResize() {
+        for (int i = 0; i < LongArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + 1);
+        }
+        list.addAtIndex(4, Long.MIN_VALUE); // 1, 2, 3, 4, MIN, 5, 6, 7, 8, 9
+
+        long[] expected = new long[2 * LongArrayList.INITIAL_CAPACITY];
+        expected[0] = 1;
+        expected[1] = 2;
+        expected[2] = 3;
+        expected[3] = 4;
+        expected[4] = Long.MIN_VALUE;
+        for (int i = 5; i <= LongArrayList.INITIAL_CAPACITY; i++) {
+            expected[i] = i;
+        }
+        assertEquals(LongArrayList.INITIAL_CAPACITY + 1, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        list.addAll(new long[] {0, 1, BIG, 3, 4, Long.MAX_VALUE});
+
+        assertEquals(BIG, list.removeAtIndex(2)); // 0, 1, 3, 4, MAX
+        assertEquals(0, list.removeFromFront()); // 1, 3, 4, MAX
+        assertEquals(Long.MAX_VALUE, list.removeFromBack()); // 1, 3, 4
+
+        long[] expected = new long[LongArrayList.INITIAL_CAPACITY];
+        expected[0] = 1;
+        expected[1] = 3;
+        expected[2] = 4;
+        assertEquals(3, list.size());
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllAndToArray() {
+        list.addToFront(-BIG);
+        list.addAll(new long[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, BIG});
+
+        assertEquals(12, list.size());
+        assertEquals(-BIG, list.get(0));
+        assertEquals(BIG, list.get(11));
+        assertArrayEquals(new long[] {-BIG, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, BIG},
+                list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addAll(new long[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertArrayEquals(new long[LongArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.addAtIndex(1, 0));
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(0));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromFront());
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> list.removeFromBack());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> list.addAll(null));
+    }
+}
@@ -0,0 +1,102 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests every PriorityHeap implementation must pass. Subclasses only
+ * supply the heap under test.
+ *
+ * Every workload here is monotone, never adding below the last removed
+ * item, so RadixHeap can run it too.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public abstract class AbstractPriorityHeapTest {
+
+    private static final int TIMEOUT = 200;
+    private PriorityHeap<Integer> heap;
+
+    /**
+     * Creates an empty heap of the implementation under test.
+     *
+     * @return the new heap
+     */
+    protected abstract PriorityHeap<Integer> createHeap();
+
+    @Before
+    public void setUp() {
+        heap = createHeap();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemovesInOrder() {
+        Random random = new Random(1332);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(2000) - 1000;
+            heap.add(value);
+            expected.add(value);
+        }
+        assertEquals(1000, heap.size());
+
+        while (!expected.isEmpty()) {
+            assertEquals(expected.peek(), heap.getMin());
+            assertEquals(expected.remove(), heap.remove());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMonotoneWorkload() {
+        // like Dijkstra's algorithm: every add is the last removed plus a
+        // non-negative weight, with duplicates and extreme values
+        Random random = new Random(1332);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        heap.add(Integer.MIN_VALUE);
+        expected.add(Integer.MIN_VALUE);
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                int base = expected.isEmpty() ? 0 : expected.peek();
+                int value = random.nextInt(100) == 0
+                        || base > Integer.MAX_VALUE - 50 ? Integer.MAX_VALUE
+                        : base + random.nextInt(50);
+                heap.add(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.remove(), heap.remove());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.remove(), heap.remove());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        heap.add(3);
+        heap.add(1);
+        assertEquals((Integer) 1, heap.remove());
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertEquals(0, heap.size());
+        heap.add(-5);
+        assertEquals((Integer) (-5), heap.getMin());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+        Assert.assertThrows(NoSuchElementException.class, heap::getMin);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.add(null));
+    }
+}
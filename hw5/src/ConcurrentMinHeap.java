@@ -0,0 +1,287 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe MinHeap for many producer and consumer threads.
+ *
+ * The heap is split into sub-heaps, each a MinHeap behind its own lock. An
+ * add goes to a random sub-heap, skipping any whose lock is held, so
+ * producers spread out instead of queueing on one lock. Every sub-heap
+ * publishes its current minimum in a volatile field after each change, so
+ * a remove can compare sub-heaps without locking them, and then locks only
+ * the one it takes from. How remove picks that sub-heap depends on the
+ * RemovalOrder.
+ *
+ * size, isEmpty and getMin read the sub-heaps one after another, so they
+ * are not atomic snapshots while other threads are writing, but are exact
+ * once writes have stopped.
+ *
+ * @param <T> the type of the elements
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class ConcurrentMinHeap<T extends Comparable<? super T>> {
+
+    /**
+     * The number of sub-heaps per available processor when created with
+     * the default constructor. Two per thread keeps the chance that two
+     * threads want the same lock low.
+     */
+    public static final int QUEUES_PER_PROCESSOR = 2;
+
+    private final SubHeap<T>[] queues;
+    private final RemovalOrder order;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * One MinHeap and its lock.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class SubHeap<T extends Comparable<? super T>> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MinHeap<T> heap = new MinHeap<>();
+
+        /**
+         * The minimum of heap, or null if it is empty. Only written while
+         * holding lock.
+         */
+        private volatile T top;
+
+        /**
+         * Refreshes top after heap changed. Must hold lock.
+         */
+        private void publishTop() {
+            top = heap.isEmpty() ? null : heap.getMin();
+        }
+    }
+
+    /**
+     * Constructs a new, empty ConcurrentMinHeap with QUEUES_PER_PROCESSOR
+     * sub-heaps per available processor and RELAXED removal.
+     */
+    public ConcurrentMinHeap() {
+        this(QUEUES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors(),
+                RemovalOrder.RELAXED);
+    }
+
+    /**
+     * Constructs a new, empty ConcurrentMinHeap.
+     *
+     * @param queueCount the number of sub-heaps
+     * @param order      which element remove takes
+     * @throws java.lang.IllegalArgumentException if queueCount is not
+     *                                            positive or order is null
+     */
+    public ConcurrentMinHeap(int queueCount, RemovalOrder order) {
+        if (queueCount < 1 || order == null) {
+            throw new IllegalArgumentException("Tried to create a "
+                    + "ConcurrentMinHeap with " + queueCount
+                    + " sub-heaps and order " + order);
+        }
+
+        queues = (SubHeap<T>[]) new SubHeap[queueCount];
+        for (int i = 0; i < queueCount; i++) {
+            queues[i] = new SubHeap<>();
+        }
+        this.order = order;
+    }
+
+    /**
+     * Adds an item to a random sub-heap whose lock is free, or, if every
+     * lock a few tries turn up is held, waits for the last one tried.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to ConcurrentMinHeap");
+        }
+
+        // counted first, so a remove that beats the increment never makes
+        // size negative
+        size.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SubHeap<T> queue = queues[random.nextInt(queues.length)];
+        for (int tries = 1; !queue.lock.tryLock(); tries++) {
+            queue = queues[random.nextInt(queues.length)];
+            if (tries == queues.length) {
+                queue.lock.lock();
+                break;
+            }
+        }
+        try {
+            queue.heap.add(data);
+            queue.publishTop();
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the min item of the heap in STRICT order, or a
+     * small item of the heap in RELAXED order.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if every sub-heap is empty
+     */
+    public T remove() {
+        T removed = order == RemovalOrder.STRICT ? removeStrict()
+                : removeRelaxed();
+        size.decrement();
+        return removed;
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        T min = smallestTop();
+        if (min == null) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty ConcurrentMinHeap");
+        }
+        return min;
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return smallestTop() == null;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return (int) size.sum();
+    }
+
+    /**
+     * Returns the number of sub-heaps.
+     *
+     * @return the number of sub-heaps
+     */
+    public int queueCount() {
+        return queues.length;
+    }
+
+    /**
+     * Returns which element remove takes.
+     *
+     * @return the removal order
+     */
+    public RemovalOrder order() {
+        return order;
+    }
+
+    /**
+     * Takes the minimum of the sub-heap with the smallest minimum, rescanning
+     * if another thread changed that sub-heap before its lock was taken, or
+     * if the scan found nothing while size says an add or remove is still
+     * under way.
+     *
+     * @return the removed item
+     * @throws java.util.NoSuchElementException if every sub-heap is empty
+     */
+    private T removeStrict() {
+        while (true) {
+            SubHeap<T> queue = null;
+            T expected = null;
+            for (SubHeap<T> candidate : queues) {
+                T top = candidate.top;
+                if (top != null
+                        && (expected == null || top.compareTo(expected) < 0)) {
+                    queue = candidate;
+                    expected = top;
+                }
+            }
+            if (queue == null) {
+                // the scan is not atomic, so it can miss an element added
+                // behind it while the rest were removed. size counts adds
+                // before they start and removes once they are done, so it
+                // is only 0 when the heap really is empty
+                if (size.sum() == 0) {
+                    throw new NoSuchElementException(
+                            "Tried to remove from empty ConcurrentMinHeap");
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+
+            queue.lock.lock();
+            try {
+                if (queue.top == expected) {
+                    T removed = queue.heap.remove();
+                    queue.publishTop();
+                    return removed;
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Takes the minimum of the better of two random sub-heaps, resampling
+     * if its lock is held or it was emptied in the meantime. Falls back to
+     * removeStrict if both samples are empty, so a remove only fails when
+     * every sub-heap is.
+     *
+     * @return the removed item
+     * @throws java.util.NoSuchElementException if every sub-heap is empty
+     */
+    private T removeRelaxed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            SubHeap<T> first = queues[random.nextInt(queues.length)];
+            SubHeap<T> second = queues[random.nextInt(queues.length)];
+            T firstTop = first.top;
+            T secondTop = second.top;
+            if (firstTop == null && secondTop == null) {
+                return removeStrict();
+            }
+            SubHeap<T> queue = firstTop == null || (secondTop != null
+                    && secondTop.compareTo(firstTop) < 0) ? second : first;
+            if (queue.lock.tryLock()) {
+                try {
+                    if (!queue.heap.isEmpty()) {
+                        T removed = queue.heap.remove();
+                        queue.publishTop();
+                        return removed;
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the smallest published minimum of any sub-heap.
+     *
+     * @return the smallest minimum, or null if every sub-heap is empty
+     */
+    private T smallestTop() {
+        T min = null;
+        for (SubHeap<T> queue : queues) {
+            T top = queue.top;
+            if (top != null && (min == null || top.compareTo(min) < 0)) {
+                min = top;
+            }
+        }
+        return min;
+    }
+}
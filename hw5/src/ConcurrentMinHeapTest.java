@@ -0,0 +1,128 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for ConcurrentMinHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class ConcurrentMinHeapTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int THREAD_TIMEOUT = 5000;
+
+    @Test(timeout = TIMEOUT)
+    public void testStrictRemovesInOrder() {
+        ConcurrentMinHeap<Integer> heap =
+                new ConcurrentMinHeap<>(8, RemovalOrder.STRICT);
+        Random random = new Random(1332);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+            heap.add(values[i]);
+        }
+        assertEquals(1000, heap.size());
+
+        Arrays.sort(values);
+        for (int value : values) {
+            assertEquals((Integer) value, heap.getMin());
+            assertEquals((Integer) value, heap.remove());
+        }
+        assertTrue(heap.isEmpty());
+        assertEquals(0, heap.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRelaxedRemovesEverything() {
+        ConcurrentMinHeap<Integer> heap =
+                new ConcurrentMinHeap<>(8, RemovalOrder.RELAXED);
+        for (int i = 0; i < 1000; i++) {
+            heap.add(i);
+        }
+
+        // the order is relaxed, but every element comes out exactly once
+        boolean[] seen = new boolean[1000];
+        long displacement = 0;
+        for (int i = 0; i < 1000; i++) {
+            int value = heap.remove();
+            assertTrue(!seen[value]);
+            seen[value] = true;
+            displacement += Math.abs(value - i);
+        }
+        assertTrue(heap.isEmpty());
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+
+        // two choices keep elements close to their sorted position
+        assertTrue(displacement / 1000 < 50);
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testProducersAndConsumers() throws InterruptedException {
+        for (RemovalOrder order : RemovalOrder.values()) {
+            ConcurrentMinHeap<Integer> heap = new ConcurrentMinHeap<>(4,
+                    order);
+            int producers = 4;
+            int perThread = 20000;
+            AtomicInteger removed = new AtomicInteger();
+            long[] sums = new long[producers];
+
+            // each producer adds its own range, and consumes as many
+            // elements as it adds, from anywhere in the heap
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < producers; t++) {
+                int id = t;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        heap.add(id * perThread + i);
+                        if (i % 2 == 1) {
+                            sums[id] += heap.remove() + heap.remove();
+                            removed.addAndGet(2);
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            long total = 0;
+            for (long sum : sums) {
+                total += sum;
+            }
+            assertEquals(producers * perThread, removed.get());
+            assertTrue(heap.isEmpty());
+            assertEquals(0, heap.size());
+            long count = (long) producers * perThread;
+            assertEquals(count * (count - 1) / 2, total);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentMinHeap<Integer>(0, RemovalOrder.STRICT));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentMinHeap<Integer>(4, null));
+        ConcurrentMinHeap<Integer> heap = new ConcurrentMinHeap<>();
+        assertEquals(RemovalOrder.RELAXED, heap.order());
+        assertTrue(heap.queueCount() >= ConcurrentMinHeap.QUEUES_PER_PROCESSOR);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.add(null));
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+        Assert.assertThrows(NoSuchElementException.class, heap::getMin);
+    }
+}
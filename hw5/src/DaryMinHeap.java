@@ -0,0 +1,327 @@
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+/**
+ * A MinHeap in which every node has up to arity children instead of two.
+ * The arity must be a power of two, so that finding a parent or child is a
+ * shift rather than a division.
+ *
+ * A wider heap is shallower: a heap of n elements has about log_d(n)
+ * levels instead of log_2(n). An add upheaps through fewer levels, and a
+ * remove downheaps through fewer levels but compares all d children at
+ * each one. Those d children sit next to each other in the backing array,
+ * so for a large heap the walk down touches one run of references per
+ * level instead of a new cache line for each of log_2(n) levels.
+ *
+ * The layout generalizes MinHeap's. The root is at index arity - 1 and the
+ * indices before it stay empty, so the children of the node at index i
+ * start at arity * (i - arity + 2), always a multiple of arity. Every
+ * group of siblings therefore starts at a multiple of arity. With arity 2
+ * that is MinHeap's layout exactly (root at index 1, children at 2i and
+ * 2i + 1), and upheap and downheap pick the same child as MinHeap, so a
+ * DaryMinHeap of arity 2 lays out the same data the same way.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class DaryMinHeap<T extends Comparable<? super T>> {
+
+    /**
+     * The initial capacity of a binary DaryMinHeap when created without
+     * data, matching MinHeap. A wider heap's backing array is longer by the
+     * extra empty indices before its root.
+     */
+    public static final int INITIAL_CAPACITY = MinHeap.INITIAL_CAPACITY;
+
+    private final int arity;
+
+    /**
+     * log2(arity), so a multiply or divide by arity is a shift.
+     */
+    private final int shift;
+    private T[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new, empty DaryMinHeap.
+     *
+     * @param arity the maximum number of children of each node
+     * @throws java.lang.IllegalArgumentException if arity is not a power of
+     *                                            two of at least 2
+     */
+    public DaryMinHeap(int arity) {
+        this.arity = checkArity(arity);
+        shift = Integer.numberOfTrailingZeros(arity);
+        backingArray = (T[]) new Comparable[INITIAL_CAPACITY + arity - 2];
+    }
+
+    /**
+     * Creates a properly ordered heap from a set of initial values with the
+     * BuildHeap algorithm, downheaping every non-leaf from the bottom up.
+     *
+     * The backing array has capacity 2n + arity - 1 where n is the number of
+     * data: arity - 1 empty indices, then the data, then n empty indices.
+     * That is MinHeap's 2n + 1 for arity 2.
+     *
+     * @param data  a list of data to initialize the heap with
+     * @param arity the maximum number of children of each node
+     * @throws java.lang.IllegalArgumentException if data or any element in
+     *                                            data is null, or arity is
+     *                                            not a power of two of at
+     *                                            least 2
+     */
+    public DaryMinHeap(ArrayList<T> data, int arity) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing DaryMinHeap with null ArrayList");
+        }
+
+        this.arity = checkArity(arity);
+        shift = Integer.numberOfTrailingZeros(arity);
+        backingArray = (T[]) new Comparable[2 * data.size() + arity - 1];
+        size = data.size();
+
+        for (int i = 0; i < size; i++) {
+            if (data.get(i) == null) {
+                throw new IllegalArgumentException("Tried initializing "
+                        + "DaryMinHeap with null data in ArrayList");
+            }
+            backingArray[root() + i] = data.get(i);
+        }
+
+        // downheap all non-leaf values, from the parent of the last one up
+        if (size > 1) {
+            for (int i = parent(last()); i >= root(); i--) {
+                downheap(i, backingArray[i]);
+            }
+        }
+    }
+
+    /**
+     * Adds an item to the heap. If the backing array is full (except for the
+     * empty indices before the root), its capacity is doubled first.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to DaryMinHeap");
+        }
+
+        if (last() + 1 == backingArray.length) {
+            T[] newArr = (T[]) new Comparable[2 * backingArray.length];
+            System.arraycopy(backingArray, root(), newArr, root(), size);
+            backingArray = newArr;
+        }
+
+        size++;
+        upheap(last(), data);
+    }
+
+    /**
+     * Removes and returns the min item of the heap, nulling out the last
+     * index of the heap. The capacity is never decreased.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T remove() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to remove from empty DaryMinHeap");
+        }
+
+        T removed = backingArray[root()];
+        T moved = backingArray[last()];
+        backingArray[last()] = null;
+        size--;
+        if (size > 0) {
+            downheap(root(), moved);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty DaryMinHeap");
+        }
+
+        return backingArray[root()];
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        backingArray = (T[]) new Comparable[INITIAL_CAPACITY + arity - 2];
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of the heap.
+     *
+     * @return the backing array of the heap
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of children of each node.
+     *
+     * @return the arity of the heap
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Moves a value up from index, shifting every larger parent down one
+     * level, and writes it where it stops.
+     *
+     * @param index the index the value starts at
+     * @param data  the value
+     */
+    private void upheap(int index, T data) {
+        int cur = index;
+        while (cur > root()) {
+            int parent = parent(cur);
+            if (data.compareTo(backingArray[parent]) >= 0) {
+                break;
+            }
+            backingArray[cur] = backingArray[parent];
+            cur = parent;
+        }
+        backingArray[cur] = data;
+    }
+
+    /**
+     * Moves a value down from index, shifting the smallest child up one level
+     * while it is less than the value, and writes it where it stops. Of equal
+     * children the last one wins, as in MinHeap.
+     *
+     * A binary heap compares its two children directly. Running the general
+     * loop for a single compare costs more than the compare itself.
+     *
+     * @param index the index the value starts at
+     * @param data  the value
+     */
+    private void downheap(int index, T data) {
+        int cur = index;
+        int last = last();
+        int first = firstChild(cur);
+        while (first <= last) {
+            int best = first;
+            T min = backingArray[first];
+            if (arity == 2) {
+                if (first < last
+                        && backingArray[first + 1].compareTo(min) <= 0) {
+                    best = first + 1;
+                    min = backingArray[best];
+                }
+            } else {
+                int end = Math.min(first + arity - 1, last);
+                for (int child = first + 1; child <= end; child++) {
+                    if (backingArray[child].compareTo(min) <= 0) {
+                        best = child;
+                        min = backingArray[child];
+                    }
+                }
+            }
+            if (min.compareTo(data) >= 0) {
+                break;
+            }
+            backingArray[cur] = min;
+            cur = best;
+            first = firstChild(cur);
+        }
+        backingArray[cur] = data;
+    }
+
+    /**
+     * Returns the index of the root.
+     *
+     * @return the index of the root
+     */
+    private int root() {
+        return arity - 1;
+    }
+
+    /**
+     * Returns the index of the last value in the heap.
+     *
+     * @return the index of the last value, or root() - 1 if the heap is empty
+     */
+    private int last() {
+        return root() + size - 1;
+    }
+
+    /**
+     * Returns the index of the first child of a node. Children of a node at
+     * the end of a huge heap can lie past the end of an int, so this
+     * saturates instead of overflowing.
+     *
+     * @param index the index of the node
+     * @return the index of its first child
+     */
+    private int firstChild(int index) {
+        long first = (long) (index - arity + 2) << shift;
+        return (int) Math.min(first, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the index of the parent of a node other than the root.
+     *
+     * @param index the index of the node
+     * @return the index of its parent
+     */
+    private int parent(int index) {
+        return (index >>> shift) + arity - 2;
+    }
+
+    /**
+     * Checks that an arity is a power of two of at least 2.
+     *
+     * @param arity the arity
+     * @return arity
+     * @throws java.lang.IllegalArgumentException if arity is not a power of
+     *                                            two of at least 2
+     */
+    private static int checkArity(int arity) {
+        if (arity < 2 || Integer.bitCount(arity) != 1) {
+            throw new IllegalArgumentException(
+                    "Tried to create a DaryMinHeap with arity " + arity);
+        }
+        return arity;
+    }
+}
@@ -0,0 +1,128 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for DaryMinHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class DaryMinHeapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testBinaryMatchesMinHeap() {
+        Random random = new Random(1332);
+        ArrayList<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // few distinct values, so ties between children come up often
+            data.add(random.nextInt(20));
+        }
+        DaryMinHeap<Integer> heap = new DaryMinHeap<>(data, 2);
+        MinHeap<Integer> expected = new MinHeap<>(data);
+        assertArrayEquals(expected.getBackingArray(), heap.getBackingArray());
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean() || heap.isEmpty()) {
+                int value = random.nextInt(20);
+                heap.add(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.remove(), heap.remove());
+            }
+            assertArrayEquals(expected.getBackingArray(),
+                    heap.getBackingArray());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWideHeapsMatchPriorityQueue() {
+        for (int arity : new int[] {4, 8, 16}) {
+            Random random = new Random(arity);
+            ArrayList<Integer> data = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                data.add(random.nextInt(1000));
+            }
+            DaryMinHeap<Integer> heap = new DaryMinHeap<>(data, arity);
+            PriorityQueue<Integer> expected = new PriorityQueue<>(data);
+            assertEquals(2 * 300 + arity - 1, backingArray(heap).length);
+            assertEquals(Collections.min(data),
+                    backingArray(heap)[arity - 1]);
+
+            for (int i = 0; i < 2000; i++) {
+                if (random.nextBoolean() || heap.isEmpty()) {
+                    int value = random.nextInt(1000);
+                    heap.add(value);
+                    expected.add(value);
+                } else {
+                    assertEquals(expected.remove(), heap.remove());
+                }
+                assertEquals(expected.size(), heap.size());
+            }
+            while (!heap.isEmpty()) {
+                assertEquals(expected.peek(), heap.getMin());
+                assertEquals(expected.remove(), heap.remove());
+            }
+            assertNull(backingArray(heap)[arity - 1]);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResizeAndClear() {
+        DaryMinHeap<Integer> heap = new DaryMinHeap<>(4);
+        assertEquals(15, backingArray(heap).length);
+        for (int i = 12; i > 0; i--) {
+            heap.add(i);
+        }
+        assertEquals(15, backingArray(heap).length);
+        heap.add(0);
+        assertEquals(30, backingArray(heap).length);
+        assertEquals((Integer) 0, heap.getMin());
+        assertEquals(4, heap.arity());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertEquals(15, backingArray(heap).length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new DaryMinHeap<Integer>(1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new DaryMinHeap<Integer>(3));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new DaryMinHeap<Integer>(null, 4));
+        DaryMinHeap<Integer> heap = new DaryMinHeap<>(
+                new ArrayList<Integer>(), 4);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.add(null));
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+        Assert.assertThrows(NoSuchElementException.class, heap::getMin);
+        heap.add(1);
+        assertEquals((Integer) 1, heap.remove());
+    }
+
+    /**
+     * Returns the backing array of a heap. It is really a Comparable[], so
+     * it cannot be read as an Integer[].
+     *
+     * @param heap the heap
+     * @return the backing array
+     */
+    private static Object[] backingArray(DaryMinHeap<?> heap) {
+        return heap.getBackingArray();
+    }
+}
@@ -0,0 +1,434 @@
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+/**
+ * A MinHeap that hands out a handle for every element it adds, so an
+ * element can be found again, re-prioritized or removed in O(log n) without
+ * draining or rebuilding the heap. Cancelling a timer or relaxing an edge
+ * in Dijkstra's algorithm is one call with the handle add returned.
+ *
+ * The heap itself works exactly like MinHeap, with the same 1-indexed
+ * backing array, BuildHeap capacity and doubling, and the same upheap and
+ * downheap. The only difference is that every swap also records where each
+ * handle's element went.
+ *
+ * Handles are small ints. Once an element is removed, its handle is free to
+ * be handed out again by a later add, so a caller must forget a handle when
+ * its element leaves the heap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IndexedMinHeap<T extends Comparable<? super T>> {
+
+    /**
+     * The initial capacity of the heap when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = MinHeap.INITIAL_CAPACITY;
+
+    private T[] backingArray;
+
+    /**
+     * The handle of the element at each index of backingArray.
+     */
+    private int[] handles;
+
+    /**
+     * The index in backingArray of each handle's element, or 0 if the
+     * handle is free.
+     */
+    private int[] positions;
+
+    /**
+     * The free handles below handleCount, used as a stack.
+     */
+    private int[] freeHandles;
+    private int freeCount;
+    private int handleCount;
+    private int size;
+
+    /**
+     * Constructs a new IndexedMinHeap.
+     *
+     * The backing array has an initial capacity of INITIAL_CAPACITY.
+     */
+    public IndexedMinHeap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a properly ordered heap from a set of initial values with the
+     * BuildHeap algorithm, like MinHeap(ArrayList). The element at index i
+     * of data gets handle i.
+     *
+     * @param data a list of data to initialize the heap with
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public IndexedMinHeap(ArrayList<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing IndexedMinHeap with null ArrayList");
+        }
+
+        allocate(2 * data.size() + 1);
+        size = data.size();
+        handleCount = size;
+
+        for (int i = 0; i < size; i++) {
+            if (data.get(i) == null) {
+                throw new IllegalArgumentException("Tried initializing "
+                        + "IndexedMinHeap with null data in ArrayList");
+            }
+            backingArray[i + 1] = data.get(i);
+            handles[i + 1] = i;
+            positions[i] = i + 1;
+        }
+
+        // downheap all non-leaf values
+        for (int i = size / 2; i > 0; i--) {
+            downheap(i);
+        }
+    }
+
+    /**
+     * Adds an item to the heap, doubling the capacity of the backing array
+     * first if it is full (except for index 0).
+     *
+     * @param data the data to add
+     * @return the handle of the added item
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public int add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to IndexedMinHeap");
+        }
+
+        if (size + 1 == backingArray.length) {
+            resize(2 * backingArray.length);
+        }
+
+        int handle = freeCount > 0 ? freeHandles[--freeCount]
+                : handleCount++;
+        size++;
+        backingArray[size] = data;
+        handles[size] = handle;
+        positions[handle] = size;
+        upheap(size);
+        return handle;
+    }
+
+    /**
+     * Removes and returns the min item of the heap, freeing its handle.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T remove() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to remove from empty IndexedMinHeap");
+        }
+
+        return removeAt(1);
+    }
+
+    /**
+     * Removes and returns the item with the given handle, freeing the
+     * handle.
+     *
+     * @param handle the handle add returned for the item
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if no item in the heap has
+     *                                          the handle
+     */
+    public T remove(int handle) {
+        return removeAt(position(handle, "remove"));
+    }
+
+    /**
+     * Replaces the item with the given handle by a smaller or equal one and
+     * upheaps it.
+     *
+     * @param handle the handle add returned for the item
+     * @param data   the new data
+     * @throws java.lang.IllegalArgumentException if data is null or greater
+     *                                            than the current item
+     * @throws java.util.NoSuchElementException   if no item in the heap has
+     *                                            the handle
+     */
+    public void decreaseKey(int handle, T data) {
+        int index = position(handle, "decreaseKey");
+        if (data == null || data.compareTo(backingArray[index]) > 0) {
+            throw new IllegalArgumentException("Tried to decreaseKey in "
+                    + "IndexedMinHeap with null or greater data");
+        }
+
+        backingArray[index] = data;
+        upheap(index);
+    }
+
+    /**
+     * Replaces the item with the given handle by a greater or equal one and
+     * downheaps it.
+     *
+     * @param handle the handle add returned for the item
+     * @param data   the new data
+     * @throws java.lang.IllegalArgumentException if data is null or less than
+     *                                            the current item
+     * @throws java.util.NoSuchElementException   if no item in the heap has
+     *                                            the handle
+     */
+    public void increaseKey(int handle, T data) {
+        int index = position(handle, "increaseKey");
+        if (data == null || data.compareTo(backingArray[index]) < 0) {
+            throw new IllegalArgumentException("Tried to increaseKey in "
+                    + "IndexedMinHeap with null or smaller data");
+        }
+
+        backingArray[index] = data;
+        downheap(index);
+    }
+
+    /**
+     * Returns the item with the given handle.
+     *
+     * @param handle the handle add returned for the item
+     * @return the item
+     * @throws java.util.NoSuchElementException if no item in the heap has
+     *                                          the handle
+     */
+    public T get(int handle) {
+        return backingArray[position(handle, "get")];
+    }
+
+    /**
+     * Returns whether or not an item in the heap has the given handle.
+     *
+     * @param handle the handle to look for
+     * @return true if the handle belongs to an item in the heap
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleCount && positions[handle] != 0;
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public T getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty IndexedMinHeap");
+        }
+
+        return backingArray[1];
+    }
+
+    /**
+     * Returns the handle of the minimum element in the heap.
+     *
+     * @return the handle of the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public int getMinHandle() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMinHandle on empty IndexedMinHeap");
+        }
+
+        return handles[1];
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap, freeing every handle.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        freeCount = 0;
+        handleCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of the heap.
+     *
+     * @return the backing array of the heap
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of a handle's item, or throws if it is not in the
+     * heap.
+     *
+     * @param handle the handle
+     * @param action the name of the calling method, for the message
+     * @return the index of the handle's item in backingArray
+     * @throws java.util.NoSuchElementException if no item in the heap has
+     *                                          the handle
+     */
+    private int position(int handle, String action) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException("Tried to " + action
+                    + " handle that does not exist in IndexedMinHeap");
+        }
+        return positions[handle];
+    }
+
+    /**
+     * Removes the item at an index by replacing it with the last item, which
+     * is then upheaped or downheaped, whichever it needs.
+     *
+     * @param index the index of the item to remove
+     * @return the removed item
+     */
+    private T removeAt(int index) {
+        T removed = backingArray[index];
+        int handle = handles[index];
+        positions[handle] = 0;
+        freeHandles[freeCount++] = handle;
+
+        if (index != size) {
+            backingArray[index] = backingArray[size];
+            handles[index] = handles[size];
+            positions[handles[index]] = index;
+        }
+        backingArray[size] = null;
+        size--;
+
+        if (index <= size) {
+            upheap(index);
+            downheap(index);
+        }
+        return removed;
+    }
+
+    /**
+     * Recursively downheaps a value, like MinHeap.downheap.
+     *
+     * @param index the index of the value to be downheaped
+     */
+    private void downheap(int index) {
+        int left = 2 * index;
+        int right = 2 * index + 1;
+
+        if (left <= size && right <= size) {
+            // case for two children
+            if (backingArray[left].compareTo(backingArray[right]) < 0) {
+                if (backingArray[left].compareTo(backingArray[index]) < 0) {
+                    // downheap leftward
+                    swap(index, left);
+                    downheap(left);
+                }
+            } else {
+                if (backingArray[right].compareTo(backingArray[index]) < 0) {
+                    // downheap rightward
+                    swap(index, right);
+                    downheap(right);
+                }
+            }
+        } else if (left <= size) {
+            // case for one child
+            if (backingArray[left].compareTo(backingArray[index]) < 0) {
+                // downheap leftward
+                swap(index, left);
+                downheap(left);
+            }
+        }
+    }
+
+    /**
+     * Recursively upheaps a value, like MinHeap.upheap.
+     *
+     * @param index the index of the value to be upheaped
+     */
+    private void upheap(int index) {
+        // can't upheap from root
+        if (index > 1) {
+            int parent = index / 2;
+            if (backingArray[index].compareTo(backingArray[parent]) < 0) {
+                // upheap to parent
+                swap(index, parent);
+                upheap(parent);
+            }
+        }
+    }
+
+    /**
+     * Swaps the values at index a and b in the backingArray, and updates the
+     * positions of their handles.
+     *
+     * @param a the index to be swapped to index b
+     * @param b the index to be swapped to index a
+     */
+    private void swap(int a, int b) {
+        T temp = backingArray[a];
+        backingArray[a] = backingArray[b];
+        backingArray[b] = temp;
+
+        int tempHandle = handles[a];
+        handles[a] = handles[b];
+        handles[b] = tempHandle;
+        positions[handles[a]] = a;
+        positions[handles[b]] = b;
+    }
+
+    /**
+     * Replaces the backing arrays with empty ones of the given capacity.
+     *
+     * A heap of capacity c holds at most c - 1 items and so never has more
+     * than c - 1 handles in use.
+     *
+     * @param capacity the capacity of the new backing array
+     */
+    private void allocate(int capacity) {
+        backingArray = (T[]) new Comparable[capacity];
+        handles = new int[capacity];
+        positions = new int[capacity];
+        freeHandles = new int[capacity];
+    }
+
+    /**
+     * Copies the heap into backing arrays of a larger capacity.
+     *
+     * @param capacity the capacity of the new backing array
+     */
+    private void resize(int capacity) {
+        T[] oldArray = backingArray;
+        int[] oldHandles = handles;
+        int[] oldPositions = positions;
+        int[] oldFree = freeHandles;
+        allocate(capacity);
+        System.arraycopy(oldArray, 1, backingArray, 1, size);
+        System.arraycopy(oldHandles, 1, handles, 1, size);
+        System.arraycopy(oldPositions, 0, positions, 0, handleCount);
+        System.arraycopy(oldFree, 0, freeHandles, 0, freeCount);
+    }
+}
@@ -0,0 +1,138 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for IndexedMinHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IndexedMinHeapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testBuildHeapMatchesMinHeap() {
+        ArrayList<Integer> data = new ArrayList<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 50; i++) {
+            data.add(random.nextInt(100));
+        }
+        IndexedMinHeap<Integer> heap = new IndexedMinHeap<>(data);
+        assertArrayEquals(new MinHeap<>(data).getBackingArray(),
+                heap.getBackingArray());
+        for (int i = 0; i < data.size(); i++) {
+            assertEquals(data.get(i), heap.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesMap() {
+        IndexedMinHeap<Integer> heap = new IndexedMinHeap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(5);
+            if (op == 0 || expected.isEmpty()) {
+                int value = random.nextInt(1000);
+                int handle = heap.add(value);
+                assertFalse(expected.containsKey(handle));
+                expected.put(handle, value);
+            } else {
+                int handle = randomHandle(expected, random);
+                int value = expected.get(handle);
+                if (op == 1) {
+                    assertEquals((Integer) value, heap.remove(handle));
+                    expected.remove(handle);
+                } else if (op == 2) {
+                    heap.decreaseKey(handle, value - random.nextInt(50));
+                    expected.put(handle, heap.get(handle));
+                } else if (op == 3) {
+                    heap.increaseKey(handle, value + random.nextInt(50));
+                    expected.put(handle, heap.get(handle));
+                } else {
+                    int min = heap.getMinHandle();
+                    assertEquals(expected.remove(min), heap.remove());
+                }
+            }
+            assertEquals(expected.size(), heap.size());
+            if (!expected.isEmpty()) {
+                assertEquals(Collections.min(expected.values()),
+                        heap.getMin());
+                assertEquals(heap.getMin(), heap.get(heap.getMinHandle()));
+            }
+        }
+        for (int handle : expected.keySet()) {
+            assertTrue(heap.contains(handle));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testHandlesAreReused() {
+        IndexedMinHeap<String> heap = new IndexedMinHeap<>();
+        int a = heap.add("a");
+        int b = heap.add("b");
+        assertEquals("a", heap.remove(a));
+        assertFalse(heap.contains(a));
+        assertEquals(a, heap.add("c"));
+        assertEquals("c", heap.get(a));
+        assertEquals("b", heap.getMin());
+        assertEquals(b, heap.getMinHandle());
+
+        heap.clear();
+        assertFalse(heap.contains(b));
+        assertEquals(0, heap.add("d"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        IndexedMinHeap<Integer> heap = new IndexedMinHeap<>();
+        int handle = heap.add(5);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.decreaseKey(handle, 6));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.increaseKey(handle, 4));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.add(null));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> heap.remove(handle + 1));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> heap.get(-1));
+        heap.remove();
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> heap.decreaseKey(handle, 1));
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+        Assert.assertThrows(NoSuchElementException.class,
+                heap::getMinHandle);
+    }
+
+    /**
+     * Picks a random handle that is in use.
+     *
+     * @param expected the expected contents of the heap, by handle
+     * @param random   the source of randomness
+     * @return a handle in the heap
+     */
+    private static int randomHandle(Map<Integer, Integer> expected,
+            Random random) {
+        int skip = random.nextInt(expected.size());
+        for (int handle : expected.keySet()) {
+            if (skip-- == 0) {
+                return handle;
+            }
+        }
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,247 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A MinHeap of (long key, int value) entries that never boxes, like the
+ * (deadline, task id) pairs of a timer queue.
+ *
+ * Keys and values live in parallel long and int arrays, so adding an entry
+ * allocates nothing and every compare is a primitive long compare instead of
+ * a virtual compareTo on two objects. Entries are ordered by key alone.
+ *
+ * Indexing, the 2n + 1 BuildHeap capacity and doubling all work like
+ * MinHeap, and upheap and downheap pick the same child, so both heaps lay
+ * out the same keys the same way. Instead of swapping at every level,
+ * upheap and downheap carry the moving entry along in locals and write it
+ * once where it stops.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LongIntMinHeap {
+
+    /**
+     * The initial capacity of the heap when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = MinHeap.INITIAL_CAPACITY;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Constructs a new LongIntMinHeap.
+     *
+     * The backing arrays have an initial capacity of INITIAL_CAPACITY.
+     */
+    public LongIntMinHeap() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a properly ordered heap from a set of initial entries with the
+     * BuildHeap algorithm, downheaping every non-leaf from the bottom up.
+     *
+     * The backing arrays have capacity 2n + 1 where n is the number of
+     * entries. Index 0 stays empty and entry i of the arguments starts out at
+     * index i + 1.
+     *
+     * @param keys   the keys of the entries
+     * @param values the values of the entries, one for each key
+     * @throws java.lang.IllegalArgumentException if keys or values is null, or
+     *                                            their lengths differ
+     */
+    public LongIntMinHeap(long[] keys, int[] values) {
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing LongIntMinHeap with null array");
+        }
+
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Tried initializing "
+                    + "LongIntMinHeap with different numbers of keys and "
+                    + "values");
+        }
+
+        size = keys.length;
+        this.keys = new long[2 * size + 1];
+        this.values = new int[2 * size + 1];
+        System.arraycopy(keys, 0, this.keys, 1, size);
+        System.arraycopy(values, 0, this.values, 1, size);
+
+        // downheap all non-leaf entries
+        for (int i = size / 2; i > 0; i--) {
+            downheap(i, this.keys[i], this.values[i]);
+        }
+    }
+
+    /**
+     * Adds an entry to the heap. If the backing arrays are full (except for
+     * index 0), their capacity is doubled first.
+     *
+     * @param key   the key to order the entry by
+     * @param value the value of the entry
+     */
+    public void add(long key, int value) {
+        if (size + 1 == keys.length) {
+            long[] newKeys = new long[2 * keys.length];
+            int[] newValues = new int[2 * keys.length];
+            System.arraycopy(keys, 1, newKeys, 1, size);
+            System.arraycopy(values, 1, newValues, 1, size);
+            keys = newKeys;
+            values = newValues;
+        }
+
+        size++;
+        upheap(size, key, value);
+    }
+
+    /**
+     * Removes the entry with the minimum key and returns its value. Use
+     * getMin first to read its key.
+     *
+     * @return the value of the removed entry
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public int remove() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to remove from empty LongIntMinHeap");
+        }
+
+        int removed = values[1];
+        size--;
+        if (size > 0) {
+            // downheap the last entry from the root
+            downheap(1, keys[size + 1], values[size + 1]);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the minimum key in the heap.
+     *
+     * @return the minimum key
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public long getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty LongIntMinHeap");
+        }
+
+        return keys[1];
+    }
+
+    /**
+     * Returns the value of the entry with the minimum key.
+     *
+     * @return the value of the minimum entry
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public int getMinValue() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMinValue on empty LongIntMinHeap");
+        }
+
+        return values[1];
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     *
+     * Resets the backing arrays to new arrays of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of keys. Index 0 is unused, and indices past
+     * size may hold stale keys of removed entries.
+     *
+     * @return the backing array of keys
+     */
+    public long[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the backing array of values, parallel to getKeys().
+     *
+     * @return the backing array of values
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves an entry up from index, shifting every larger parent down one
+     * level, and writes it where it stops.
+     *
+     * @param index the index the entry starts at
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     */
+    private void upheap(int index, long key, int value) {
+        int cur = index;
+        while (cur > 1 && key < keys[cur / 2]) {
+            keys[cur] = keys[cur / 2];
+            values[cur] = values[cur / 2];
+            cur /= 2;
+        }
+        keys[cur] = key;
+        values[cur] = value;
+    }
+
+    /**
+     * Moves an entry down from index, shifting the smaller child up one
+     * level while it is less than the entry, and writes it where it stops.
+     * Ties between children go right, as in MinHeap.
+     *
+     * @param index the index the entry starts at
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     */
+    private void downheap(int index, long key, int value) {
+        int cur = index;
+        int child = 2 * cur;
+        while (child <= size) {
+            if (child < size && keys[child + 1] <= keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            keys[cur] = keys[child];
+            values[cur] = values[child];
+            cur = child;
+            child = 2 * cur;
+        }
+        keys[cur] = key;
+        values[cur] = value;
+    }
+}
@@ -0,0 +1,112 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LongIntMinHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LongIntMinHeapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testBuildHeapMatchesMinHeap() {
+        Random random = new Random(1332);
+        long[] keys = new long[100];
+        int[] values = new int[100];
+        ArrayList<Long> data = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            // few distinct keys, so ties between children come up often
+            keys[i] = random.nextInt(20);
+            values[i] = i;
+            data.add(keys[i]);
+        }
+        LongIntMinHeap heap = new LongIntMinHeap(keys, values);
+        MinHeap<Long> expected = new MinHeap<>(data);
+        assertEquals(201, heap.getKeys().length);
+        assertLayout(expected, heap);
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean() || heap.isEmpty()) {
+                long key = random.nextInt(20);
+                heap.add(key, i);
+                expected.add(key);
+            } else {
+                assertEquals((long) expected.getMin(), heap.getMin());
+                expected.remove();
+                heap.remove();
+            }
+            assertLayout(expected, heap);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveInKeyOrder() {
+        LongIntMinHeap heap = new LongIntMinHeap();
+        Random random = new Random(1332);
+        long[] keys = new long[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+            heap.add(keys[i], i);
+        }
+        assertEquals(1000, heap.size());
+        assertEquals(1664, heap.getKeys().length);
+
+        long[] removed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            removed[i] = heap.getMin();
+            int value = heap.getMinValue();
+            assertEquals(value, heap.remove());
+            // each value remembers the key it was added with
+            assertEquals(keys[value], removed[i]);
+        }
+        Arrays.sort(keys);
+        Assert.assertArrayEquals(keys, removed);
+        assertTrue(heap.isEmpty());
+
+        heap.clear();
+        assertEquals(LongIntMinHeap.INITIAL_CAPACITY,
+                heap.getKeys().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        LongIntMinHeap heap = new LongIntMinHeap();
+        Assert.assertThrows(NoSuchElementException.class, heap::remove);
+        Assert.assertThrows(NoSuchElementException.class, heap::getMin);
+        Assert.assertThrows(NoSuchElementException.class,
+                heap::getMinValue);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new LongIntMinHeap(null, new int[0]));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new LongIntMinHeap(new long[2], new int[1]));
+    }
+
+    /**
+     * Asserts that a LongIntMinHeap holds the same keys at the same indices
+     * as a MinHeap.
+     *
+     * @param expected the MinHeap
+     * @param actual   the LongIntMinHeap
+     */
+    private static void assertLayout(MinHeap<Long> expected,
+            LongIntMinHeap actual) {
+        assertEquals(expected.size(), actual.size());
+        // the backing array is really a Comparable[], not a Long[]
+        Object[] backingArray = expected.getBackingArray();
+        assertEquals(backingArray.length, actual.getKeys().length);
+        for (int i = 1; i <= expected.size(); i++) {
+            assertEquals(backingArray[i], actual.getKeys()[i]);
+        }
+    }
+}
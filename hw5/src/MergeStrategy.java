@@ -0,0 +1,24 @@
+/**
+ * How a MergingIterator picks the next smallest head among its sources.
+ * Both strategies return the same elements in the same order.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public enum MergeStrategy {
+    /**
+     * Keeps the sources in a binary min heap keyed by their heads, like
+     * MinHeap. Replacing the root's head downheaps it, comparing both
+     * children at every level, so an element costs up to 2 log2(k)
+     * compares.
+     */
+    HEAP,
+
+    /**
+     * Keeps the sources in a tournament tree where every internal node
+     * remembers the loser of the match played there. Replacing the winner's
+     * head replays only the matches on its path to the root, one compare
+     * per level, so an element costs log2(k) compares.
+     */
+    LOSER_TREE
+}
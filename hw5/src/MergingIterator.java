@@ -0,0 +1,259 @@
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges k sorted Iterators into one sorted Iterator, pulling from each
+ * source only when its current head has been returned. Merging spill files
+ * or per-shard results this way streams them in O(k) memory instead of
+ * concatenating and sorting everything.
+ *
+ * The current head of every source sits in an array, and the MergeStrategy
+ * decides how the sources are ordered by their heads. Equal heads come out
+ * in the order of their sources in the list, so the merge is stable. The
+ * output is only sorted if every source is.
+ *
+ * @param <T> the type of the elements
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class MergingIterator<T extends Comparable<? super T>>
+        implements Iterator<T> {
+
+    private final Iterator<? extends T>[] sources;
+    private final MergeStrategy strategy;
+
+    /**
+     * The current head of each source, or null once the source is used up.
+     */
+    private final T[] heads;
+
+    /**
+     * For HEAP, a 1-indexed min heap of the sources that still have a head.
+     * For LOSER_TREE, the loser of the match at each internal node 1 to
+     * k - 1, with the overall winner at index 0. Leaf i of the tree is
+     * source i at the implicit index k + i.
+     */
+    private final int[] tree;
+
+    /**
+     * For HEAP, the number of sources still in the heap. For LOSER_TREE, k.
+     */
+    private int size;
+
+    /**
+     * Constructs a new MergingIterator that uses a LOSER_TREE.
+     *
+     * @param sources the sorted iterators to merge
+     * @throws java.lang.IllegalArgumentException if sources or any iterator
+     *                                            in it is null
+     */
+    public MergingIterator(List<? extends Iterator<? extends T>> sources) {
+        this(sources, MergeStrategy.LOSER_TREE);
+    }
+
+    /**
+     * Constructs a new MergingIterator, pulling the first element of every
+     * source.
+     *
+     * @param sources  the sorted iterators to merge
+     * @param strategy how to pick the next smallest head
+     * @throws java.lang.IllegalArgumentException if sources, any iterator in
+     *                                            it, any first element or
+     *                                            strategy is null
+     */
+    public MergingIterator(List<? extends Iterator<? extends T>> sources,
+            MergeStrategy strategy) {
+        if (sources == null || strategy == null) {
+            throw new IllegalArgumentException("Tried to create a "
+                    + "MergingIterator with null sources or strategy");
+        }
+
+        int k = sources.size();
+        this.sources = (Iterator<? extends T>[]) new Iterator[k];
+        this.strategy = strategy;
+        heads = (T[]) new Comparable[k];
+        for (int i = 0; i < k; i++) {
+            if (sources.get(i) == null) {
+                throw new IllegalArgumentException(
+                        "Tried to create a MergingIterator with null source");
+            }
+            this.sources[i] = sources.get(i);
+            heads[i] = pull(i);
+        }
+
+        if (strategy == MergeStrategy.HEAP) {
+            tree = new int[k + 1];
+            for (int i = 0; i < k; i++) {
+                if (heads[i] != null) {
+                    tree[++size] = i;
+                }
+            }
+            // downheap all non-leaf sources
+            for (int i = size / 2; i > 0; i--) {
+                downheap(i);
+            }
+        } else {
+            tree = new int[Math.max(k, 1)];
+            size = k;
+            buildLoserTree();
+        }
+    }
+
+    /**
+     * Returns whether any source has an element left.
+     *
+     * @return true if next will return an element, false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        if (strategy == MergeStrategy.HEAP) {
+            return size > 0;
+        }
+        return size > 0 && heads[tree[0]] != null;
+    }
+
+    /**
+     * Returns the smallest head of all sources and pulls the next element
+     * from its source.
+     *
+     * @return the next element of the merge
+     * @throws java.util.NoSuchElementException   if every source is used up
+     * @throws java.lang.IllegalArgumentException if the source returns null
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException(
+                    "Tried to call next on empty MergingIterator");
+        }
+
+        if (strategy == MergeStrategy.HEAP) {
+            int winner = tree[1];
+            T next = heads[winner];
+            heads[winner] = pull(winner);
+            if (heads[winner] == null) {
+                // source used up, so move the last source to the root
+                tree[1] = tree[size];
+                size--;
+            }
+            if (size > 0) {
+                downheap(1);
+            }
+            return next;
+        }
+
+        int winner = tree[0];
+        T next = heads[winner];
+        heads[winner] = pull(winner);
+        replay(winner);
+        return next;
+    }
+
+    /**
+     * Returns the next element of a source.
+     *
+     * @param source the index of the source
+     * @return the next element, or null if the source is used up
+     * @throws java.lang.IllegalArgumentException if the source returns null
+     */
+    private T pull(int source) {
+        if (!sources[source].hasNext()) {
+            return null;
+        }
+        T data = sources[source].next();
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to merge null data in MergingIterator");
+        }
+        return data;
+    }
+
+    /**
+     * Returns whether source a's head comes before source b's. A used up
+     * source comes after every other, and equal heads go by source index.
+     *
+     * @param a the index of a source
+     * @param b the index of another source
+     * @return true if a's head is returned first
+     */
+    private boolean before(int a, int b) {
+        T headA = heads[a];
+        T headB = heads[b];
+        if (headA == null || headB == null) {
+            return headB == null && (headA != null || a < b);
+        }
+        int compare = headA.compareTo(headB);
+        return compare < 0 || compare == 0 && a < b;
+    }
+
+    /**
+     * Moves the source at index down the heap, shifting the smaller child up
+     * one level while its head comes first, and writes it where it stops.
+     *
+     * @param index the index the source starts at
+     */
+    private void downheap(int index) {
+        int source = tree[index];
+        int cur = index;
+        int child = 2 * cur;
+        while (child <= size) {
+            if (child < size && before(tree[child + 1], tree[child])) {
+                child++;
+            }
+            if (!before(tree[child], source)) {
+                break;
+            }
+            tree[cur] = tree[child];
+            cur = child;
+            child = 2 * cur;
+        }
+        tree[cur] = source;
+    }
+
+    /**
+     * Plays every match of the loser tree from the leaves up, keeping the
+     * loser at each internal node and the overall winner at index 0.
+     */
+    private void buildLoserTree() {
+        int k = size;
+        if (k == 0) {
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node > 0; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (before(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+
+    /**
+     * Replays the matches on the path from a source's leaf to the root
+     * after its head changed. At each node the new head plays the stored
+     * loser, the loser stays and the winner moves up.
+     *
+     * @param source the index of the source whose head changed
+     */
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (size + source) / 2; node > 0; node /= 2) {
+            if (before(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+}
@@ -0,0 +1,155 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for MergingIterator.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class MergingIteratorTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testMergeMatchesSort() {
+        Random random = new Random(1332);
+        for (MergeStrategy strategy : MergeStrategy.values()) {
+            // every k from 0 to 20, so uneven loser trees come up
+            for (int k = 0; k <= 20; k++) {
+                List<List<Integer>> runs = new ArrayList<>();
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < k; i++) {
+                    // some runs are empty
+                    List<Integer> run = new ArrayList<>();
+                    int length = random.nextInt(30);
+                    for (int j = 0; j < length; j++) {
+                        run.add(random.nextInt(50));
+                    }
+                    Collections.sort(run);
+                    runs.add(run);
+                    expected.addAll(run);
+                }
+                Collections.sort(expected);
+                assertEquals(expected, drain(merge(runs, strategy)));
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStable() {
+        // equal heads come out in the order of their sources
+        String[] a = {new String("b"), new String("c"), new String("c")};
+        String[] b = {new String("b"), new String("c")};
+        String[] c = {new String("a"), new String("c")};
+        for (MergeStrategy strategy : MergeStrategy.values()) {
+            List<Iterator<String>> sources = List.of(
+                    Arrays.asList(a).iterator(), Arrays.asList(b).iterator(),
+                    Arrays.asList(c).iterator());
+            MergingIterator<String> merge =
+                    new MergingIterator<>(sources, strategy);
+            String[] expected = {c[0], a[0], b[0], a[1], a[2], b[1], c[1]};
+            for (String value : expected) {
+                assertSame(value, merge.next());
+            }
+            assertFalse(merge.hasNext());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLazy() {
+        List<Integer> pulled = new ArrayList<>();
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int source = i;
+            sources.add(new Iterator<Integer>() {
+                private int next = source;
+
+                @Override
+                public boolean hasNext() {
+                    return next < 300;
+                }
+
+                @Override
+                public Integer next() {
+                    pulled.add(next);
+                    int value = next;
+                    next += 3;
+                    return value;
+                }
+            });
+        }
+
+        MergingIterator<Integer> merge = new MergingIterator<>(sources);
+        // only the first element of every source
+        assertEquals(List.of(0, 1, 2), pulled);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) merge.next());
+            // one element pulled per element returned
+            assertEquals(4 + i, pulled.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MergingIterator<Integer>(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MergingIterator<Integer>(List.of(), null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MergingIterator<Integer>(
+                        Arrays.asList((Iterator<Integer>) null)));
+
+        for (MergeStrategy strategy : MergeStrategy.values()) {
+            MergingIterator<Integer> merge = merge(
+                    List.of(Arrays.asList(1, null)), strategy);
+            Assert.assertThrows(IllegalArgumentException.class, merge::next);
+
+            MergingIterator<Integer> empty = merge(List.of(), strategy);
+            assertFalse(empty.hasNext());
+            Assert.assertThrows(NoSuchElementException.class, empty::next);
+        }
+    }
+
+    /**
+     * Merges lists.
+     *
+     * @param runs     the sorted lists to merge
+     * @param strategy the strategy to merge with
+     * @return the iterator over the merge
+     */
+    private static MergingIterator<Integer> merge(List<List<Integer>> runs,
+            MergeStrategy strategy) {
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        for (List<Integer> run : runs) {
+            sources.add(run.iterator());
+        }
+        return new MergingIterator<>(sources, strategy);
+    }
+
+    /**
+     * Returns every remaining element of an iterator.
+     *
+     * @param iterator the iterator
+     * @return the elements in order
+     */
+    private static List<Integer> drain(Iterator<Integer> iterator) {
+        List<Integer> list = new ArrayList<>();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+}
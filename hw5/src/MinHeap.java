@@ -13,7 +13,8 @@ import java.util.NoSuchElementException;
  *
  * Resources: N/A
  */
-public class MinHeap<T extends Comparable<? super T>> {
+public class MinHeap<T extends Comparable<? super T>>
+        implements PriorityHeap<T> {
 
     /**
      * The initial capacity of the MinHeap when created with the default
@@ -37,6 +38,26 @@ public class MinHeap<T extends Comparable<? super T>> {
         size = 0;
     }
 
+    /**
+     * Constructs a new MinHeap that holds capacity items before it has to
+     * resize.
+     *
+     * The backing array has length capacity + 1, since index 0 stays empty.
+     *
+     * @param capacity the number of items to make room for
+     * @throws java.lang.IllegalArgumentException if capacity is negative or
+     *                                            Integer.MAX_VALUE
+     */
+    public MinHeap(int capacity) {
+        if (capacity < 0 || capacity == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Tried to create a MinHeap with capacity " + capacity);
+        }
+
+        backingArray = (T[]) new Comparable[capacity + 1];
+        size = 0;
+    }
+
     /**
      * Creates a properly ordered heap from a set of initial values.
      *
@@ -91,6 +112,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      * @param data the data to add
      * @throws java.lang.IllegalArgumentException if data is null
      */
+    @Override
     public void add(T data) {
         if (data == null) {
             throw new IllegalArgumentException(
@@ -122,6 +144,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      * @return the data that was removed
      * @throws java.util.NoSuchElementException if the heap is empty
      */
+    @Override
     public T remove() {
         if (size == 0) {
             throw new NoSuchElementException(
@@ -142,6 +165,35 @@ public class MinHeap<T extends Comparable<? super T>> {
         return removed;
     }
 
+    /**
+     * Removes and returns the min item of the heap and adds data in its
+     * place. The heap ends up holding the same items as after remove()
+     * followed by add(data), but it only downheaps once from the root and
+     * never changes the size or capacity of the backing array.
+     *
+     * @param data the data to add
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if the heap is empty
+     */
+    public T replaceMin(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to MinHeap");
+        }
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to replaceMin on empty MinHeap");
+        }
+
+        // put new value at root and downheap it into place
+        T removed = backingArray[1];
+        backingArray[1] = data;
+        downheap(1);
+
+        return removed;
+    }
+
     /**
      * Recursively downheaps a value in the Heap in order to rectify order
      * problems in the MinHeap. Downheaps the value in the case that the minimum
@@ -219,6 +271,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      * @return the minimum element
      * @throws java.util.NoSuchElementException if the heap is empty
      */
+    @Override
     public T getMin() {
         if (size == 0) {
             throw new NoSuchElementException(
@@ -233,6 +286,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      *
      * @return true if empty, false otherwise
      */
+    @Override
     public boolean isEmpty() {
         return size == 0;
     }
@@ -243,6 +297,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      * Resets the backing array to a new array of the initial capacity and
      * resets the size.
      */
+    @Override
     public void clear() {
         backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
         size = 0;
@@ -269,6 +324,7 @@ public class MinHeap<T extends Comparable<? super T>> {
      *
      * @return the size of the list
      */
+    @Override
     public int size() {
         // DO NOT MODIFY THIS METHOD!
         return size;
@@ -1,4 +1,7 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -76,60 +79,81 @@ public class MinHeapIterative<T extends Comparable<? super T>> {
             }
             backingArray[i + 1] = data.get(i);
         }
-        
-        // downheap all nodes that aren't leaves
-        for (int i = size / 2; i > 0; i--) {
-            int cur = i;
 
-            while (cur <= size) {
-                System.out.println(cur);
-                int left = 2 * cur;
-                int right = 2 * cur + 1;
+        buildHeap();
+    }
 
-                if (left <= size && right <= size) {
-                    // case for two children
-                    if (backingArray[left].compareTo(backingArray[right]) < 0) {
-                        if (backingArray[left]
-                                .compareTo(backingArray[cur]) < 0) {
-                            // downheap leftward
-                            T temp = backingArray[cur];
-                            backingArray[cur] = backingArray[left];
-                            backingArray[left] = temp;
-                            cur = left;
-                        } else {
-                            cur = size + 1;
-                        }
-                    } else {
-                        if (backingArray[right]
-                                .compareTo(backingArray[cur]) < 0) { 
-                            //downheap rightward
-                            T temp = backingArray[cur];
-                            backingArray[cur] = backingArray[right];
-                            backingArray[right] = temp;
-                            cur = right;
-                        } else {
-                            cur = size + 1;
-                        }
-                    }
-                } else if (left <= size) {
-                    // case for one child
-                    if (backingArray[left].compareTo(backingArray[cur]) < 0) {
-                        // downheap leftward
-                        T temp = backingArray[cur];
-                        backingArray[cur] = backingArray[left];
-                        backingArray[left] = temp;
-                        cur = left;
-                    } else {
-                        cur = size + 1;
-                    }
-                } else {
-                    // case for no children
-                    cur = size + 1;
-                }
+    /**
+     * Creates a properly ordered heap from an array of initial values with
+     * the same BuildHeap algorithm and capacity as the ArrayList constructor.
+     *
+     * @param data an array of data to initialize the heap with
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public MinHeapIterative(T[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing MinHeap with null array");
+        }
 
-            }
+        backingArray = (T[]) new Comparable[2 * data.length + 1];
+        size = data.length;
+        System.arraycopy(data, 0, backingArray, 1, size);
+        checkNoNulls();
+        buildHeap();
+    }
 
+    /**
+     * Creates a properly ordered heap from a Collection of initial values,
+     * in the order its iterator returns them, with the same BuildHeap
+     * algorithm and capacity as the ArrayList constructor.
+     *
+     * @param data a collection of data to initialize the heap with
+     * @throws java.lang.IllegalArgumentException if data or any element in data
+     *                                            is null
+     */
+    public MinHeapIterative(Collection<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing MinHeap with null Collection");
         }
+
+        Object[] copy = data.toArray();
+        backingArray = (T[]) new Comparable[2 * copy.length + 1];
+        size = copy.length;
+        System.arraycopy(copy, 0, backingArray, 1, size);
+        checkNoNulls();
+        buildHeap();
+    }
+
+    /**
+     * Creates a properly ordered heap from the values an Iterator returns,
+     * with the same BuildHeap algorithm and capacity as the ArrayList
+     * constructor. The values are read into a backing array that doubles as
+     * needed, which is then trimmed to capacity 2n + 1.
+     *
+     * @param data an iterator over the data to initialize the heap with
+     * @throws java.lang.IllegalArgumentException if data or any element it
+     *                                            returns is null
+     */
+    public MinHeapIterative(Iterator<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried initializing MinHeap with null Iterator");
+        }
+
+        backingArray = (T[]) new Comparable[INITIAL_CAPACITY];
+        while (data.hasNext()) {
+            if (size + 1 == backingArray.length) {
+                backingArray = Arrays.copyOf(backingArray,
+                        2 * backingArray.length);
+            }
+            backingArray[++size] = data.next();
+        }
+        backingArray = Arrays.copyOf(backingArray, 2 * size + 1);
+        checkNoNulls();
+        buildHeap();
     }
 
     /**
@@ -194,55 +218,65 @@ public class MinHeapIterative<T extends Comparable<? super T>> {
         size--;
 
         if (size > 0) {
-            int cur = 1;
-            while (cur <= size) {
-                int left = 2 * cur;
-                int right = 2 * cur + 1;
+            downheap(1);
+        }
+        return removed;
+    }
 
-                if (left <= size && right <= size) {
-                    // case for two children
-                    if (backingArray[left].compareTo(backingArray[right]) < 0) {
-                        if (backingArray[left]
-                                .compareTo(backingArray[cur]) < 0) {
-                            // downheap leftward
-                            T temp = backingArray[cur];
-                            backingArray[cur] = backingArray[left];
-                            backingArray[left] = temp;
-                            cur = left;
-                        } else {
-                            return removed;
-                        }
-                    } else {
-                        if (backingArray[right]
-                                .compareTo(backingArray[cur]) < 0) {
-                            // downheap rightward
-                            T temp = backingArray[cur];
-                            backingArray[cur] = backingArray[right];
-                            backingArray[right] = temp;
-                            cur = right;
-                        } else {
-                            return removed;
-                        }
-                    }
-                } else if (left <= size) {
-                    // case for one child
-                    if (backingArray[left].compareTo(backingArray[cur]) < 0) {
-                        // downheap leftward
-                        T temp = backingArray[cur];
-                        backingArray[cur] = backingArray[left];
-                        backingArray[left] = temp;
-                        cur = left;
-                    } else {
-                        return removed;
-                    }
-                }
-                return removed;
+    /**
+     * Checks the values copied into indices 1 to size of the backing array
+     * for nulls.
+     *
+     * @throws java.lang.IllegalArgumentException if any of them is null
+     */
+    private void checkNoNulls() {
+        for (int i = 1; i <= size; i++) {
+            if (backingArray[i] == null) {
+                throw new IllegalArgumentException(
+                        "Tried initializing MinHeap with null data");
             }
         }
-        return removed;
     }
-    
 
+    /**
+     * Orders the values in indices 1 to size of the backing array with
+     * Floyd's bottom-up BuildHeap, downheaping every non-leaf from the last
+     * one up to the root. That is O(n), against O(n log n) for adding the
+     * values one at a time.
+     */
+    private void buildHeap() {
+        for (int i = size / 2; i > 0; i--) {
+            downheap(i);
+        }
+    }
+
+    /**
+     * Iteratively downheaps the value at index. Rather than swapping at every
+     * level, the value is held aside while the smaller child of the hole it
+     * left moves up into it, and is written once into the hole where it
+     * stops. Ties between children go right, as in MinHeap, so both classes
+     * build the same heap from the same data.
+     *
+     * @param index the index of the value to be downheaped
+     */
+    private void downheap(int index) {
+        T data = backingArray[index];
+        int cur = index;
+        int child = 2 * cur;
+        while (child <= size) {
+            if (child < size && backingArray[child + 1]
+                    .compareTo(backingArray[child]) <= 0) {
+                child++;
+            }
+            if (backingArray[child].compareTo(data) >= 0) {
+                break;
+            }
+            backingArray[cur] = backingArray[child];
+            cur = child;
+            child = 2 * cur;
+        }
+        backingArray[cur] = data;
+    }
 
     /**
      * Returns the minimum element in the heap.
@@ -0,0 +1,79 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for MinHeapIterative.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class MinHeapIterativeTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testEveryBuildMatchesMinHeap() {
+        Random random = new Random(1332);
+        ArrayList<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // few distinct values, so ties between children come up often
+            data.add(random.nextInt(20));
+        }
+        Object[] expected = new MinHeap<>(data).getBackingArray();
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed));
+        try {
+            assertArrayEquals(expected,
+                    new MinHeapIterative<>(data).getBackingArray());
+        } finally {
+            System.setOut(out);
+        }
+        assertEquals(0, printed.size());
+
+        assertArrayEquals(expected, new MinHeapIterative<>(
+                data.toArray(new Integer[0])).getBackingArray());
+        assertArrayEquals(expected, new MinHeapIterative<>(
+                new ArrayDeque<>(data)).getBackingArray());
+        assertArrayEquals(expected, new MinHeapIterative<>(
+                data.iterator()).getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveDownheapsAllTheWay() {
+        Random random = new Random(1332);
+        Integer[] data = new Integer[500];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+        }
+        MinHeapIterative<Integer> heap = new MinHeapIterative<>(data);
+        Arrays.sort(data);
+        for (Integer value : data) {
+            assertEquals(value, heap.remove());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBuildRejectsNulls() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MinHeapIterative<>(new Integer[] {1, null}));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MinHeapIterative<>(
+                        Arrays.asList(1, null).iterator()));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MinHeapIterative<>((Integer[]) null));
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Runs the PriorityHeap tests on MinHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class MinHeapTest extends AbstractPriorityHeapTest {
+
+    @Override
+    protected PriorityHeap<Integer> createHeap() {
+        return new MinHeap<>();
+    }
+}
@@ -0,0 +1,217 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A pointer-based heap that can meld two heaps in O(1), which the
+ * array-backed MinHeap can only do by adding every element of one to the
+ * other.
+ *
+ * Every node keeps a pointer to its first child and to its next sibling.
+ * add and meld link two roots with one compare, making the larger root the
+ * first child of the smaller. remove takes the root and combines its
+ * children with the two-pass pairing rule: link them in pairs from left to
+ * right, then link the pairs into one tree from right to left. That is
+ * O(log n) amortized, and the work add and meld skipped is paid there.
+ *
+ * Both passes are loops rather than recursion, since a root can have
+ * millions of children after a run of adds.
+ *
+ * @param <T> the type of the data
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class PairingHeap<T extends Comparable<? super T>>
+        implements PriorityHeap<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * A node of the heap.
+     *
+     * @param <T> the type of the data
+     */
+    private static final class Node<T> {
+        private final T data;
+        private Node<T> child;
+        private Node<T> sibling;
+
+        /**
+         * Constructs a node with no children or siblings.
+         *
+         * @param data the data of the node
+         */
+        Node(T data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * Adds an item to the heap in O(1) by linking it with the root.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public void add(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to PairingHeap");
+        }
+
+        root = root == null ? new Node<>(data) : link(root, new Node<>(data));
+        size++;
+    }
+
+    /**
+     * Moves every item of another PairingHeap into this one in O(1) by
+     * linking the two roots. The other heap is left empty.
+     *
+     * @param other the heap to meld into this one
+     * @throws java.lang.IllegalArgumentException if other is null or is this
+     *                                            heap
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException(
+                    "Tried to meld PairingHeap with null or itself");
+        }
+
+        if (other.root != null) {
+            root = root == null ? other.root : link(root, other.root);
+            size += other.size;
+            other.root = null;
+            other.size = 0;
+        }
+    }
+
+    /**
+     * Removes and returns the min item of the heap, pairing up the root's
+     * children into the new root.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    @Override
+    public T remove() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to remove from empty PairingHeap");
+        }
+
+        T removed = root.data;
+        root = combine(root.child);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the minimum element in the heap.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty PairingHeap");
+        }
+
+        return root.data;
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap.
+     */
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Links two roots without siblings, making the larger one the first
+     * child of the smaller. Of equal roots, a stays on top.
+     *
+     * @param a a root
+     * @param b another root
+     * @return the root of the linked tree
+     */
+    private static <T extends Comparable<? super T>> Node<T> link(Node<T> a,
+            Node<T> b) {
+        Node<T> parent = a;
+        Node<T> child = b;
+        if (b.data.compareTo(a.data) < 0) {
+            parent = b;
+            child = a;
+        }
+        child.sibling = parent.child;
+        parent.child = child;
+        return parent;
+    }
+
+    /**
+     * Combines a list of siblings into one tree with the two-pass pairing
+     * rule.
+     *
+     * @param first the first sibling, or null
+     * @return the root of the combined tree, or null if there were none
+     */
+    private static <T extends Comparable<? super T>> Node<T> combine(
+            Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // link pairs left to right, stacking the results through sibling
+        Node<T> stack = null;
+        Node<T> cur = first;
+        while (cur != null) {
+            Node<T> a = cur;
+            Node<T> b = cur.sibling;
+            if (b == null) {
+                a.sibling = stack;
+                stack = a;
+                break;
+            }
+            cur = b.sibling;
+            a.sibling = null;
+            b.sibling = null;
+            Node<T> pair = link(a, b);
+            pair.sibling = stack;
+            stack = pair;
+        }
+
+        // link the pairs right to left, the rightmost being on top
+        Node<T> result = stack;
+        stack = stack.sibling;
+        result.sibling = null;
+        while (stack != null) {
+            Node<T> next = stack.sibling;
+            stack.sibling = null;
+            result = link(stack, result);
+            stack = next;
+        }
+        return result;
+    }
+}
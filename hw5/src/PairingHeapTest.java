@@ -0,0 +1,81 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for PairingHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class PairingHeapTest extends AbstractPriorityHeapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected PriorityHeap<Integer> createHeap() {
+        return new PairingHeap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMeld() {
+        Random random = new Random(1332);
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int h = 0; h < 20; h++) {
+            PairingHeap<Integer> other = new PairingHeap<>();
+            // the first heap melded in is empty
+            for (int i = 0; i < h * 10; i++) {
+                int value = random.nextInt(1000);
+                other.add(value);
+                expected.add(value);
+            }
+            if (h % 2 == 0) {
+                heap.meld(other);
+                assertTrue(other.isEmpty());
+            } else {
+                // meld into the other heap, then take it over
+                other.meld(heap);
+                assertTrue(heap.isEmpty());
+                heap = other;
+            }
+            assertEquals(expected.size(), heap.size());
+            // mix removes in, so melds also land on paired-up trees
+            if (!expected.isEmpty()) {
+                assertEquals(expected.remove(), heap.remove());
+            }
+        }
+
+        while (!expected.isEmpty()) {
+            assertEquals(expected.remove(), heap.remove());
+        }
+        assertEquals(0, heap.size());
+    }
+
+    @Test(timeout = 2000)
+    public void testLongChildList() {
+        // a million adds of descending data make a root with a million
+        // children, which recursion could not pair up
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        for (int i = 1000000; i > 0; i--) {
+            heap.add(i);
+        }
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals((Integer) i, heap.remove());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMeldExceptions() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.meld(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.meld(heap));
+    }
+}
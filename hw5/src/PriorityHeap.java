@@ -0,0 +1,56 @@
+/**
+ * The public API shared by MinHeap and its alternative priority queue
+ * implementations, so callers and benchmarks can pick one per workload.
+ *
+ * Data may never be null. See MinHeap for the full contract of each
+ * method.
+ *
+ * @param <T> the type of the data
+ * @author Henry Liao
+ * @version 1.0
+ */
+public interface PriorityHeap<T extends Comparable<? super T>> {
+
+    /**
+     * Adds an item to the heap.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    void add(T data);
+
+    /**
+     * Removes and returns the min item of the heap.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    T remove();
+
+    /**
+     * Returns the minimum element in the heap.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    T getMin();
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Clears the heap.
+     */
+    void clear();
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    int size();
+}
@@ -0,0 +1,247 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A monotone priority queue of int priorities, for workloads such as
+ * Dijkstra's algorithm with integer weights or a timer wheel where an item
+ * is never added below the last one removed.
+ *
+ * Items are kept unsorted in 33 buckets, all relative to last, the most
+ * recently removed minimum. Bucket 0 holds the items equal to last, and
+ * bucket i holds the items whose highest bit that differs from last is bit
+ * i - 1. remove takes from bucket 0. When bucket 0 is empty, the first
+ * non-empty bucket is scanned for its minimum, which becomes the new last,
+ * and its items are spread over the buckets below it. An item can only
+ * move down, so it is moved at most 32 times in all, and add and remove
+ * cost O(1) and amortized O(log C) with no compares between items.
+ *
+ * Priorities live in int arrays, so add(int) and removeInt() never box.
+ * The PriorityHeap methods box and unbox around them.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class RadixHeap implements PriorityHeap<Integer> {
+
+    /**
+     * The initial capacity of each bucket.
+     */
+    public static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private static final int BUCKET_COUNT = Integer.SIZE + 1;
+
+    private int[][] buckets;
+    private int[] counts;
+    private int last;
+    private int size;
+
+    /**
+     * Constructs a new, empty RadixHeap that accepts any int.
+     */
+    public RadixHeap() {
+        clear();
+    }
+
+    /**
+     * Adds an item to the heap.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is less than the
+     *                                            last removed item
+     */
+    public void add(int data) {
+        if (data < last) {
+            throw new IllegalArgumentException("Tried to add " + data
+                    + " below the last removed item " + last
+                    + " in RadixHeap");
+        }
+
+        push(bucket(data), data);
+        size++;
+    }
+
+    /**
+     * Adds an item to the heap.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null or less than
+     *                                            the last removed item
+     */
+    @Override
+    public void add(Integer data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null data to RadixHeap");
+        }
+
+        add(data.intValue());
+    }
+
+    /**
+     * Removes and returns the min item of the heap.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    public int removeInt() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to remove from empty RadixHeap");
+        }
+
+        if (counts[0] == 0) {
+            redistribute();
+        }
+        counts[0]--;
+        size--;
+        return last;
+    }
+
+    /**
+     * Removes and returns the min item of the heap.
+     *
+     * @return the data that was removed
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    @Override
+    public Integer remove() {
+        return removeInt();
+    }
+
+    /**
+     * Returns the minimum element in the heap. If no item equals the last
+     * removed one, this scans the first non-empty bucket.
+     *
+     * @return the minimum element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    @Override
+    public Integer getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Tried to getMin on empty RadixHeap");
+        }
+
+        if (counts[0] > 0) {
+            return last;
+        }
+        int i = firstNonEmpty();
+        return min(buckets[i], counts[i]);
+    }
+
+    /**
+     * Returns whether or not the heap is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the heap, so it accepts any int again.
+     *
+     * Resets every bucket to INITIAL_BUCKET_CAPACITY and resets the size.
+     */
+    @Override
+    public void clear() {
+        buckets = new int[BUCKET_COUNT][INITIAL_BUCKET_CAPACITY];
+        counts = new int[BUCKET_COUNT];
+        last = Integer.MIN_VALUE;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the heap.
+     *
+     * @return the size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the smallest item add will accept, the last removed item.
+     *
+     * @return the last removed item, or Integer.MIN_VALUE if none has been
+     *         removed since the heap was created or cleared
+     */
+    public int getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the bucket of an item relative to last. Flipping the sign bit
+     * of both sides would not change their XOR, so the highest differing
+     * bit orders negative items below positive ones as well.
+     *
+     * @param data an item no less than last
+     * @return the index of its bucket
+     */
+    private int bucket(int data) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(data ^ last);
+    }
+
+    /**
+     * Appends an item to a bucket, doubling the bucket first if it is full.
+     *
+     * @param i    the index of the bucket
+     * @param data the item
+     */
+    private void push(int i, int data) {
+        int[] bucket = buckets[i];
+        if (counts[i] == bucket.length) {
+            int[] newBucket = new int[2 * bucket.length];
+            System.arraycopy(bucket, 0, newBucket, 0, counts[i]);
+            buckets[i] = newBucket;
+            bucket = newBucket;
+        }
+        bucket[counts[i]++] = data;
+    }
+
+    /**
+     * Makes the minimum of the first non-empty bucket the new last and
+     * spreads that bucket's items over the buckets below it. Must only be
+     * called when bucket 0 is empty and the heap is not.
+     */
+    private void redistribute() {
+        int i = firstNonEmpty();
+        int[] bucket = buckets[i];
+        int count = counts[i];
+        last = min(bucket, count);
+        counts[i] = 0;
+        for (int j = 0; j < count; j++) {
+            push(bucket(bucket[j]), bucket[j]);
+        }
+    }
+
+    /**
+     * Returns the index of the first non-empty bucket. Must only be called
+     * when the heap is not empty.
+     *
+     * @return the index of the first non-empty bucket
+     */
+    private int firstNonEmpty() {
+        int i = 0;
+        while (counts[i] == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the minimum of the first count items of a bucket.
+     *
+     * @param bucket the bucket
+     * @param count  the number of items in it, at least 1
+     * @return the minimum item
+     */
+    private static int min(int[] bucket, int count) {
+        int min = bucket[0];
+        for (int j = 1; j < count; j++) {
+            min = Math.min(min, bucket[j]);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,60 @@
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for RadixHeap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class RadixHeapTest extends AbstractPriorityHeapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected PriorityHeap<Integer> createHeap() {
+        return new RadixHeap();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPrimitiveMethods() {
+        RadixHeap heap = new RadixHeap();
+        assertEquals(Integer.MIN_VALUE, heap.getLast());
+        int[] values = {7, -3, 7, Integer.MAX_VALUE, 0, Integer.MIN_VALUE,
+            12};
+        for (int value : values) {
+            heap.add(value);
+        }
+
+        int[] expected = {Integer.MIN_VALUE, -3, 0, 7, 7, 12,
+            Integer.MAX_VALUE};
+        for (int value : expected) {
+            assertEquals(value, heap.removeInt());
+            assertEquals(value, heap.getLast());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMonotone() {
+        RadixHeap heap = new RadixHeap();
+        heap.add(10);
+        heap.add(20);
+        assertEquals(10, heap.removeInt());
+
+        // getMin does not move the floor, only remove does
+        assertEquals((Integer) 20, heap.getMin());
+        heap.add(10);
+        heap.add(15);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.add(9));
+        assertEquals(10, heap.removeInt());
+        assertEquals(15, heap.removeInt());
+        assertEquals(20, heap.removeInt());
+
+        heap.clear();
+        heap.add(Integer.MIN_VALUE);
+        assertEquals(Integer.MIN_VALUE, heap.removeInt());
+    }
+}
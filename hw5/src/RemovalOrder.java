@@ -0,0 +1,23 @@
+/**
+ * Which element a ConcurrentMinHeap hands to remove.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public enum RemovalOrder {
+    /**
+     * Removes the smallest element. remove reads the minimum of every
+     * sub-heap, locks the sub-heap with the smallest and checks that its
+     * minimum has not changed before taking it. With no adds running at the
+     * same time, every remove returns the minimum of the whole heap.
+     */
+    STRICT,
+
+    /**
+     * Removes a small element, MultiQueue style: remove samples the minimums
+     * of two random sub-heaps and takes the smaller one. Elements come out
+     * close to sorted order rather than exactly in it, and in exchange
+     * concurrent removes almost never wait for the same lock.
+     */
+    RELAXED
+}
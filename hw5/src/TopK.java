@@ -0,0 +1,158 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the k largest items of a stream of any length in O(k) memory.
+ *
+ * The items kept so far sit in a MinHeap, so the smallest of them, the one
+ * a new item has to beat, is always at the root. Most items of a long
+ * stream lose to it and cost a single compare. An item that wins takes the
+ * root's place through MinHeap.replaceMin, one downheap instead of a
+ * remove and an add. The heap is sized for k items up front, so it never
+ * resizes.
+ *
+ * Each thread of a parallel job can fill its own TopK and the partial
+ * results can then be combined with merge.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class TopK<T extends Comparable<? super T>> {
+
+    private final int k;
+    private MinHeap<T> heap;
+
+    /**
+     * Constructs a new, empty TopK.
+     *
+     * @param k the number of items to keep
+     * @throws java.lang.IllegalArgumentException if k is less than 1 or
+     *                                            Integer.MAX_VALUE
+     */
+    public TopK(int k) {
+        if (k < 1 || k == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Tried to create a TopK with k " + k);
+        }
+
+        this.k = k;
+        heap = new MinHeap<>(k);
+    }
+
+    /**
+     * Offers an item to the TopK. The item is kept if fewer than k items are
+     * kept or it is greater than the smallest kept item, which it then
+     * replaces. Of equal items the ones offered first are kept.
+     *
+     * @param data the item to offer
+     * @return true if the item was kept, false otherwise
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException(
+                    "Tried to offer null data to TopK");
+        }
+
+        if (heap.size() < k) {
+            heap.add(data);
+            return true;
+        }
+        if (data.compareTo(heap.getMin()) > 0) {
+            heap.replaceMin(data);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Offers every item kept by another TopK to this one, leaving the other
+     * one unchanged. Afterwards this TopK holds the k largest items of both
+     * streams, so partial results can be merged in any order.
+     *
+     * @param other the TopK to merge into this one
+     * @throws java.lang.IllegalArgumentException if other is null or is this
+     *                                            TopK
+     */
+    public void merge(TopK<? extends T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException(
+                    "Tried to merge TopK with null or itself");
+        }
+
+        T[] items = other.heap.getBackingArray();
+        for (int i = 1; i <= other.heap.size(); i++) {
+            offer(items[i]);
+        }
+    }
+
+    /**
+     * Returns the smallest kept item, the one the next item offered has to
+     * beat once k items are kept.
+     *
+     * @return the smallest kept item
+     * @throws java.util.NoSuchElementException if no items are kept
+     */
+    public T getMin() {
+        return heap.getMin();
+    }
+
+    /**
+     * Returns the kept items from largest to smallest, leaving them kept.
+     *
+     * @return a new list of the kept items in descending order
+     */
+    public List<T> toSortedList() {
+        T[] items = heap.getBackingArray();
+        List<T> list = new ArrayList<>(heap.size());
+        for (int i = 1; i <= heap.size(); i++) {
+            list.add(items[i]);
+        }
+        list.sort(Collections.reverseOrder());
+        return list;
+    }
+
+    /**
+     * Returns whether or not any items are kept.
+     *
+     * @return true if no items are kept, false otherwise
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Forgets every kept item.
+     */
+    public void clear() {
+        heap = new MinHeap<>(k);
+    }
+
+    /**
+     * Returns the backing array of the heap of kept items.
+     *
+     * @return the backing array of the heap
+     */
+    public T[] getBackingArray() {
+        return heap.getBackingArray();
+    }
+
+    /**
+     * Returns the number of kept items, at most k.
+     *
+     * @return the number of kept items
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the number of items this TopK keeps.
+     *
+     * @return k
+     */
+    public int k() {
+        return k;
+    }
+}
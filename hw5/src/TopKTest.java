@@ -0,0 +1,151 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for TopK and MinHeap.replaceMin.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class TopKTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testKeepsLargest() {
+        Random random = new Random(1332);
+        TopK<Integer> topK = new TopK<>(100);
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt(5000);
+            all.add(value);
+            topK.offer(value);
+            assertTrue(topK.size() <= 100);
+        }
+        all.sort(Collections.reverseOrder());
+
+        assertEquals(100, topK.size());
+        assertEquals(all.subList(0, 100), topK.toSortedList());
+        assertEquals(all.get(99), topK.getMin());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOffer() {
+        TopK<Integer> topK = new TopK<>(3);
+        assertTrue(topK.isEmpty());
+        assertTrue(topK.offer(5));
+        assertTrue(topK.offer(1));
+        assertTrue(topK.offer(3));
+        assertFalse(topK.offer(0));
+        // equal to the smallest kept item, so it does not replace it
+        assertFalse(topK.offer(1));
+        assertTrue(topK.offer(4));
+        assertEquals(List.of(5, 4, 3), topK.toSortedList());
+        assertEquals(3, topK.k());
+
+        topK.clear();
+        assertTrue(topK.isEmpty());
+        assertTrue(topK.offer(1));
+        assertEquals(List.of(1), topK.toSortedList());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNeverResizes() {
+        TopK<Integer> topK = new TopK<>(1000);
+        Object[] backingArray = topK.getBackingArray();
+        assertEquals(1001, backingArray.length);
+        for (int i = 0; i < 5000; i++) {
+            topK.offer(i);
+        }
+        assertSame(backingArray, topK.getBackingArray());
+        assertEquals(1000, topK.size());
+
+        topK.clear();
+        backingArray = topK.getBackingArray();
+        assertEquals(1001, backingArray.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMergeMatchesSingleStream() {
+        Random random = new Random(1332);
+        TopK<Integer> single = new TopK<>(50);
+        List<TopK<Integer>> partials = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            TopK<Integer> partial = new TopK<>(50);
+            // one partial sees fewer than k items
+            int count = t == 0 ? 20 : 2000;
+            for (int i = 0; i < count; i++) {
+                int value = random.nextInt(100000);
+                partial.offer(value);
+                single.offer(value);
+            }
+            partials.add(partial);
+        }
+
+        TopK<Integer> merged = new TopK<>(50);
+        for (TopK<Integer> partial : partials) {
+            List<Integer> before = partial.toSortedList();
+            merged.merge(partial);
+            assertEquals(before, partial.toSortedList());
+        }
+        assertEquals(single.toSortedList(), merged.toSortedList());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReplaceMin() {
+        Random random = new Random(1332);
+        ArrayList<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(random.nextInt(1000));
+        }
+        MinHeap<Integer> heap = new MinHeap<>(data);
+        MinHeap<Integer> expected = new MinHeap<>(data);
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1000);
+            assertEquals(expected.remove(), heap.replaceMin(value));
+            expected.add(value);
+            Object[] backingArray = heap.getBackingArray();
+            assertEquals(100, heap.size());
+            assertEquals(201, backingArray.length);
+        }
+
+        while (!expected.isEmpty()) {
+            assertEquals(expected.remove(), heap.remove());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new TopK<Integer>(0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new MinHeap<Integer>(-1));
+
+        TopK<Integer> topK = new TopK<>(2);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> topK.offer(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> topK.merge(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> topK.merge(topK));
+        Assert.assertThrows(NoSuchElementException.class, topK::getMin);
+
+        MinHeap<Integer> heap = new MinHeap<>();
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> heap.replaceMin(1));
+        heap.add(1);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> heap.replaceMin(null));
+    }
+}
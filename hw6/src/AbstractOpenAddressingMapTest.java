@@ -0,0 +1,199 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests every OpenAddressingMap implementation must pass. Subclasses
+ * only supply the map under test.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public abstract class AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+    private OpenAddressingMap<Integer, String> map;
+
+    /**
+     * Creates an empty map of the implementation under test.
+     *
+     * @return the new map
+     */
+    protected abstract OpenAddressingMap<Integer, String> createMap();
+
+    @Before
+    public void setUp() {
+        map = createMap();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutAndGet() {
+        assertNull(map.put(1, "A"));
+        assertNull(map.put(2, "B"));
+        assertNull(map.put(14, "C")); // collides with 1 in a table of 13
+
+        assertEquals(3, map.size());
+        assertEquals("A", map.get(1));
+        assertEquals("B", map.get(2));
+        assertEquals("C", map.get(14));
+
+        assertEquals("A", map.put(1, "D"));
+        assertEquals(3, map.size());
+        assertEquals("D", map.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        String temp = "B";
+        map.put(1, "A");
+        map.put(14, temp);
+        map.put(27, "C");
+
+        assertSame(temp, map.remove(14));
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey(14));
+
+        // Keys probed past the removed slot must still be found
+        assertEquals("C", map.get(27));
+
+        assertNull(map.put(14, "D"));
+        assertEquals("D", map.get(14));
+        assertEquals(3, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testContainsKey() {
+        map.put(1, "A");
+        map.put(-5, "B");
+
+        assertTrue(map.containsKey(1));
+        assertTrue(map.containsKey(-5));
+        assertFalse(map.containsKey(6));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testKeySetAndValues() {
+        for (int i = 1; i <= 5; i++) {
+            map.put(i, "" + (char) ('A' + i - 1));
+        }
+
+        Set<Integer> expectedKeys = new HashSet<>();
+        List<String> expectedValues = new LinkedList<>();
+        for (int i = 1; i <= 5; i++) {
+            expectedKeys.add(i);
+            expectedValues.add("" + (char) ('A' + i - 1));
+        }
+        assertEquals(expectedKeys, map.keySet());
+        assertEquals(new HashSet<>(expectedValues),
+                new HashSet<>(map.values()));
+        assertEquals(5, map.values().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "" + i);
+        }
+        map.resizeBackingTable(200);
+
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("" + i, map.get(i));
+        }
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.resizeBackingTable(99));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        map.put(1, "A");
+        map.put(2, "B");
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1));
+        assertTrue(map.keySet().isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesHashMap() {
+        Random random = new Random(1332);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500) - 250;
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(expected.put(key, "" + i), map.put(key, "" + i));
+            } else if (op == 1 && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(expected.keySet(), map.keySet());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChurn() {
+        for (int i = 0; i < 500; i++) {
+            map.put(i, "" + i);
+        }
+        churn(map);
+        assertEquals(500, map.size());
+        for (int i = 1500; i < 2000; i++) {
+            assertEquals("" + i, map.get(i));
+        }
+        assertFalse(map.containsKey(1499));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.put(null, "A"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.put(1, null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.get(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.remove(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.containsKey(null));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.get(1));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.remove(1));
+    }
+
+    /**
+     * Replaces every key of a map holding keys 0 to 499 many times over,
+     * like sessions expiring: each of 1500 steps removes the oldest key and
+     * adds a new one. Afterwards the map holds keys 1500 to 1999.
+     *
+     * @param map a map holding keys 0 to 499
+     */
+    protected static void churn(OpenAddressingMap<Integer, String> map) {
+        for (int i = 500; i < 2000; i++) {
+            map.remove(i - 500);
+            map.put(i, "" + i);
+        }
+    }
+}
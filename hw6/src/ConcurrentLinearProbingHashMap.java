@@ -0,0 +1,543 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe LinearProbingHashMap.
+ *
+ * The map is split into stripes picked by the high bits of the mixed hash,
+ * and each stripe is its own power-of-two linear probing table. Slots hold
+ * immutable nodes, read with acquire and written with release semantics, so
+ * reads never lock: a get sees every node that was published before it read
+ * the slot, and never a half-built one.
+ *
+ * Writes lock only their stripe, so threads writing to different stripes
+ * never wait on each other. A put that replaces a value swaps in a new node
+ * in place. A remove swaps in a shared DEL node, because moving entries
+ * around could make a concurrent reader probe past the key it is after.
+ * DEL nodes count toward the load factor, and a stripe that fills up with
+ * them is rehashed at the same length to clear them out.
+ *
+ * Stripes resize one at a time, under their own lock and independently of
+ * each other, so a resize holds up the writers of one stripe and never
+ * holds up readers. The new table is filled privately and then published
+ * with a single volatile write. Readers still probing the old table see a
+ * consistent snapshot of it, since it is never written again.
+ *
+ * keySet, values and size are not atomic snapshots while other threads are
+ * writing, but are exact once writes have stopped.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class ConcurrentLinearProbingHashMap<K, V>
+        implements OpenAddressingMap<K, V> {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor, spread evenly over its stripes.
+     */
+    public static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The number of stripes of the map when created with the default
+     * constructor.
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * The max load factor of each stripe, counting DEL nodes.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    private static final VarHandle SLOTS =
+            MethodHandles.arrayElementVarHandle(Node[].class);
+
+    /**
+     * Left in a slot by a remove. Probes continue past it.
+     */
+    private static final Node<?, ?> DEL = new Node<>(0, null, null);
+
+    private final Stripe<K, V>[] stripes;
+    private final int stripeShift;
+
+    /**
+     * Constructs a new ConcurrentLinearProbingHashMap with INITIAL_CAPACITY
+     * slots over DEFAULT_STRIPES stripes.
+     */
+    public ConcurrentLinearProbingHashMap() {
+        this(INITIAL_CAPACITY, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a new ConcurrentLinearProbingHashMap.
+     *
+     * The number of stripes is rounded up to a power of two. More stripes let
+     * more writers run in parallel at the cost of a small table per stripe.
+     *
+     * @param initialCapacity the initial number of slots over all stripes
+     * @param stripes         the number of independently locked stripes
+     * @throws java.lang.IllegalArgumentException if initialCapacity or
+     *                                            stripes is not positive
+     */
+    public ConcurrentLinearProbingHashMap(int initialCapacity, int stripes) {
+        if (initialCapacity < 1 || stripes < 1) {
+            throw new IllegalArgumentException("Tried to create "
+                    + "ConcurrentLinearProbingHashMap with capacity "
+                    + initialCapacity + " and " + stripes + " stripes");
+        }
+
+        int count = Hashing.powerOfTwoAtLeast(stripes);
+        this.stripes = (Stripe<K, V>[]) new Stripe[count];
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(count);
+        int length = stripeLength(initialCapacity, 0);
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe<>(length);
+        }
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map already
+     * has this key, replace the entry's value with the new one passed in.
+     *
+     * Locks the key's stripe.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the map,
+     *         return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into ConcurrentLinearProbingHashMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException("Tried to add null value into "
+                    + "ConcurrentLinearProbingHashMap");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        Stripe<K, V> stripe = stripeFor(hash);
+        stripe.lock.lock();
+        try {
+            Node<K, V>[] table = stripe.table;
+            int index = find(table, hash, key);
+            if (index >= 0) {
+                // duplicate case
+                V old = table[index].value;
+                SLOTS.setRelease(table, index, new Node<>(hash, key, value));
+                return old;
+            }
+
+            if ((stripe.used + 1.0) / table.length > MAX_LOAD_FACTOR) {
+                boolean grow =
+                        (stripe.count + 1.0) / table.length > MAX_LOAD_FACTOR;
+                stripe.rehash(grow ? 2 * table.length : table.length);
+                table = stripe.table;
+                index = find(table, hash, key);
+            }
+
+            // find ends on the first DEL node or null slot, encoded as -1 - i
+            index = -1 - index;
+            if (table[index] == null) {
+                stripe.used++;
+            }
+            SLOTS.setRelease(table, index, new Node<>(hash, key, value));
+            stripe.count++;
+            return null;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DEL node
+     * in its slot.
+     *
+     * Locks the key's stripe.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to remove null key from "
+                    + "ConcurrentLinearProbingHashMap");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        Stripe<K, V> stripe = stripeFor(hash);
+        stripe.lock.lock();
+        try {
+            Node<K, V>[] table = stripe.table;
+            int index = find(table, hash, key);
+            if (index < 0) {
+                throw new NoSuchElementException("Tried to remove key that "
+                        + "does not exist in ConcurrentLinearProbingHashMap");
+            }
+
+            V removed = table[index].value;
+            SLOTS.setRelease(table, index, DEL);
+            stripe.count--;
+            return removed;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * Never locks.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from ConcurrentLinearProbingHashMap");
+        }
+
+        Node<K, V> node = lookup(key);
+        if (node == null) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in ConcurrentLinearProbingHashMap");
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * Never locks.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to query if "
+                    + "ConcurrentLinearProbingHashMap contains null key");
+        }
+
+        return lookup(key) != null;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * Never locks.
+     *
+     * @return the set of keys in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        for (Stripe<K, V> stripe : stripes) {
+            Node<K, V>[] table = stripe.table;
+            for (int i = 0; i < table.length; i++) {
+                Node<K, V> node = (Node<K, V>) SLOTS.getAcquire(table, i);
+                if (node != null && node != DEL) {
+                    keySet.add(node.key);
+                }
+            }
+        }
+        return keySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, stripe by stripe
+     * in order of increasing table index.
+     *
+     * Never locks.
+     *
+     * @return list of values in this map
+     */
+    @Override
+    public List<V> values() {
+        List<V> valueList = new LinkedList<>();
+        for (Stripe<K, V> stripe : stripes) {
+            Node<K, V>[] table = stripe.table;
+            for (int i = 0; i < table.length; i++) {
+                Node<K, V> node = (Node<K, V>) SLOTS.getAcquire(table, i);
+                if (node != null && node != DEL) {
+                    valueList.add(node.value);
+                }
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Resize the backing tables to a total of at least length slots,
+     * disregarding the load factor. Each stripe gets an equal share, rounded
+     * up to a power of two and to no less than its own size.
+     *
+     * Locks every stripe.
+     *
+     * @param length new total length of the backing tables
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    @Override
+    public void resizeBackingTable(int length) {
+        lockAll();
+        try {
+            int size = size();
+            if (size > length) {
+                throw new IllegalArgumentException(
+                        "Tried to resize to a backing array smaller than "
+                                + "number of elements in "
+                                + "ConcurrentLinearProbingHashMap");
+            }
+
+            for (Stripe<K, V> stripe : stripes) {
+                stripe.rehash(stripeLength(length, stripe.count));
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets every stripe to its share of INITIAL_CAPACITY. Locks every
+     * stripe.
+     */
+    @Override
+    public void clear() {
+        lockAll();
+        try {
+            int length = stripeLength(INITIAL_CAPACITY, 0);
+            for (Stripe<K, V> stripe : stripes) {
+                stripe.table = (Node<K, V>[]) new Node[length];
+                stripe.count = 0;
+                stripe.used = 0;
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * Never locks.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            size += stripe.count;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the total length of the backing tables.
+     *
+     * @return the number of slots over all stripes
+     */
+    public int capacity() {
+        int capacity = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            capacity += stripe.table.length;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the node holding key without locking, or null if there is
+     * none.
+     *
+     * @param key the non-null key to look for
+     * @return the key's node, or null if it is not in the map
+     */
+    private Node<K, V> lookup(K key) {
+        int hash = Hashing.mix(key.hashCode());
+        Node<K, V>[] table = stripeFor(hash).table;
+        int mask = table.length - 1;
+        int index = hash & mask;
+        for (int probe = 0; probe < table.length; probe++) {
+            Node<K, V> node = (Node<K, V>) SLOTS.getAcquire(table, index);
+            if (node == null) {
+                return null;
+            }
+            if (node.hash == hash && node != DEL && node.key.equals(key)) {
+                return node;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Probes table for key. Must hold the stripe's lock.
+     *
+     * @param table the stripe's table
+     * @param hash  the mixed hash of key
+     * @param key   the non-null key to look for
+     * @return the index of the key's slot if present. Otherwise -1 - i,
+     *         where i is the first DEL or null slot on the probe sequence, or
+     *         -1 - table.length if there is neither
+     */
+    private int find(Node<K, V>[] table, int hash, K key) {
+        int mask = table.length - 1;
+        int index = hash & mask;
+        int insert = -1;
+        for (int probe = 0; probe < table.length; probe++) {
+            Node<K, V> node = table[index];
+            if (node == null) {
+                return -1 - (insert == -1 ? index : insert);
+            }
+            if (node == DEL) {
+                // remember the first DEL node to insert into
+                if (insert == -1) {
+                    insert = index;
+                }
+            } else if (node.hash == hash && node.key.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1 - (insert == -1 ? table.length : insert);
+    }
+
+    /**
+     * Returns the stripe a mixed hash belongs to. Stripes use the high bits
+     * of the hash and tables the low bits, so the two stay independent.
+     *
+     * @param hash the mixed hash
+     * @return the stripe
+     */
+    private Stripe<K, V> stripeFor(int hash) {
+        return stripeShift == 32 ? stripes[0] : stripes[hash >>> stripeShift];
+    }
+
+    /**
+     * Returns the table length for one stripe's share of a total capacity.
+     *
+     * @param capacity the total capacity over all stripes
+     * @param count    the number of entries the stripe must hold
+     * @return the power of two table length
+     */
+    private int stripeLength(int capacity, int count) {
+        int share = (capacity + stripes.length - 1) / stripes.length;
+        return Hashing.powerOfTwoAtLeast(Math.max(share, count));
+    }
+
+    /**
+     * Locks every stripe, in order, so that concurrent callers cannot
+     * deadlock.
+     */
+    private void lockAll() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+        }
+    }
+
+    /**
+     * Unlocks every stripe.
+     */
+    private void unlockAll() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * An immutable key-value pair. Replacing a value publishes a new node,
+     * so a reader always sees a key together with a value it was mapped to.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static final class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        /**
+         * Constructs a node.
+         *
+         * @param hash  the mixed hash of key
+         * @param key   the key
+         * @param value the value
+         */
+        Node(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * One independently locked linear probing table. The lock guards every
+     * write to the table and to used; count and table are volatile so that
+     * size and readers can see them without locking.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    private static final class Stripe<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Node<K, V>[] table;
+        private volatile int count;
+        private int used;
+
+        /**
+         * Constructs an empty stripe.
+         *
+         * @param length the power of two length of its table
+         */
+        Stripe(int length) {
+            table = (Node<K, V>[]) new Node[length];
+        }
+
+        /**
+         * Copies the live nodes into a new table of the given length and
+         * publishes it, dropping DEL nodes. Must hold the lock.
+         *
+         * @param length the power of two length of the new table
+         */
+        void rehash(int length) {
+            Node<K, V>[] oldTable = table;
+            Node<K, V>[] newTable = (Node<K, V>[]) new Node[length];
+            int mask = length - 1;
+            for (Node<K, V> node : oldTable) {
+                if (node != null && node != DEL) {
+                    int index = node.hash & mask;
+                    while (newTable[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    newTable[index] = node;
+                }
+            }
+            used = count;
+            table = newTable;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for ConcurrentLinearProbingHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class ConcurrentLinearProbingHashMapTest
+        extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int THREAD_TIMEOUT = 5000;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new ConcurrentLinearProbingHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSingleStripe() {
+        ConcurrentLinearProbingHashMap<Integer, String> map =
+                new ConcurrentLinearProbingHashMap<>(1, 1);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "" + i);
+        }
+        assertEquals(100, map.size());
+        assertEquals(256, map.capacity());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("" + i, map.remove(i));
+        }
+        assertTrue(map.keySet().isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChurnClearsDelNodes() {
+        ConcurrentLinearProbingHashMap<Integer, String> map =
+                new ConcurrentLinearProbingHashMap<>(64, 1);
+        for (int i = 0; i < 20000; i++) {
+            map.put(i, "" + i);
+            if (i >= 30) {
+                map.remove(i - 30);
+            }
+        }
+
+        // DEL nodes are rehashed away instead of growing the table
+        assertEquals(30, map.size());
+        assertEquals(64, map.capacity());
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testConcurrentWriters() throws InterruptedException {
+        ConcurrentLinearProbingHashMap<Integer, String> map =
+                new ConcurrentLinearProbingHashMap<>(16, 4);
+        int threads = 4;
+        int perThread = 5000;
+
+        // each writer adds its own range of keys and removes the odd ones
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int first = t * perThread;
+            writers.add(new Thread(() -> {
+                for (int i = first; i < first + perThread; i++) {
+                    map.put(i, "" + i);
+                }
+                for (int i = first + 1; i < first + perThread; i += 2) {
+                    map.remove(i);
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(threads * perThread / 2, map.size());
+        for (int i = 0; i < threads * perThread; i++) {
+            assertEquals(i % 2 == 0, map.containsKey(i));
+        }
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testReadersNeverMissStableKeys() throws InterruptedException {
+        ConcurrentLinearProbingHashMap<Integer, String> map =
+                new ConcurrentLinearProbingHashMap<>(16, 2);
+        for (int i = 0; i < 100; i++) {
+            map.put(-i - 1, "stable");
+        }
+
+        // the writer grows, churns and rehashes the table under the reader
+        AtomicBoolean missed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                for (int i = 0; i < 100; i++) {
+                    if (!"stable".equals(map.get(-i - 1))) {
+                        missed.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 50000; i++) {
+            map.put(i, "" + i);
+            if (i >= 1000) {
+                map.remove(i - 1000);
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(missed.get());
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * How a LinearProbingCache picks the entry to evict once it is full.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry. Entries are kept in a doubly
+     * linked list threaded through the table slots, so every hit moves its
+     * entry to the front in O(1).
+     */
+    LRU,
+
+    /**
+     * Approximates LRU with one reference bit per slot. A hit only sets the
+     * bit, and a clock hand sweeping the table evicts the first entry whose
+     * bit is clear, clearing bits as it passes. Hits never write to shared
+     * list pointers, which makes them cheaper than under LRU.
+     */
+    CLOCK,
+
+    /**
+     * Window TinyLFU. New entries enter a small LRU window holding 1% of
+     * the cache. An entry pushed out of the window is only admitted to the
+     * LRU main area if it has been requested more often than the entry it
+     * would evict, going by a count-min sketch of recent request
+     * frequencies. One-off keys, like a scan, then churn through the window
+     * without flushing the frequently used entries.
+     */
+    TINY_LFU
+}
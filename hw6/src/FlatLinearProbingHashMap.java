@@ -0,0 +1,438 @@
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A LinearProbingHashMap that stores its table as parallel arrays instead of
+ * LinearProbingMapEntry objects.
+ *
+ * Slot i of the table is described by states[i], keys[i] and values[i]. The
+ * state of every slot fits in a byte, so a probe sequence scans a compact,
+ * cache-linear byte[] and only dereferences a key when the slot is full.
+ * Putting a new key writes into the existing arrays instead of allocating an
+ * entry, and removing a key clears the key and value immediately so the
+ * table never holds on to garbage; only the DELETED state byte is left
+ * behind as the tombstone.
+ *
+ * With TableSizing.TWO_N_PLUS_ONE, the default, growth, load factor and
+ * probing otherwise behave exactly like LinearProbingHashMap. With
+ * TableSizing.POWER_OF_TWO, table lengths are rounded up to a power of two,
+ * hash codes are mixed before use, and both the home slot and the wrap at
+ * the end of the table are a bit mask instead of a division.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class FlatLinearProbingHashMap<K, V>
+        implements OpenAddressingMap<K, V> {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY =
+            LinearProbingHashMap.INITIAL_CAPACITY;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    /**
+     * State of a slot that has never held an entry. Ends a probe sequence.
+     */
+    static final byte EMPTY = 0;
+
+    /**
+     * State of a slot that holds an entry.
+     */
+    static final byte FULL = 1;
+
+    /**
+     * State of a slot whose entry was removed. Probe sequences continue past
+     * it, and puts may reuse it.
+     */
+    static final byte DELETED = 2;
+
+    private final TableSizing sizing;
+    private byte[] states;
+    private K[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a new FlatLinearProbingHashMap with a backing table of
+     * INITIAL_CAPACITY.
+     */
+    public FlatLinearProbingHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new FlatLinearProbingHashMap sized like
+     * LinearProbingHashMap.
+     *
+     * You may assume initialCapacity will always be positive.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public FlatLinearProbingHashMap(int initialCapacity) {
+        this(initialCapacity, TableSizing.TWO_N_PLUS_ONE);
+    }
+
+    /**
+     * Constructs a new FlatLinearProbingHashMap.
+     *
+     * You may assume initialCapacity will always be positive. With
+     * TableSizing.POWER_OF_TWO it is rounded up to a power of two.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     * @param sizing          how to size the table and pick home slots
+     * @throws java.lang.IllegalArgumentException if sizing is null
+     */
+    public FlatLinearProbingHashMap(int initialCapacity, TableSizing sizing) {
+        if (sizing == null) {
+            throw new IllegalArgumentException(
+                    "Tried to create FlatLinearProbingHashMap with null "
+                            + "TableSizing");
+        }
+
+        this.sizing = sizing;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map already
+     * has this key, replace the entry's value with the new one passed in.
+     *
+     * Grows the table before adding if the add would exceed MAX_LOAD_FACTOR,
+     * and reuses the first DELETED slot on the probe sequence if the key is
+     * new.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the map,
+     *         return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into FlatLinearProbingHashMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null value into FlatLinearProbingHashMap");
+        }
+
+        if ((size + 1.0) / states.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(sizing == TableSizing.POWER_OF_TWO
+                    ? 2 * states.length : 2 * states.length + 1);
+        }
+
+        int length = states.length;
+        int index = home(key);
+        int insert = -1;
+        for (int probe = 0; probe < length && states[index] != EMPTY;
+                probe++) {
+            if (states[index] == DELETED) {
+                // remember the first DEL marker to insert into
+                if (insert == -1) {
+                    insert = index;
+                }
+            } else if (keys[index].equals(key)) {
+                // duplicate case
+                V old = values[index];
+                values[index] = value;
+                return old;
+            }
+            index = next(index);
+        }
+
+        if (insert == -1) {
+            insert = index;
+        }
+        states[insert] = FULL;
+        keys[insert] = key;
+        values[insert] = value;
+        size++;
+
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DELETED
+     * marker in its slot.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to remove null key from FlatLinearProbingHashMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in FlatLinearProbingHashMap");
+        }
+
+        V removed = values[index];
+        states[index] = DELETED;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from FlatLinearProbingHashMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in FlatLinearProbingHashMap");
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to query if "
+                    + "FlatLinearProbingHashMap contains null key");
+        }
+
+        return find(key) != -1;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (states[i] == FULL) {
+                keySet.add(keys[i]);
+                count++;
+            }
+        }
+        return keySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, in order of
+     * increasing table index.
+     *
+     * @return list of values in this map
+     */
+    @Override
+    public List<V> values() {
+        List<V> valueList = new LinkedList<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (states[i] == FULL) {
+                valueList.add(values[i]);
+                count++;
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, disregarding the load factor.
+     *
+     * Entries are reinserted in order of increasing old index, and DELETED
+     * markers are dropped. With TableSizing.POWER_OF_TWO, length is rounded
+     * up to a power of two.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    @Override
+    public void resizeBackingTable(int length) {
+        if (size > length) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than "
+                            + "number of elements in FlatLinearProbingHashMap");
+        }
+
+        byte[] oldStates = states;
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(length);
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (oldStates[i] == FULL) {
+                int index = home(oldKeys[i]);
+                while (states[index] != EMPTY) {
+                    index = next(index);
+                }
+                states[index] = FULL;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to new arrays of INITIAL_CAPACITY and resets the size.
+     *
+     * Must be O(1).
+     */
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return states.length;
+    }
+
+    /**
+     * Returns a histogram of probe lengths: element d is the number of
+     * entries stored d slots past their home slot, so element 0 counts the
+     * entries found on the first probe. A lookup of a present key inspects
+     * its probe length + 1 slots.
+     *
+     * Must be O(capacity).
+     *
+     * @return the probe length histogram, as long as the longest probe + 1
+     */
+    public int[] probeLengthHistogram() {
+        int length = states.length;
+        int[] histogram = new int[length];
+        int longest = -1;
+        for (int i = 0; i < length; i++) {
+            if (states[i] == FULL) {
+                int distance = i - home(keys[i]);
+                if (distance < 0) {
+                    distance += length;
+                }
+                histogram[distance]++;
+                longest = Math.max(longest, distance);
+            }
+        }
+        int[] trimmed = new int[longest + 1];
+        System.arraycopy(histogram, 0, trimmed, 0, longest + 1);
+        return trimmed;
+    }
+
+    /**
+     * Returns the index of the slot holding key, probing from its home slot
+     * until an EMPTY slot or a full lap of the table.
+     *
+     * @param key the non-null key to look for
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(K key) {
+        int length = states.length;
+        int index = home(key);
+        for (int probe = 0; probe < length && states[index] != EMPTY;
+                probe++) {
+            if (states[index] == FULL && keys[index].equals(key)) {
+                return index;
+            }
+            index = next(index);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot a key hashes to. Under TWO_N_PLUS_ONE this is the same
+     * slot LinearProbingHashMap would pick.
+     *
+     * @param key the non-null key
+     * @return the home slot of the key
+     */
+    private int home(Object key) {
+        if (sizing == TableSizing.POWER_OF_TWO) {
+            return Hashing.mix(key.hashCode()) & mask;
+        }
+        return Math.abs(key.hashCode() % states.length);
+    }
+
+    /**
+     * Returns the slot after index, wrapping around at the end of the table.
+     *
+     * @param index the current slot
+     * @return the next slot to probe
+     */
+    private int next(int index) {
+        if (sizing == TableSizing.POWER_OF_TWO) {
+            return (index + 1) & mask;
+        }
+        return index + 1 == states.length ? 0 : index + 1;
+    }
+
+    /**
+     * Replaces the backing arrays with empty arrays of the given length,
+     * rounded up to a power of two if the sizing calls for it.
+     *
+     * @param requested the requested length of the new arrays
+     */
+    private void allocate(int requested) {
+        int length = sizing == TableSizing.POWER_OF_TWO
+                ? Hashing.powerOfTwoAtLeast(requested) : requested;
+        mask = length - 1;
+        states = new byte[length];
+        keys = (K[]) new Object[length];
+        values = (V[]) new Object[length];
+    }
+}
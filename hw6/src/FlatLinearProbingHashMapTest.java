@@ -0,0 +1,78 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for FlatLinearProbingHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class FlatLinearProbingHashMapTest
+        extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new FlatLinearProbingHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowsLikeLinearProbingHashMap() {
+        FlatLinearProbingHashMap<Integer, String> flat =
+                new FlatLinearProbingHashMap<>();
+        LinearProbingHashMap<Integer, String> original =
+                new LinearProbingHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            flat.put(i, "" + i);
+            original.put(i, "" + i);
+            assertEquals(original.getTable().length, flat.capacity());
+        }
+        assertEquals(original.values(), flat.values());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPowerOfTwoSizing() {
+        FlatLinearProbingHashMap<Integer, String> map =
+                new FlatLinearProbingHashMap<>(13, TableSizing.POWER_OF_TWO);
+        assertEquals(16, map.capacity());
+
+        // keys that share their low bits still spread out and stay reachable
+        for (int i = 0; i < 1000; i++) {
+            map.put(i << 10, "" + i);
+            assertEquals(1, Integer.bitCount(map.capacity()));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("" + i, map.get(i << 10));
+        }
+        assertEquals(1000, map.size());
+        assertEquals(2048, map.capacity());
+
+        map.resizeBackingTable(3000);
+        assertEquals(4096, map.capacity());
+        assertEquals("999", map.remove(999 << 10));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testProbeLengthHistogram() {
+        FlatLinearProbingHashMap<Integer, String> map =
+                new FlatLinearProbingHashMap<>();
+        assertArrayEquals(new int[0], map.probeLengthHistogram());
+
+        // 13 lands one past its home slot 0, and 25 wraps from slot 12 to 2
+        map.put(0, "A");
+        map.put(13, "B");
+        map.put(12, "C");
+        map.put(25, "D");
+        assertArrayEquals(new int[] {2, 1, 0, 1}, map.probeLengthHistogram());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNullSizing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FlatLinearProbingHashMap<Integer, String>(13, null));
+    }
+}
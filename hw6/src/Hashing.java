@@ -0,0 +1,55 @@
+/**
+ * Hash helpers shared by the open-addressing maps.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+final class Hashing {
+
+    /**
+     * The largest power of two an int can hold.
+     */
+    static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    /**
+     * Not meant to be constructed.
+     */
+    private Hashing() {
+    }
+
+    /**
+     * Scrambles a hash code with the MurmurHash3 32-bit finalizer so every
+     * input bit affects every output bit. Power-of-two tables index with the
+     * low bits of the hash only, so without this, keys that differ only in
+     * their high bits (like Integers that are multiples of 1024) would all
+     * land in the same slot.
+     *
+     * @param hash the hash code to mix
+     * @return the mixed hash
+     */
+    static int mix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least n.
+     *
+     * @param n the minimum value
+     * @return the power of two
+     * @throws java.lang.IllegalArgumentException if n is larger than
+     *                                            MAX_POWER_OF_TWO
+     */
+    static int powerOfTwoAtLeast(int n) {
+        if (n > MAX_POWER_OF_TWO) {
+            throw new IllegalArgumentException(
+                    "No power of two table can hold " + n + " slots");
+        }
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
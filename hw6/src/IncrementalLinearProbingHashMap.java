@@ -0,0 +1,474 @@
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A LinearProbingHashMap that grows without rehashing everything at once.
+ *
+ * When a put would exceed MAX_LOAD_FACTOR, the map allocates a table of
+ * 2 * length + 1 slots like LinearProbingHashMap does, but keeps the old
+ * table around instead of copying it. From then on, every put and remove
+ * first moves the entries of the next MIGRATION_STEP slots of the old
+ * table into the new one, and new keys only ever go into the new table.
+ * Lookups check the new table and then the old one, so a key is found
+ * wherever it currently lives. Once the last old slot is moved, the old
+ * table is dropped.
+ *
+ * The new table is twice as large, so the migration always finishes long
+ * before the new table fills up, and no single operation ever does more
+ * than MIGRATION_STEP slots of resize work. This keeps the worst-case put
+ * flat during growth, at the cost of holding both tables while migrating.
+ *
+ * Both tables are parallel arrays laid out like FlatLinearProbingHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IncrementalLinearProbingHashMap<K, V>
+        implements OpenAddressingMap<K, V> {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY =
+            LinearProbingHashMap.INITIAL_CAPACITY;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    /**
+     * The number of old slots each put and remove migrates while a resize
+     * is in progress.
+     */
+    public static final int MIGRATION_STEP = 8;
+
+    private Table<K, V> table;
+    private Table<K, V> oldTable;
+    private int migrated;
+
+    /**
+     * Constructs a new IncrementalLinearProbingHashMap with a backing table
+     * of INITIAL_CAPACITY.
+     */
+    public IncrementalLinearProbingHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IncrementalLinearProbingHashMap.
+     *
+     * You may assume initialCapacity will always be positive.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public IncrementalLinearProbingHashMap(int initialCapacity) {
+        table = new Table<>(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map already
+     * has this key, replace the entry's value with the new one passed in.
+     *
+     * Starts an incremental resize to 2 * length + 1 if the add would exceed
+     * MAX_LOAD_FACTOR.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the map,
+     *         return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into IncrementalLinearProbingHashMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException("Tried to add null value into "
+                    + "IncrementalLinearProbingHashMap");
+        }
+
+        migrate();
+
+        int index = table.find(key);
+        if (index != -1) {
+            // duplicate case
+            V old = table.values[index];
+            table.values[index] = value;
+            return old;
+        }
+
+        if (oldTable != null) {
+            index = oldTable.find(key);
+            if (index != -1) {
+                // duplicate case for a key that has not been migrated yet
+                V old = oldTable.values[index];
+                oldTable.values[index] = value;
+                return old;
+            }
+        }
+
+        if ((size() + 1.0) / table.states.length > MAX_LOAD_FACTOR) {
+            startResize(2 * table.states.length + 1);
+        }
+        table.insert(key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DELETED
+     * marker in its slot.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to remove null key from "
+                    + "IncrementalLinearProbingHashMap");
+        }
+
+        migrate();
+
+        int index = table.find(key);
+        if (index != -1) {
+            return table.delete(index);
+        }
+        if (oldTable != null) {
+            index = oldTable.find(key);
+            if (index != -1) {
+                return oldTable.delete(index);
+            }
+        }
+        throw new NoSuchElementException("Tried to remove key that does not "
+                + "exist in IncrementalLinearProbingHashMap");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * Does no migration work, so lookups never pay for a resize.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from IncrementalLinearProbingHashMap");
+        }
+
+        int index = table.find(key);
+        if (index != -1) {
+            return table.values[index];
+        }
+        if (oldTable != null) {
+            index = oldTable.find(key);
+            if (index != -1) {
+                return oldTable.values[index];
+            }
+        }
+        throw new NoSuchElementException("Tried to get key that does not "
+                + "exist in IncrementalLinearProbingHashMap");
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to query if "
+                    + "IncrementalLinearProbingHashMap contains null key");
+        }
+
+        return table.find(key) != -1
+                || (oldTable != null && oldTable.find(key) != -1);
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        table.addKeysTo(keySet);
+        if (oldTable != null) {
+            oldTable.addKeysTo(keySet);
+        }
+        return keySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, in order of
+     * increasing table index, with values of entries that have not been
+     * migrated yet last.
+     *
+     * @return list of values in this map
+     */
+    @Override
+    public List<V> values() {
+        List<V> valueList = new LinkedList<>();
+        table.addValuesTo(valueList);
+        if (oldTable != null) {
+            oldTable.addValuesTo(valueList);
+        }
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, disregarding the load factor.
+     *
+     * Unlike a resize started by put, this rehashes every entry before
+     * returning, finishing any incremental resize in progress.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    @Override
+    public void resizeBackingTable(int length) {
+        if (size() > length) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than "
+                            + "number of elements in "
+                            + "IncrementalLinearProbingHashMap");
+        }
+
+        finishResize();
+        startResize(length);
+        finishResize();
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to new arrays of INITIAL_CAPACITY, drops any resize in
+     * progress and resets the size.
+     *
+     * Must be O(1).
+     */
+    @Override
+    public void clear() {
+        table = new Table<>(INITIAL_CAPACITY);
+        oldTable = null;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        return oldTable == null ? table.size : table.size + oldTable.size;
+    }
+
+    /**
+     * Returns the length of the backing table new keys are added to.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return table.states.length;
+    }
+
+    /**
+     * Returns whether an incremental resize is in progress.
+     *
+     * @return true if entries are still waiting in the old table
+     */
+    public boolean isResizing() {
+        return oldTable != null;
+    }
+
+    /**
+     * Makes the current table the old one and starts over with an empty
+     * table of the given length.
+     *
+     * @param length the length of the new table
+     */
+    private void startResize(int length) {
+        if (oldTable != null) {
+            // only reachable if a step was too small to keep up; never skip
+            // entries by starting over
+            finishResize();
+        }
+        oldTable = table;
+        table = new Table<>(length);
+        migrated = 0;
+    }
+
+    /**
+     * Moves the entries in the next MIGRATION_STEP old slots into the new
+     * table, dropping the old table after its last slot.
+     */
+    private void migrate() {
+        if (oldTable != null) {
+            migrate(MIGRATION_STEP);
+        }
+    }
+
+    /**
+     * Moves every remaining entry of the old table into the new table.
+     */
+    private void finishResize() {
+        if (oldTable != null) {
+            migrate(oldTable.states.length - migrated);
+        }
+    }
+
+    /**
+     * Moves the entries in the next slots old slots into the new table,
+     * dropping the old table after its last slot. Requires a resize in
+     * progress.
+     *
+     * @param slots the number of old slots to visit
+     */
+    private void migrate(int slots) {
+        int end = Math.min(migrated + slots, oldTable.states.length);
+        for (int i = migrated; i < end; i++) {
+            if (oldTable.states[i] == Table.FULL) {
+                table.insert(oldTable.keys[i], oldTable.values[i]);
+                oldTable.delete(i);
+            }
+        }
+        migrated = end;
+        if (migrated == oldTable.states.length) {
+            oldTable = null;
+        }
+    }
+
+    /**
+     * One linear probing table of parallel state, key and value arrays,
+     * probed from |hashCode % length| like LinearProbingHashMap.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    private static final class Table<K, V> {
+        private static final byte EMPTY = 0;
+        private static final byte FULL = 1;
+        private static final byte DELETED = 2;
+
+        private final byte[] states;
+        private final K[] keys;
+        private final V[] values;
+        private int size;
+
+        /**
+         * Constructs an empty table.
+         *
+         * @param length the number of slots
+         */
+        Table(int length) {
+            states = new byte[length];
+            keys = (K[]) new Object[length];
+            values = (V[]) new Object[length];
+        }
+
+        /**
+         * Returns the index of the slot holding key.
+         *
+         * @param key the non-null key to look for
+         * @return the index of the key's slot, or -1 if it is not here
+         */
+        int find(K key) {
+            int length = states.length;
+            int index = Math.abs(key.hashCode() % length);
+            for (int probe = 0; probe < length && states[index] != EMPTY;
+                    probe++) {
+                if (states[index] == FULL && keys[index].equals(key)) {
+                    return index;
+                }
+                if (++index == length) {
+                    index = 0;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds a key that is in neither table at the first DELETED or EMPTY
+         * slot of its probe sequence. The table must have a free slot.
+         *
+         * @param key   the key to add
+         * @param value the value to add
+         */
+        void insert(K key, V value) {
+            int length = states.length;
+            int index = Math.abs(key.hashCode() % length);
+            while (states[index] == FULL) {
+                if (++index == length) {
+                    index = 0;
+                }
+            }
+            states[index] = FULL;
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+
+        /**
+         * Removes the entry in a full slot, leaving a DELETED marker.
+         *
+         * @param index the index of the slot
+         * @return the value that was in the slot
+         */
+        V delete(int index) {
+            V removed = values[index];
+            states[index] = DELETED;
+            keys[index] = null;
+            values[index] = null;
+            size--;
+            return removed;
+        }
+
+        /**
+         * Adds every key in the table to a set.
+         *
+         * @param keySet the set to add to
+         */
+        void addKeysTo(Set<K> keySet) {
+            for (int i = 0; i < states.length; i++) {
+                if (states[i] == FULL) {
+                    keySet.add(keys[i]);
+                }
+            }
+        }
+
+        /**
+         * Adds every value in the table to a list, in table order.
+         *
+         * @param valueList the list to add to
+         */
+        void addValuesTo(List<V> valueList) {
+            for (int i = 0; i < states.length; i++) {
+                if (states[i] == FULL) {
+                    valueList.add(values[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for IncrementalLinearProbingHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IncrementalLinearProbingHashMapTest
+        extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new IncrementalLinearProbingHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResizeIsSpreadOverPuts() {
+        IncrementalLinearProbingHashMap<Integer, String> map =
+                new IncrementalLinearProbingHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            map.put(i, "" + i);
+        }
+        assertFalse(map.isResizing());
+
+        // the 9th put exceeds the load factor of a table of 13
+        map.put(8, "8");
+        assertTrue(map.isResizing());
+        assertEquals(27, map.capacity());
+
+        // 13 old slots take two steps of 8 to migrate
+        map.put(9, "9");
+        assertTrue(map.isResizing());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("" + i, map.get(i));
+        }
+        map.remove(9);
+        assertFalse(map.isResizing());
+        assertEquals(9, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testKeysVisibleWhileResizing() {
+        IncrementalLinearProbingHashMap<Integer, String> map =
+                new IncrementalLinearProbingHashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(null, map.put(i, "" + i));
+            assertEquals(i + 1, map.size());
+
+            // check a few old keys, which may live in either table
+            for (int j = i; j >= 0; j -= 997) {
+                assertEquals("" + j, map.get(j));
+            }
+            if (i % 7 == 0) {
+                // replacing a key that is still in the old table must not
+                // add a second copy of it to the new one
+                assertEquals("" + (i / 2), map.put(i / 2, "" + (i / 2)));
+            }
+        }
+        assertEquals(5000, map.keySet().size());
+        assertEquals(5000, map.values().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResizeBackingTableFinishesResize() {
+        IncrementalLinearProbingHashMap<Integer, String> map =
+                new IncrementalLinearProbingHashMap<>();
+        for (int i = 0; i < 9; i++) {
+            map.put(i, "" + i);
+        }
+        assertTrue(map.isResizing());
+
+        map.resizeBackingTable(100);
+        assertFalse(map.isResizing());
+        assertEquals(100, map.capacity());
+        assertEquals(9, map.size());
+    }
+}
@@ -0,0 +1,308 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A LinearProbingHashMap from int keys to int values that never boxes.
+ *
+ * Keys and values live in parallel int arrays next to a byte array of slot
+ * states, so a put or get allocates nothing and compares keys with ==
+ * instead of calling hashCode and equals through an Integer.
+ *
+ * Probing, DEL markers, MAX_LOAD_FACTOR and 2 * length + 1 growth all work
+ * exactly like LinearProbingHashMap with Integer keys, so a key's home slot
+ * is |key % length| and both maps lay the same keys out the same way.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IntIntLinearProbingMap {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY =
+            LinearProbingHashMap.INITIAL_CAPACITY;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+
+    private byte[] states;
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Receives the entries of the map one at a time without boxing.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Receives one entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(int key, int value);
+    }
+
+    /**
+     * Constructs a new IntIntLinearProbingMap with a backing table of
+     * INITIAL_CAPACITY.
+     */
+    public IntIntLinearProbingMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IntIntLinearProbingMap.
+     *
+     * You may assume initialCapacity will always be positive.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public IntIntLinearProbingMap(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If the map already has this
+     * key, replace its value with the new one passed in.
+     *
+     * Grows the table to 2 * length + 1 before adding if the add would exceed
+     * MAX_LOAD_FACTOR.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return true if the key was not already in the map, false if its value
+     *         was replaced
+     */
+    public boolean put(int key, int value) {
+        if ((size + 1.0) / states.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * states.length + 1);
+        }
+
+        int length = states.length;
+        int index = home(key, length);
+        int insert = -1;
+        for (int probe = 0; probe < length; probe++) {
+            byte state = states[index];
+            if (state == EMPTY) {
+                break;
+            }
+            if (state == DELETED) {
+                // remember the first DEL marker to insert into
+                if (insert == -1) {
+                    insert = index;
+                }
+            } else if (keys[index] == key) {
+                // duplicate case
+                values[index] = value;
+                return false;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+
+        if (insert == -1) {
+            insert = index;
+        }
+        states[insert] = FULL;
+        keys[insert] = key;
+        values[insert] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DEL
+     * marker in its slot.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public int remove(int key) {
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in IntIntLinearProbingMap");
+        }
+
+        states[index] = DELETED;
+        size--;
+        return values[index];
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public int get(int key) {
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in IntIntLinearProbingMap");
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     */
+    public boolean containsKey(int key) {
+        return find(key) != -1;
+    }
+
+    /**
+     * Calls action on every entry in the map, in order of increasing table
+     * index, without boxing.
+     *
+     * @param action the action to perform on each entry
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void forEach(EntryConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException(
+                    "Tried to call forEach on IntIntLinearProbingMap with "
+                            + "null action");
+        }
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (states[i] == FULL) {
+                action.accept(keys[i], values[i]);
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Resize the backing table to length, disregarding the load factor.
+     *
+     * Entries are reinserted in order of increasing old index, and DEL
+     * markers are dropped.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+        if (size > length) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than number "
+                            + "of elements in IntIntLinearProbingMap");
+        }
+
+        byte[] oldStates = states;
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(length);
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (oldStates[i] == FULL) {
+                int index = home(oldKeys[i], length);
+                while (states[index] != EMPTY) {
+                    if (++index == length) {
+                        index = 0;
+                    }
+                }
+                states[index] = FULL;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to INITIAL_CAPACITY and resets the size.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return states.length;
+    }
+
+    /**
+     * Returns the index of the slot holding key.
+     *
+     * @param key the key to look for
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(int key) {
+        int length = states.length;
+        int index = home(key, length);
+        for (int probe = 0; probe < length; probe++) {
+            byte state = states[index];
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && keys[index] == key) {
+                return index;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot a key hashes to, the same one LinearProbingHashMap
+     * would use for the boxed key.
+     *
+     * @param key    the key
+     * @param length the length of the table
+     * @return the home slot of the key
+     */
+    private static int home(int key, int length) {
+        return Math.abs(key % length);
+    }
+
+    /**
+     * Replaces the table with an empty one of the given length.
+     *
+     * @param length the number of slots
+     */
+    private void allocate(int length) {
+        states = new byte[length];
+        keys = new int[length];
+        values = new int[length];
+    }
+}
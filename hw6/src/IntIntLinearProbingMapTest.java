@@ -0,0 +1,97 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for IntIntLinearProbingMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class IntIntLinearProbingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testPutGetRemove() {
+        IntIntLinearProbingMap map = new IntIntLinearProbingMap();
+        assertTrue(map.put(1, 10));
+        assertTrue(map.put(Integer.MIN_VALUE, -1));
+        assertTrue(map.put(14, 140)); // collides with 1 in a table of 13
+        assertFalse(map.put(1, 11));
+
+        assertEquals(3, map.size());
+        assertEquals(11, map.get(1));
+        assertEquals(-1, map.get(Integer.MIN_VALUE));
+        assertEquals(140, map.get(14));
+
+        assertEquals(11, map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(140, map.get(14));
+        assertEquals(2, map.size());
+
+        Assert.assertThrows(NoSuchElementException.class, () -> map.get(1));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.remove(1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.resizeBackingTable(1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.forEach(null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSameLayoutAsLinearProbingHashMap() {
+        IntIntLinearProbingMap map = new IntIntLinearProbingMap();
+        LinearProbingHashMap<Integer, Integer> original =
+                new LinearProbingHashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 300; i++) {
+            int key = random.nextInt(1000) - 500;
+            map.put(key, i);
+            original.put(key, i);
+            if (i % 3 == 0) {
+                map.remove(key);
+                original.remove(key);
+            }
+            assertEquals(original.getTable().length, map.capacity());
+        }
+
+        List<Integer> values = new ArrayList<>();
+        map.forEach((key, value) -> values.add(value));
+        assertEquals(original.values(), values);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesHashMap() {
+        IntIntLinearProbingMap map = new IntIntLinearProbingMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(200);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(!expected.containsKey(key), map.put(key, i));
+                expected.put(key, i);
+            } else if (op == 1 && expected.containsKey(key)) {
+                assertEquals((int) expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(IntIntLinearProbingMap.INITIAL_CAPACITY, map.capacity());
+    }
+}
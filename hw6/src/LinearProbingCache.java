@@ -0,0 +1,742 @@
+/**
+ * A cache holding at most maximumSize entries in a linear probing table.
+ *
+ * The table is sized once, so that maximumSize + 1 entries stay under
+ * LinearProbingHashMap.MAX_LOAD_FACTOR, and never resizes. A put that
+ * takes the cache past maximumSize evicts one entry chosen by the
+ * EvictionPolicy, so memory stays flat however long the cache runs.
+ *
+ * Tables are a power of two, indexed with mixed hash codes like
+ * TableSizing.POWER_OF_TWO. A remove or eviction shifts the entries after
+ * it back like RobinHoodHashMap does, instead of leaving a DEL marker.
+ * Constant eviction would otherwise fill a table that never resizes with
+ * DEL markers, until every miss probed the whole table.
+ *
+ * The policy tracks entries by slot index, and is told whenever a backward
+ * shift moves an entry to another slot.
+ *
+ * Unlike OpenAddressingMap, get and remove return null for a key that is
+ * not cached, since a miss is an everyday event for a cache.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LinearProbingCache<K, V> {
+
+    /**
+     * The largest maximum size whose table still fits in an array.
+     */
+    public static final int MAXIMUM_SIZE_LIMIT = (int) (Hashing.MAX_POWER_OF_TWO
+            * LinearProbingHashMap.MAX_LOAD_FACTOR) - 1;
+
+    private final int maximumSize;
+    private final EvictionPolicy evictionPolicy;
+    private K[] keys;
+    private V[] values;
+
+    /**
+     * The mixed hash code of the key in each slot.
+     */
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private Policy policy;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Constructs a new, empty LinearProbingCache.
+     *
+     * @param maximumSize    the most entries the cache may hold
+     * @param evictionPolicy how to pick the entry to evict
+     * @throws java.lang.IllegalArgumentException if maximumSize is not
+     *                                            positive or is over
+     *                                            MAXIMUM_SIZE_LIMIT, or
+     *                                            evictionPolicy is null
+     */
+    public LinearProbingCache(int maximumSize, EvictionPolicy evictionPolicy) {
+        if (maximumSize < 1 || maximumSize > MAXIMUM_SIZE_LIMIT) {
+            throw new IllegalArgumentException(
+                    "Tried to create LinearProbingCache of maximum size "
+                            + maximumSize);
+        }
+
+        if (evictionPolicy == null) {
+            throw new IllegalArgumentException("Tried to create "
+                    + "LinearProbingCache with null eviction policy");
+        }
+
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        allocate();
+    }
+
+    /**
+     * Gets the value cached for the given key, counting a hit or a miss.
+     *
+     * @param key the key to search for
+     * @return the cached value, or null if the key is not cached
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from LinearProbingCache");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        policy.requested(hash);
+        int index = find(key, hash);
+        if (index == -1) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        policy.accessed(index);
+        return values[index];
+    }
+
+    /**
+     * Caches the given key-value pair. If the key is already cached, replace
+     * its value with the new one passed in.
+     *
+     * Adding a key to a full cache evicts an entry. Under TINY_LFU the new
+     * entry always enters the window, and the entry evicted is either the
+     * one it pushes out of the window or the main area's least recently used
+     * entry, whichever has been requested less often (the one leaving the
+     * window on a tie).
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already cached. If it was, return the
+     *         old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into LinearProbingCache");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null value into LinearProbingCache");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        policy.requested(hash);
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                // duplicate case
+                V old = values[index];
+                values[index] = value;
+                policy.accessed(index);
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        policy.added(index);
+        if (size > maximumSize) {
+            delete(policy.victim());
+            evictionCount++;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry for the given key, if it is cached.
+     *
+     * @param key the key to remove
+     * @return the value that was cached for the key, or null if it was not
+     *         cached
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to remove null key from LinearProbingCache");
+        }
+
+        int index = find(key, Hashing.mix(key.hashCode()));
+        return index == -1 ? null : delete(index);
+    }
+
+    /**
+     * Returns whether or not the key is cached, without counting a hit or a
+     * miss or affecting eviction.
+     *
+     * @param key the key to search for
+     * @return true if the key is cached, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to query if LinearProbingCache contains null key");
+        }
+
+        return find(key, Hashing.mix(key.hashCode())) != -1;
+    }
+
+    /**
+     * Empties the cache. The hit, miss and eviction counts are kept.
+     */
+    public void clear() {
+        allocate();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the most entries the cache may hold.
+     *
+     * @return the maximum size of the cache
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of gets that found their key.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of gets that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room, not counting
+     * removes.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the index of the slot holding key.
+     *
+     * @param key  the non-null key to look for
+     * @param hash the mixed hash code of key
+     * @return the index of the key's slot, or -1 if it is not cached
+     */
+    private int find(K key, int hash) {
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the entry in a full slot, then shifts back every entry after
+     * it in the cluster that may move closer to its home slot.
+     *
+     * @param index the index of the slot
+     * @return the value that was in the slot
+     */
+    private V delete(int index) {
+        policy.removed(index);
+        V removed = values[index];
+        int hole = index;
+        keys[hole] = null;
+        values[hole] = null;
+        size--;
+
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            // the entry may fill the hole unless its home slot lies in
+            // (hole, next], in which case it would move before its home
+            int home = hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hashes[hole] = hashes[next];
+                keys[next] = null;
+                values[next] = null;
+                policy.moved(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the table and policy with empty ones.
+     */
+    private void allocate() {
+        int length = Hashing.powerOfTwoAtLeast((int) Math.ceil(
+                (maximumSize + 1) / LinearProbingHashMap.MAX_LOAD_FACTOR));
+        keys = (K[]) new Object[length];
+        values = (V[]) new Object[length];
+        hashes = new int[length];
+        mask = length - 1;
+        size = 0;
+        switch (evictionPolicy) {
+            case LRU:
+                policy = new Lru(length);
+                break;
+            case CLOCK:
+                policy = new Clock(length);
+                break;
+            default:
+                policy = new WindowTinyLfu(length, maximumSize, hashes);
+                break;
+        }
+    }
+
+    /**
+     * The bookkeeping behind an EvictionPolicy. Every method takes slot
+     * indices of the table.
+     */
+    private abstract static class Policy {
+
+        /**
+         * Records that a key was requested by a get or put, whether or not
+         * it was cached.
+         *
+         * @param hash the mixed hash code of the key
+         */
+        void requested(int hash) {
+            // only frequency based policies care
+        }
+
+        /**
+         * Starts tracking a new entry.
+         *
+         * @param slot the slot of the entry
+         */
+        abstract void added(int slot);
+
+        /**
+         * Records a hit on an entry, or a replacement of its value.
+         *
+         * @param slot the slot of the entry
+         */
+        abstract void accessed(int slot);
+
+        /**
+         * Stops tracking an entry that is about to be removed.
+         *
+         * @param slot the slot of the entry
+         */
+        abstract void removed(int slot);
+
+        /**
+         * Follows an entry to the slot a backward shift moved it to.
+         *
+         * @param from the slot the entry was in
+         * @param to   the empty slot the entry is now in
+         */
+        abstract void moved(int from, int to);
+
+        /**
+         * Picks the entry to evict from a cache that has just gone one entry
+         * over its maximum size, so it holds at least two entries.
+         *
+         * @return the slot of the entry to evict
+         */
+        abstract int victim();
+    }
+
+    /**
+     * A doubly linked list of slots, most recently used first. Several
+     * lists may share the same link arrays as long as every slot is in at
+     * most one of them.
+     */
+    private static final class SlotList {
+        private final int[] previous;
+        private final int[] next;
+        private int head = -1;
+        private int tail = -1;
+        private int size;
+
+        /**
+         * Constructs an empty list.
+         *
+         * @param previous the shared links to the previous slot
+         * @param next     the shared links to the next slot
+         */
+        SlotList(int[] previous, int[] next) {
+            this.previous = previous;
+            this.next = next;
+        }
+
+        /**
+         * Adds a slot at the front of the list.
+         *
+         * @param slot a slot in no list
+         */
+        void addFirst(int slot) {
+            previous[slot] = -1;
+            next[slot] = head;
+            if (head == -1) {
+                tail = slot;
+            } else {
+                previous[head] = slot;
+            }
+            head = slot;
+            size++;
+        }
+
+        /**
+         * Removes a slot from the list.
+         *
+         * @param slot a slot in this list
+         */
+        void unlink(int slot) {
+            if (previous[slot] == -1) {
+                head = next[slot];
+            } else {
+                next[previous[slot]] = next[slot];
+            }
+            if (next[slot] == -1) {
+                tail = previous[slot];
+            } else {
+                previous[next[slot]] = previous[slot];
+            }
+            size--;
+        }
+
+        /**
+         * Moves a slot to the front of the list.
+         *
+         * @param slot a slot in this list
+         */
+        void moveToFront(int slot) {
+            if (slot != head) {
+                unlink(slot);
+                addFirst(slot);
+            }
+        }
+
+        /**
+         * Puts a slot in the place of another one in the list.
+         *
+         * @param from a slot in this list
+         * @param to   a slot in no list
+         */
+        void replace(int from, int to) {
+            previous[to] = previous[from];
+            next[to] = next[from];
+            if (previous[to] == -1) {
+                head = to;
+            } else {
+                next[previous[to]] = to;
+            }
+            if (next[to] == -1) {
+                tail = to;
+            } else {
+                previous[next[to]] = to;
+            }
+        }
+    }
+
+    /**
+     * Least recently used eviction.
+     */
+    private static final class Lru extends Policy {
+        private final SlotList list;
+
+        /**
+         * Constructs the policy.
+         *
+         * @param length the length of the table
+         */
+        Lru(int length) {
+            list = new SlotList(new int[length], new int[length]);
+        }
+
+        @Override
+        void added(int slot) {
+            list.addFirst(slot);
+        }
+
+        @Override
+        void accessed(int slot) {
+            list.moveToFront(slot);
+        }
+
+        @Override
+        void removed(int slot) {
+            list.unlink(slot);
+        }
+
+        @Override
+        void moved(int from, int to) {
+            list.replace(from, to);
+        }
+
+        @Override
+        int victim() {
+            return list.tail;
+        }
+    }
+
+    /**
+     * Second chance eviction with a clock hand over the table slots.
+     */
+    private static final class Clock extends Policy {
+        private static final byte EMPTY = 0;
+        private static final byte UNREFERENCED = 1;
+        private static final byte REFERENCED = 2;
+
+        private final byte[] states;
+        private int hand;
+
+        /**
+         * The slot of the newest entry, which is never evicted so that a put
+         * always caches its key.
+         */
+        private int newest;
+
+        /**
+         * Constructs the policy.
+         *
+         * @param length the length of the table
+         */
+        Clock(int length) {
+            states = new byte[length];
+        }
+
+        @Override
+        void added(int slot) {
+            states[slot] = UNREFERENCED;
+            newest = slot;
+        }
+
+        @Override
+        void accessed(int slot) {
+            states[slot] = REFERENCED;
+        }
+
+        @Override
+        void removed(int slot) {
+            states[slot] = EMPTY;
+        }
+
+        @Override
+        void moved(int from, int to) {
+            states[to] = states[from];
+            states[from] = EMPTY;
+            if (newest == from) {
+                newest = to;
+            }
+        }
+
+        @Override
+        int victim() {
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) & (states.length - 1);
+                if (states[slot] == REFERENCED) {
+                    states[slot] = UNREFERENCED;
+                } else if (states[slot] == UNREFERENCED && slot != newest) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Window TinyLFU: an LRU window in front of an LRU main area, with
+     * admission to the main area decided by a FrequencySketch.
+     */
+    private static final class WindowTinyLfu extends Policy {
+        private static final byte WINDOW = 1;
+        private static final byte MAIN = 2;
+
+        private final int[] hashes;
+        private final byte[] areas;
+        private final SlotList window;
+        private final SlotList main;
+        private final int windowSize;
+        private final FrequencySketch sketch;
+
+        /**
+         * The slot of the entry the last add moved from the window to main,
+         * or -1 if it moved none.
+         */
+        private int candidate = -1;
+
+        /**
+         * Constructs the policy.
+         *
+         * @param length      the length of the table
+         * @param maximumSize the maximum size of the cache
+         * @param hashes      the mixed hash codes of the cached keys, by slot
+         */
+        WindowTinyLfu(int length, int maximumSize, int[] hashes) {
+            this.hashes = hashes;
+            areas = new byte[length];
+            int[] previous = new int[length];
+            int[] next = new int[length];
+            window = new SlotList(previous, next);
+            main = new SlotList(previous, next);
+            windowSize = Math.max(1, maximumSize / 100);
+            sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Override
+        void requested(int hash) {
+            sketch.increment(hash);
+        }
+
+        @Override
+        void added(int slot) {
+            window.addFirst(slot);
+            areas[slot] = WINDOW;
+            candidate = -1;
+            if (window.size > windowSize) {
+                // the oldest window entry moves to main, where it has to
+                // compete for a place if the cache is now over its maximum
+                candidate = window.tail;
+                window.unlink(candidate);
+                main.addFirst(candidate);
+                areas[candidate] = MAIN;
+            }
+        }
+
+        @Override
+        void accessed(int slot) {
+            area(slot).moveToFront(slot);
+        }
+
+        @Override
+        void removed(int slot) {
+            area(slot).unlink(slot);
+            areas[slot] = 0;
+        }
+
+        @Override
+        void moved(int from, int to) {
+            area(from).replace(from, to);
+            areas[to] = areas[from];
+            areas[from] = 0;
+        }
+
+        @Override
+        int victim() {
+            int victim = main.tail;
+            if (candidate == -1 || candidate == victim) {
+                return victim;
+            }
+            return sketch.frequency(hashes[candidate])
+                    > sketch.frequency(hashes[victim]) ? victim : candidate;
+        }
+
+        /**
+         * Returns the list a slot is in.
+         *
+         * @param slot a tracked slot
+         * @return the window or the main list
+         */
+        private SlotList area(int slot) {
+            return areas[slot] == WINDOW ? window : main;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters estimating how often each hash
+     * was requested lately.
+     *
+     * Each hash has a counter in each of DEPTH rows, and its estimate is the
+     * smallest of them, since collisions only ever add to a counter. Once
+     * 10 * maximumSize increments have been made, every counter is halved,
+     * so the estimates favor recent requests and old favorites fade.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int[] SEEDS = {
+            0x97cb3127, 0xb8a0a7f5, 0x4a2c1f3d, 0xe1f8ab61
+        };
+
+        /**
+         * Sixteen 4 bit counters per long.
+         */
+        private final long[] table;
+        private final int resetSize;
+        private int additions;
+
+        /**
+         * Constructs an empty sketch.
+         *
+         * @param maximumSize the maximum size of the cache
+         */
+        FrequencySketch(int maximumSize) {
+            // sixteen counters for each cached entry, shared by the rows
+            table = new long[Hashing.powerOfTwoAtLeast(
+                    Math.max(maximumSize, 8))];
+            resetSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Returns the estimated number of recent requests for a hash.
+         *
+         * @param hash the mixed hash code
+         * @return the estimate, at most 15
+         */
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int row = 0; row < DEPTH; row++) {
+                int h = Hashing.mix(hash + SEEDS[row]);
+                int shift = (h >>> 28) << 2;
+                frequency = Math.min(frequency,
+                        (int) (table[h & (table.length - 1)] >>> shift) & 15);
+            }
+            return frequency;
+        }
+
+        /**
+         * Counts a request for a hash.
+         *
+         * @param hash the mixed hash code
+         */
+        void increment(int hash) {
+            for (int row = 0; row < DEPTH; row++) {
+                int h = Hashing.mix(hash + SEEDS[row]);
+                int index = h & (table.length - 1);
+                int shift = (h >>> 28) << 2;
+                if (((table[index] >>> shift) & 15) != 15) {
+                    table[index] += 1L << shift;
+                }
+            }
+            if (++additions == resetSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+                }
+                additions /= 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LinearProbingCache.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LinearProbingCacheTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testLruEvictsLeastRecentlyUsed() {
+        LinearProbingCache<Integer, String> cache =
+                new LinearProbingCache<>(3, EvictionPolicy.LRU);
+        cache.put(1, "1");
+        cache.put(2, "2");
+        cache.put(3, "3");
+        assertEquals("1", cache.get(1));
+        cache.put(4, "4");
+
+        assertFalse(cache.containsKey(2));
+        assertTrue(cache.containsKey(1));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.get(2));
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLruMatchesLinkedHashMap() {
+        // 41 entries in a 64 slot table form long clusters, so removes and
+        // evictions shift entries that the LRU list has to follow
+        LinearProbingCache<Integer, Integer> cache =
+                new LinearProbingCache<>(40, EvictionPolicy.LRU);
+        Map<Integer, Integer> expected =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(
+                            Map.Entry<Integer, Integer> eldest) {
+                        return size() > 40;
+                    }
+                };
+        Random random = new Random(1332);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(100);
+            int op = random.nextInt(4);
+            if (op == 0) {
+                assertEquals(expected.put(key, i), cache.put(key, i));
+            } else if (op == 1) {
+                assertEquals(expected.remove(key), cache.remove(key));
+            } else {
+                assertEquals(expected.get(key), cache.get(key));
+            }
+            assertEquals(expected.size(), cache.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClockGivesSecondChance() {
+        LinearProbingCache<Integer, Integer> cache =
+                new LinearProbingCache<>(100, EvictionPolicy.CLOCK);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.get(i);
+        }
+        for (int i = 100; i < 150; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(50, cache.evictionCount());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(cache.containsKey(i));
+        }
+        assertTrue(cache.containsKey(149));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTinyLfuResistsScans() {
+        LinearProbingCache<Integer, Integer> cache =
+                new LinearProbingCache<>(100, EvictionPolicy.TINY_LFU);
+        LinearProbingCache<Integer, Integer> lru =
+                new LinearProbingCache<>(100, EvictionPolicy.LRU);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                getOrLoad(cache, i);
+                getOrLoad(lru, i);
+            }
+        }
+        // a scan of keys that are each requested only once
+        for (int i = 1000; i < 1300; i++) {
+            getOrLoad(cache, i);
+            getOrLoad(lru, i);
+        }
+
+        int hot = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.containsKey(i)) {
+                hot++;
+            }
+            assertFalse(lru.containsKey(i));
+        }
+        assertEquals(50, hot);
+        assertEquals(100, cache.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStaysBounded() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            LinearProbingCache<Integer, Integer> cache =
+                    new LinearProbingCache<>(50, policy);
+            Random random = new Random(1332);
+            for (int i = 0; i < 10000; i++) {
+                getOrLoad(cache, random.nextInt(500));
+                assertTrue(cache.size() <= 50);
+            }
+            assertEquals(10000, cache.hitCount() + cache.missCount());
+            assertEquals(cache.missCount(),
+                    cache.evictionCount() + cache.size());
+
+            cache.clear();
+            assertEquals(0, cache.size());
+            assertNull(cache.get(0));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testExceptions() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new LinearProbingCache<>(0, EvictionPolicy.LRU));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new LinearProbingCache<>(10, null));
+        LinearProbingCache<Integer, Integer> cache =
+                new LinearProbingCache<>(10, EvictionPolicy.LRU);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> cache.put(null, 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> cache.put(1, null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(null));
+    }
+
+    /**
+     * Gets a key from the cache, putting it in on a miss.
+     *
+     * @param cache the cache
+     * @param key   the key
+     */
+    private static void getOrLoad(LinearProbingCache<Integer, Integer> cache,
+            int key) {
+        if (cache.get(key) == null) {
+            cache.put(key, key);
+        }
+    }
+}
@@ -1,8 +1,16 @@
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Your implementation of a LinearProbingHashMap.
@@ -16,7 +24,8 @@ import java.util.Set;
  *
  *       Resources: N/A
  */
-public class LinearProbingHashMap<K, V> {
+public class LinearProbingHashMap<K, V>
+        implements OpenAddressingMap<K, V> {
 
     /**
      * The initial capacity of the LinearProbingHashMap when created with the
@@ -33,10 +42,35 @@ public class LinearProbingHashMap<K, V> {
      */
     public static final double MAX_LOAD_FACTOR = 0.67;
 
-    // Do not add new instance variables or modify existing ones.
+    /**
+     * The number of keys getAll and putAll hash and start probing together.
+     * Enough independent cache misses to keep the memory system busy, few
+     * enough that the group's slots and entries stay in cache until they
+     * are probed.
+     */
+    private static final int BATCH_GROUP = 16;
+
+    /**
+     * Marks a key of a batch whose home slot is empty, so it is not in the
+     * map.
+     */
+    private static final int EMPTY_HOME = -1;
+
+    /**
+     * Marks a key of a batch that is not at its home slot but may be
+     * further along the cluster.
+     */
+    private static final int UNRESOLVED = -2;
+
     private LinearProbingMapEntry<K, V>[] table;
     private int size;
 
+    /**
+     * Counts adds, removes, resizes and clears, so the views can tell when
+     * the map changed under an iteration.
+     */
+    private int modCount;
+
     /**
      * Constructs a new LinearProbingHashMap.
      *
@@ -93,6 +127,7 @@ public class LinearProbingHashMap<K, V> {
      *         return the old value associated with it
      * @throws java.lang.IllegalArgumentException if key or value is null
      */
+    @Override
     public V put(K key, V value) {
         if (key == null) {
             throw new IllegalArgumentException(
@@ -108,16 +143,28 @@ public class LinearProbingHashMap<K, V> {
         if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
             resizeBackingTable(2 * table.length + 1);
         }
-        
-        int hash = Math.abs(key.hashCode() % table.length);
+
+        return putFrom(key, value, Math.abs(key.hashCode() % table.length));
+    }
+
+    /**
+     * Adds or replaces an entry, probing from the key's home slot. The table
+     * must already have room for one more entry.
+     *
+     * @param key   the non-null key to add
+     * @param value the non-null value to add
+     * @param hash  the home slot of key in the current table
+     * @return null if the key was not already in the map, or the old value
+     */
+    private V putFrom(K key, V value, int hash) {
         int probe = 0;
         int insert = -1;
-        int entry = hash % table.length;
+        int entry = hash;
         while (probe < table.length && table[entry] != null) {
             if (table[entry].isRemoved()) {
                 // case for seeing a DEL marker
                 if (insert == -1) {
-                    insert = probe + hash;
+                    insert = entry;
                 }
             } else {
                 // duplicate case
@@ -127,7 +174,11 @@ public class LinearProbingHashMap<K, V> {
                     return removed;
                 }
             }
-            entry = (++probe + hash) % table.length;
+            // step to the next slot, wrapping without a division
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
         }
 
         // insertion at first DEL marker or null
@@ -138,9 +189,9 @@ public class LinearProbingHashMap<K, V> {
         }
 
         size++;
+        modCount++;
 
         return null;
-
     }
 
     /**
@@ -152,6 +203,7 @@ public class LinearProbingHashMap<K, V> {
      * @throws java.lang.IllegalArgumentException if key is null
      * @throws java.util.NoSuchElementException   if the key is not in the map
      */
+    @Override
     public V remove(K key) {
         if (key == null) {
             throw new IllegalArgumentException(
@@ -160,15 +212,19 @@ public class LinearProbingHashMap<K, V> {
 
         int hash = Math.abs(key.hashCode() % table.length);
         int probe = 0;
-        int entry = hash % table.length;
+        int entry = hash;
         while (probe < table.length && table[entry] != null) {
             // mark DEL on finding key
             if (!table[entry].isRemoved() && table[entry].getKey().equals(key)) {
                 table[entry].setRemoved(true);
                 size--;
+                modCount++;
                 return table[entry].getValue();
             }
-            entry = (++probe + hash) % table.length;
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
         }
         throw new NoSuchElementException(
                 "Tried to remove key that does not exist in LinearProbingHashMap");
@@ -182,6 +238,7 @@ public class LinearProbingHashMap<K, V> {
      * @throws java.lang.IllegalArgumentException if key is null
      * @throws java.util.NoSuchElementException   if the key is not in the map
      */
+    @Override
     public V get(K key) {
         if (key == null) {
             throw new IllegalArgumentException(
@@ -190,13 +247,16 @@ public class LinearProbingHashMap<K, V> {
 
         int hash = Math.abs(key.hashCode() % table.length);
         int probe = 0;
-        int entry = hash % table.length;
+        int entry = hash;
         while (probe < table.length && table[entry] != null) {
             // return value on finding entry with same key
             if (!table[entry].isRemoved() && table[entry].getKey().equals(key)) {
                 return table[entry].getValue();
             }
-            entry = (++probe + hash) % table.length;
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
         }
         throw new NoSuchElementException(
                 "Tried to get key that does not exist in LinearProbingHashMap");
@@ -209,6 +269,7 @@ public class LinearProbingHashMap<K, V> {
      * @return true if the key is contained within the map, false otherwise
      * @throws java.lang.IllegalArgumentException if key is null
      */
+    @Override
     public boolean containsKey(K key) {
         if (key == null) {
             throw new IllegalArgumentException(
@@ -217,18 +278,442 @@ public class LinearProbingHashMap<K, V> {
 
         int hash = Math.abs(key.hashCode() % table.length);
         int probe = 0;
-        int entry = hash % table.length;
+        int entry = hash;
         while (probe < table.length && table[entry] != null) {
             // return true on finding entry with same key
             if (!table[entry].isRemoved() && table[entry].getKey().equals(key)) {
                 return true;
             }
-            entry = (++probe + hash) % table.length;
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
 
         }
         return false;
     }
 
+    /**
+     * Gets the value associated with the given key, or a default if the key
+     * is not in the map. Unlike get, a miss costs no exception.
+     *
+     * @param key          the key to search for in the map
+     * @param defaultValue the value to return if the key is not in the map
+     * @return the value associated with the key, or defaultValue
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from LinearProbingHashMap");
+        }
+
+        int index = findFrom(key, Math.abs(key.hashCode() % table.length));
+        return index == -1 ? defaultValue : table[index].getValue();
+    }
+
+    /**
+     * Gets the value associated with the given key, or null if the key is not
+     * in the map. Values are never null, so null always means a miss.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the key, or null
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V getOrNull(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Removes the entry with a matching key from the map if there is one,
+     * marking it as removed. Unlike remove, a miss costs no exception.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key, or null if the
+     *         key was not in the map
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V removeIfPresent(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to remove null key from LinearProbingHashMap");
+        }
+
+        int index = findFrom(key, Math.abs(key.hashCode() % table.length));
+        if (index == -1) {
+            return null;
+        }
+        table[index].setRemoved(true);
+        size--;
+        modCount++;
+        return table[index].getValue();
+    }
+
+    /**
+     * Returns the value associated with the given key, first adding the
+     * value computed from the key if the key is not in the map.
+     *
+     * The key is probed for once. If it is missing, the probe also found the
+     * slot to add it at, so the add does not probe again unless it has to
+     * grow the table first.
+     *
+     * @param key             the key to look up or add
+     * @param mappingFunction computes the value for a missing key. If it
+     *                        returns null, nothing is added
+     * @return the existing or added value, or null if nothing was added
+     * @throws java.lang.IllegalArgumentException     if key or
+     *                                                mappingFunction is null
+     * @throws java.util.ConcurrentModificationException if mappingFunction
+     *                                                   changed the map
+     */
+    public V computeIfAbsent(K key,
+            Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new IllegalArgumentException("Tried to computeIfAbsent "
+                    + "with null key or function in LinearProbingHashMap");
+        }
+
+        int slot = slotFor(key);
+        if (slot >= 0) {
+            return table[slot].getValue();
+        }
+
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value != null) {
+            addAt(-slot - 1, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the value associated with the given key by the value computed
+     * from the key and its current value, if the key is in the map. If the
+     * function returns null, the entry is removed.
+     *
+     * @param key               the key to update
+     * @param remappingFunction computes the new value from the key and its
+     *                          current value
+     * @return the new value, or null if the key was not in the map or was
+     *         removed
+     * @throws java.lang.IllegalArgumentException     if key or
+     *                                                remappingFunction is
+     *                                                null
+     * @throws java.util.ConcurrentModificationException if
+     *                                                   remappingFunction
+     *                                                   changed the map
+     */
+    public V computeIfPresent(K key,
+            BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new IllegalArgumentException("Tried to computeIfPresent "
+                    + "with null key or function in LinearProbingHashMap");
+        }
+
+        int index = findFrom(key, Math.abs(key.hashCode() % table.length));
+        if (index == -1) {
+            return null;
+        }
+
+        int expectedModCount = modCount;
+        V value = remappingFunction.apply(key, table[index].getValue());
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        replaceAt(index, value);
+        return value;
+    }
+
+    /**
+     * Adds the given value for the given key if the key is not in the map,
+     * and otherwise replaces the key's value by the value computed from the
+     * old and given values, like counting with merge(word, 1, Integer::sum).
+     * If the function returns null, the entry is removed.
+     *
+     * The key is probed for once, whichever way it goes.
+     *
+     * @param key               the key to add or update
+     * @param value             the value to add, or to combine with the
+     *                          current one
+     * @param remappingFunction combines the current value with value
+     * @return the new value associated with the key, or null if the entry
+     *         was removed
+     * @throws java.lang.IllegalArgumentException     if key, value or
+     *                                                remappingFunction is
+     *                                                null
+     * @throws java.util.ConcurrentModificationException if
+     *                                                   remappingFunction
+     *                                                   changed the map
+     */
+    public V merge(K key, V value,
+            BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == null || value == null || remappingFunction == null) {
+            throw new IllegalArgumentException("Tried to merge with null "
+                    + "key, value or function in LinearProbingHashMap");
+        }
+
+        int slot = slotFor(key);
+        if (slot < 0) {
+            addAt(-slot - 1, key, value);
+            return value;
+        }
+
+        int expectedModCount = modCount;
+        V merged = remappingFunction.apply(table[slot].getValue(), value);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        replaceAt(slot, merged);
+        return merged;
+    }
+
+    /**
+     * Probes for a key once, finding either its entry or the slot put would
+     * add it at: the first DEL marker on the way, or else the empty slot
+     * that ended the probe.
+     *
+     * @param key the non-null key to look for
+     * @return the index of the key's entry, or -(slot + 1) if the key is
+     *         not in the map
+     */
+    private int slotFor(K key) {
+        int entry = Math.abs(key.hashCode() % table.length);
+        int insert = -1;
+        int probe = 0;
+        while (probe < table.length && table[entry] != null) {
+            if (table[entry].isRemoved()) {
+                if (insert == -1) {
+                    insert = entry;
+                }
+            } else if (table[entry].getKey().equals(key)) {
+                return entry;
+            }
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
+        }
+        return -(insert == -1 ? entry : insert) - 1;
+    }
+
+    /**
+     * Adds a key that is not in the map at the slot slotFor found for it,
+     * first growing the table like put if the add would exceed
+     * MAX_LOAD_FACTOR.
+     *
+     * @param slot  the slot slotFor found for key in the current table
+     * @param key   the non-null key to add
+     * @param value the non-null value to add
+     */
+    private void addAt(int slot, K key, V value) {
+        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * table.length + 1);
+            slot = -slotFor(key) - 1;
+        }
+        table[slot] = new LinearProbingMapEntry<>(key, value);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Sets the value of an entry, or removes the entry if value is null.
+     *
+     * @param index the index of a live entry
+     * @param value the new value, or null to remove the entry
+     */
+    private void replaceAt(int index, V value) {
+        if (value == null) {
+            table[index].setRemoved(true);
+            size--;
+            modCount++;
+        } else {
+            table[index].setValue(value);
+        }
+    }
+
+    /**
+     * Gets the values associated with a batch of keys, without throwing for
+     * keys that are not in the map.
+     *
+     * The keys are hashed and probed in groups of BATCH_GROUP. For each
+     * group, every home slot is loaded, then every entry in those slots,
+     * and only then is each key probed. The loads of a group do not depend
+     * on each other, so the CPU overlaps their cache misses instead of
+     * paying for them one get at a time.
+     *
+     * @param keys the keys to look up
+     * @param out  the array to store the value of keys[i] in at index i, or
+     *             null if keys[i] is not in the map
+     * @return the number of keys found
+     * @throws java.lang.IllegalArgumentException if keys, out, or any key is
+     *                                            null, or out is shorter
+     *                                            than keys
+     */
+    public int getAll(K[] keys, V[] out) {
+        checkBatch(keys, out, "get");
+
+        int found = 0;
+        int[] homes = new int[BATCH_GROUP];
+        int[] indices = new int[BATCH_GROUP];
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int count = Math.min(BATCH_GROUP, keys.length - start);
+            probeHomes(keys, start, count, homes, indices);
+            for (int i = 0; i < count; i++) {
+                int index = indices[i];
+                if (index == UNRESOLVED) {
+                    // the rest of the cluster, one key at a time
+                    index = findFrom(keys[start + i], homes[i]);
+                }
+                if (index < 0) {
+                    out[start + i] = null;
+                } else {
+                    out[start + i] = table[index].getValue();
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds a batch of key-value pairs to the map, like calling put on each
+     * pair in order.
+     *
+     * Before each group of BATCH_GROUP keys, the table grows to 2 * length +
+     * 1 as many times as needed to add the whole group without exceeding
+     * MAX_LOAD_FACTOR, so the group is hashed once and probed like getAll.
+     * If the group holds keys that are already in the map, the table may end
+     * up one resize larger than individual puts would leave it.
+     *
+     * @param keys   the keys to add
+     * @param values the values to add, values[i] going with keys[i]
+     * @return the number of keys that were not already in the map
+     * @throws java.lang.IllegalArgumentException if keys, values, or any key
+     *                                            or value is null, or values
+     *                                            is shorter than keys. The
+     *                                            map is left unchanged
+     */
+    public int putAll(K[] keys, V[] values) {
+        checkBatch(keys, values, "add");
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] == null) {
+                throw new IllegalArgumentException(
+                        "Tried to add null value into LinearProbingHashMap");
+            }
+        }
+
+        int added = 0;
+        int[] homes = new int[BATCH_GROUP];
+        int[] indices = new int[BATCH_GROUP];
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int count = Math.min(BATCH_GROUP, keys.length - start);
+            while ((size + (double) count) / table.length > MAX_LOAD_FACTOR) {
+                resizeBackingTable(2 * table.length + 1);
+            }
+            probeHomes(keys, start, count, homes, indices);
+            for (int i = 0; i < count; i++) {
+                if (indices[i] >= 0) {
+                    // entries never move during a batch, so a key found at
+                    // home is still there
+                    table[indices[i]].setValue(values[start + i]);
+                } else if (putFrom(keys[start + i], values[start + i],
+                        homes[i]) == null) {
+                    // an empty home may have been filled by an earlier key
+                    // of the group, so every other key probes again
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Checks the arguments of getAll or putAll.
+     *
+     * @param keys   the batch of keys
+     * @param values the array of values that goes with it
+     * @param action "get" or "add", for the error messages
+     * @throws java.lang.IllegalArgumentException if the batch is invalid
+     */
+    private void checkBatch(K[] keys, V[] values, String action) {
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("Tried to " + action
+                    + " a batch with null arrays in LinearProbingHashMap");
+        }
+
+        if (values.length < keys.length) {
+            throw new IllegalArgumentException("Tried to " + action + " "
+                    + keys.length + " keys with only " + values.length
+                    + " values in LinearProbingHashMap");
+        }
+
+        for (K key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("Tried to " + action
+                        + " null key in a batch in LinearProbingHashMap");
+            }
+        }
+    }
+
+    /**
+     * Takes the first probe step for a group of keys together: hashes them
+     * all, then loads all of their home slots, then compares each key with
+     * the entry at its home. The loads within each pass do not depend on
+     * each other, so the CPU overlaps their cache misses. Most keys are
+     * resolved at their home slot under MAX_LOAD_FACTOR.
+     *
+     * @param keys    the batch of keys
+     * @param start   the index of the first key of the group
+     * @param count   the number of keys in the group
+     * @param homes   filled with the home slot of each key in the group
+     * @param indices filled with the home slot if the key's entry is there,
+     *                EMPTY_HOME if the home slot is empty, or UNRESOLVED
+     */
+    private void probeHomes(K[] keys, int start, int count, int[] homes,
+            int[] indices) {
+        for (int i = 0; i < count; i++) {
+            homes[i] = Math.abs(keys[start + i].hashCode() % table.length);
+        }
+        for (int i = 0; i < count; i++) {
+            indices[i] = table[homes[i]] == null ? EMPTY_HOME : UNRESOLVED;
+        }
+        for (int i = 0; i < count; i++) {
+            if (indices[i] == UNRESOLVED) {
+                LinearProbingMapEntry<K, V> entry = table[homes[i]];
+                if (!entry.isRemoved()
+                        && entry.getKey().equals(keys[start + i])) {
+                    indices[i] = homes[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the entry holding key, probing from its home
+     * slot.
+     *
+     * @param key  the non-null key to look for
+     * @param hash the home slot of key in the current table
+     * @return the index of the key's entry, or -1 if it is not in the map
+     */
+    private int findFrom(K key, int hash) {
+        int probe = 0;
+        int entry = hash;
+        while (probe < table.length && table[entry] != null) {
+            if (!table[entry].isRemoved() && table[entry].getKey().equals(key)) {
+                return entry;
+            }
+            probe++;
+            if (++entry == table.length) {
+                entry = 0;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a Set view of the keys contained in this map.
      *
@@ -236,6 +721,7 @@ public class LinearProbingHashMap<K, V> {
      *
      * @return the set of keys in this map
      */
+    @Override
     public Set<K> keySet() {
         Set<K> keys = new HashSet<>();
         int count = 0;
@@ -260,6 +746,7 @@ public class LinearProbingHashMap<K, V> {
      *
      * @return list of values in this map
      */
+    @Override
     public List<V> values() {
         List<V> values = new LinkedList<>();
         int count = 0;
@@ -296,6 +783,7 @@ public class LinearProbingHashMap<K, V> {
      *                                            number of items in the hash
      *                                            map
      */
+    @Override
     public void resizeBackingTable(int length) {
         if (size > length) {
             throw new IllegalArgumentException(
@@ -312,7 +800,9 @@ public class LinearProbingHashMap<K, V> {
                 int hash = Math.abs(table[index].getKey().hashCode() % length);
                 int probe = hash;
                 while (temp[probe] != null) {
-                    probe = (probe + 1) % length;
+                    if (++probe == length) {
+                        probe = 0;
+                    }
                 }
                 temp[probe] = table[index];
                 count++;
@@ -320,7 +810,7 @@ public class LinearProbingHashMap<K, V> {
             index++;
         }
         table = temp;
-
+        modCount++;
     }
 
     /**
@@ -331,10 +821,194 @@ public class LinearProbingHashMap<K, V> {
      *
      * Must be O(1).
      */
+    @Override
     public void clear() {
         table = (LinearProbingMapEntry<K, V>[]) 
                 new LinearProbingMapEntry[INITIAL_CAPACITY];
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a live Set view of the keys contained in this map.
+     *
+     * Unlike keySet, nothing is copied: the view reads the table directly,
+     * so it always reflects the current contents of the map. Removing
+     * through its iterator removes the entry from the map. Iterating while
+     * the map is otherwise added to, removed from or resized throws a
+     * ConcurrentModificationException.
+     *
+     * Must be O(1).
+     *
+     * @return a view of the keys in this map
+     */
+    public Set<K> keyView() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new TableIterator<K>() {
+                    @Override
+                    K extract(LinearProbingMapEntry<K, V> entry) {
+                        return entry.getKey();
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o != null && containsKey((K) o);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns a live Collection view of the values contained in this map, in
+     * order of increasing table index.
+     *
+     * Behaves like keyView, without copying anything.
+     *
+     * Must be O(1).
+     *
+     * @return a view of the values in this map
+     */
+    public Collection<V> valueView() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new TableIterator<V>() {
+                    @Override
+                    V extract(LinearProbingMapEntry<K, V> entry) {
+                        return entry.getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Calls action on every key-value pair in the map, in order of
+     * increasing table index, without allocating anything.
+     *
+     * Must be O(n + capacity).
+     *
+     * @param action the action to perform on each entry
+     * @throws java.lang.IllegalArgumentException         if action is null
+     * @throws java.util.ConcurrentModificationException if action adds to,
+     *                                                    removes from or
+     *                                                    resizes the map
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (action == null) {
+            throw new IllegalArgumentException(
+                    "Tried to call forEach on LinearProbingHashMap with null "
+                            + "action");
+        }
+
+        int expectedModCount = modCount;
+        LinearProbingMapEntry<K, V>[] entries = table;
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != null && !entries[i].isRemoved()) {
+                action.accept(entries[i].getKey(), entries[i].getValue());
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException(
+                            "LinearProbingHashMap was modified during forEach");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first table index at or after index that holds an entry,
+     * for scanning the map without any allocation:
+     *
+     * <pre>
+     *   for (int i = map.nextIndex(0); i != -1; i = map.nextIndex(i + 1)) {
+     *       use(map.keyAt(i), map.valueAt(i));
+     *   }
+     * </pre>
+     *
+     * Indexes are only meaningful until the map is next added to, removed
+     * from or resized.
+     *
+     * @param index the index to start searching at
+     * @return the index of the next entry, or -1 if there are no more
+     * @throws java.lang.IndexOutOfBoundsException if index < 0
+     */
+    public int nextIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Given start index is " + index
+                    + " which is out of bounds for LinearProbingHashMap");
+        }
+
+        for (int i = index; i < table.length; i++) {
+            if (table[i] != null && !table[i].isRemoved()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key stored at a table index found by nextIndex.
+     *
+     * @param index the table index
+     * @return the key at index
+     * @throws java.lang.IndexOutOfBoundsException if index is not a valid
+     *                                             table index
+     * @throws java.util.NoSuchElementException    if there is no entry at
+     *                                             index
+     */
+    public K keyAt(int index) {
+        return entryAt(index).getKey();
+    }
+
+    /**
+     * Returns the value stored at a table index found by nextIndex.
+     *
+     * @param index the table index
+     * @return the value at index
+     * @throws java.lang.IndexOutOfBoundsException if index is not a valid
+     *                                             table index
+     * @throws java.util.NoSuchElementException    if there is no entry at
+     *                                             index
+     */
+    public V valueAt(int index) {
+        return entryAt(index).getValue();
+    }
+
+    /**
+     * Returns the live entry at a table index.
+     *
+     * @param index the table index
+     * @return the entry at index
+     * @throws java.lang.IndexOutOfBoundsException if index is not a valid
+     *                                             table index
+     * @throws java.util.NoSuchElementException    if there is no entry at
+     *                                             index
+     */
+    private LinearProbingMapEntry<K, V> entryAt(int index) {
+        if (index < 0 || index >= table.length) {
+            throw new IndexOutOfBoundsException("Given table index is " + index
+                    + " which is out of bounds for LinearProbingHashMap of "
+                    + "capacity " + table.length);
+        }
+
+        if (table[index] == null || table[index].isRemoved()) {
+            throw new NoSuchElementException(
+                    "Tried to read empty slot " + index
+                            + " of LinearProbingHashMap");
+        }
+        return table[index];
     }
 
     /**
@@ -358,8 +1032,72 @@ public class LinearProbingHashMap<K, V> {
      *
      * @return the size of the map
      */
+    @Override
     public int size() {
         // DO NOT MODIFY THIS METHOD!
         return size;
     }
+
+    /**
+     * Walks the live entries of the table in order of increasing index.
+     *
+     * @param <T> the type of element extracted from each entry
+     */
+    private abstract class TableIterator<T> implements Iterator<T> {
+        private int expectedModCount = modCount;
+        private int next = nextIndex(0);
+        private int last = -1;
+
+        /**
+         * Returns the element of an entry this iterator produces.
+         *
+         * @param entry the live entry
+         * @return the element
+         */
+        abstract T extract(LinearProbingMapEntry<K, V> entry);
+
+        @Override
+        public boolean hasNext() {
+            return next != -1;
+        }
+
+        @Override
+        public T next() {
+            checkForModification();
+            if (next == -1) {
+                throw new NoSuchElementException(
+                        "Tried to iterate past the end of LinearProbingHashMap");
+            }
+
+            last = next;
+            next = nextIndex(next + 1);
+            return extract(table[last]);
+        }
+
+        @Override
+        public void remove() {
+            checkForModification();
+            if (last == -1) {
+                throw new IllegalStateException(
+                        "Tried to remove before next or twice in a row");
+            }
+
+            table[last].setRemoved(true);
+            size--;
+            expectedModCount = ++modCount;
+            last = -1;
+        }
+
+        /**
+         * Throws if the map was changed other than through this iterator.
+         *
+         * @throws java.util.ConcurrentModificationException if it was
+         */
+        private void checkForModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "LinearProbingHashMap was modified during iteration");
+            }
+        }
+    }
 }
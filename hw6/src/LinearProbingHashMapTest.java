@@ -0,0 +1,281 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LinearProbingHashMap beyond the student tests.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LinearProbingHashMapTest extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new LinearProbingHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutReusesDeletedSlotAfterWrap() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+
+        // 12 and 25 both hash to the last slot, so 25 wraps around to slot 0
+        map.put(12, "A");
+        map.put(25, "B");
+        map.remove(25);
+
+        // 38 also hashes to slot 12 and must reuse the DEL marker at slot 0
+        assertNull(map.put(38, "C"));
+        assertEquals("C", map.getTable()[0].getValue());
+        assertEquals("C", map.get(38));
+        assertEquals(2, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testViewsAreLive() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        map.put(1, "A");
+        map.put(14, "B");
+        Set<Integer> keys = map.keyView();
+        Collection<String> values = map.valueView();
+
+        map.put(2, "C");
+        map.remove(1);
+        assertEquals(map.keySet(), keys);
+        assertEquals(map.values(), new ArrayList<>(values));
+        assertTrue(keys.contains(14));
+        assertFalse(keys.contains(1));
+        assertEquals(2, values.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testViewIteratorRemove() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put(i, "" + i);
+        }
+
+        Iterator<Integer> iterator = map.keyView().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(10, map.size());
+        assertFalse(map.containsKey(4));
+        assertEquals("5", map.get(5));
+
+        Iterator<Integer> again = map.keyView().iterator();
+        Assert.assertThrows(IllegalStateException.class, again::remove);
+        again.next();
+        again.remove();
+        Assert.assertThrows(IllegalStateException.class, again::remove);
+        assertEquals(9, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testViewIteratorFailsFast() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        map.put(1, "A");
+        map.put(2, "B");
+
+        Iterator<String> iterator = map.valueView().iterator();
+        iterator.next();
+        map.put(3, "C");
+        Assert.assertThrows(ConcurrentModificationException.class,
+                iterator::next);
+        Assert.assertThrows(ConcurrentModificationException.class,
+                () -> map.forEach((key, value) -> map.remove(key)));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testForEachAndCursorMatchValues() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        for (int i = 0; i < 50; i += 3) {
+            map.put(i, "" + i);
+        }
+        map.remove(9);
+
+        List<String> forEach = new ArrayList<>();
+        map.forEach((key, value) -> {
+            assertEquals("" + key, value);
+            forEach.add(value);
+        });
+
+        List<String> cursor = new ArrayList<>();
+        for (int i = map.nextIndex(0); i != -1; i = map.nextIndex(i + 1)) {
+            assertEquals("" + map.keyAt(i), map.valueAt(i));
+            cursor.add(map.valueAt(i));
+        }
+
+        assertEquals(map.values(), forEach);
+        assertEquals(map.values(), cursor);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.forEach(null));
+        Assert.assertThrows(IndexOutOfBoundsException.class,
+                () -> map.keyAt(map.getTable().length));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetAll() {
+        LinearProbingHashMap<Integer, Integer> map =
+                new LinearProbingHashMap<>();
+        for (int i = 0; i < 100; i += 2) {
+            map.put(i, -i);
+        }
+        map.remove(50);
+
+        Integer[] keys = new Integer[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        Integer[] out = new Integer[keys.length];
+        out[1] = 1; // stale values are overwritten with null
+        assertEquals(49, map.getAll(keys, out));
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i % 2 == 0 && i != 50 ? (Integer) (-i) : null,
+                    out[i]);
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.getAll(keys, new Integer[99]));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.getAll(new Integer[] {1, null}, new Integer[2]));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutAllMatchesPut() {
+        LinearProbingHashMap<Integer, Integer> batched =
+                new LinearProbingHashMap<>();
+        LinearProbingHashMap<Integer, Integer> single =
+                new LinearProbingHashMap<>();
+        Random random = new Random(1332);
+        for (int round = 0; round < 20; round++) {
+            Integer[] keys = new Integer[random.nextInt(50)];
+            Integer[] values = new Integer[keys.length];
+            int added = 0;
+            for (int i = 0; i < keys.length; i++) {
+                // distinct new keys, so no batch grows the table early
+                keys[i] = 1000 * round + i;
+                values[i] = random.nextInt();
+                if (single.put(keys[i], values[i]) == null) {
+                    added++;
+                }
+            }
+            assertEquals(added, batched.putAll(keys, values));
+            assertEquals(single.getTable().length,
+                    batched.getTable().length);
+        }
+        assertEquals(single.values(), batched.values());
+
+        // replacing values adds nothing
+        Integer[] keys = {0, 1000, 2000};
+        assertEquals(0, batched.putAll(keys, new Integer[] {7, 8, 9}));
+        assertEquals((Integer) 8, batched.get(1000));
+
+        int size = batched.size();
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> batched.putAll(new Integer[] {-1, -2},
+                        new Integer[] {1, null}));
+        assertEquals(size, batched.size());
+        assertFalse(batched.containsKey(-1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLookupsWithoutExceptions() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        map.put(0, "0");
+        map.put(13, "13");
+        map.remove(0);
+
+        // 13 sits behind a DEL marker in the same cluster
+        assertEquals("13", map.getOrNull(13));
+        assertNull(map.getOrNull(0));
+        assertEquals("x", map.getOrDefault(26, "x"));
+        assertNull(map.removeIfPresent(0));
+        assertEquals("13", map.removeIfPresent(13));
+        assertEquals(0, map.size());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.getOrNull(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.removeIfPresent(null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testComputeIfAbsentReusesDeletedSlot() {
+        LinearProbingHashMap<Integer, String> map =
+                new LinearProbingHashMap<>();
+        map.put(0, "0");
+        map.put(13, "13");
+        map.remove(0);
+
+        // 26 is added at the DEL marker left by 0, like put would
+        assertEquals("26", map.computeIfAbsent(26, String::valueOf));
+        assertEquals((Integer) 26, map.getTable()[0].getKey());
+        assertEquals("26", map.computeIfAbsent(26, key -> "no"));
+        assertNull(map.computeIfAbsent(1, key -> null));
+        assertFalse(map.containsKey(1));
+        assertEquals(2, map.size());
+
+        Assert.assertThrows(ConcurrentModificationException.class,
+                () -> map.computeIfAbsent(2, key -> map.put(3, "3")));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMergeMatchesPut() {
+        LinearProbingHashMap<Integer, Integer> merged =
+                new LinearProbingHashMap<>();
+        LinearProbingHashMap<Integer, Integer> counted =
+                new LinearProbingHashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(300);
+            if (random.nextInt(8) == 0) {
+                assertEquals(counted.containsKey(key)
+                        ? counted.remove(key) : null,
+                        merged.removeIfPresent(key));
+            } else {
+                int count = counted.containsKey(key)
+                        ? counted.get(key) + 1 : 1;
+                counted.put(key, count);
+                assertEquals((Integer) count, merged.merge(key, 1,
+                        Integer::sum));
+            }
+            assertEquals(counted.size(), merged.size());
+            assertEquals(counted.getTable().length,
+                    merged.getTable().length);
+        }
+        assertEquals(counted.values(), merged.values());
+
+        // a null result removes the entry
+        Integer key = merged.keySet().iterator().next();
+        assertNull(merged.merge(key, 1, (a, b) -> null));
+        assertFalse(merged.containsKey(key));
+        assertNull(merged.computeIfPresent(key, (k, v) -> v + 1));
+        merged.put(key, 5);
+        assertEquals((Integer) 6, merged.computeIfPresent(key,
+                (k, v) -> v + 1));
+        assertNull(merged.computeIfPresent(key, (k, v) -> null));
+        assertFalse(merged.containsKey(key));
+    }
+}
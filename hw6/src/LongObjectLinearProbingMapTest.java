@@ -0,0 +1,93 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LongObjectLinearProbingMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class LongObjectLinearProbingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testPutGetRemove() {
+        LongObjectLinearProbingMap<String> map =
+                new LongObjectLinearProbingMap<>();
+        assertNull(map.put(1, "a"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        // differs from 1 only in its high half, so it shares its hash code
+        assertNull(map.put(1L << 32, "b"));
+        assertEquals("a", map.put(1, "c"));
+
+        assertEquals(3, map.size());
+        assertEquals("c", map.get(1));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("b", map.get(1L << 32));
+
+        assertEquals("c", map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals("b", map.get(1L << 32));
+        assertEquals(2, map.size());
+
+        Assert.assertThrows(NoSuchElementException.class, () -> map.get(1));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.remove(1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.put(2, null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSameLayoutAsLinearProbingHashMap() {
+        LongObjectLinearProbingMap<Integer> map =
+                new LongObjectLinearProbingMap<>();
+        LinearProbingHashMap<Long, Integer> original =
+                new LinearProbingHashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 300; i++) {
+            long key = random.nextLong() % 1000;
+            map.put(key, i);
+            original.put(key, i);
+            if (i % 3 == 0) {
+                map.remove(key);
+                original.remove(key);
+            }
+            assertEquals(original.getTable().length, map.capacity());
+        }
+        assertEquals(original.values(), map.values());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesHashMap() {
+        LongObjectLinearProbingMap<Integer> map =
+                new LongObjectLinearProbingMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 5000; i++) {
+            long key = (long) random.nextInt(100) << 32 | random.nextInt(50);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (op == 1 && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
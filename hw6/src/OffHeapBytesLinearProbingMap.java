@@ -0,0 +1,608 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A LinearProbingHashMap from byte[] keys to byte[] values whose table and
+ * data both live outside the Java heap.
+ *
+ * Keys and values have any length, so they are not stored in the table.
+ * Each put appends a record of [key length, value length, key, value] to
+ * an arena of OffHeapMemory, and the table slot holds the record's offset
+ * next to the key's hash, so most mismatches never touch the arena. A
+ * value of the same length is overwritten in place. Any other replacement,
+ * and every remove, leaves its old record behind as garbage. A resize
+ * copies only the live records into a fresh arena, and a put that finds
+ * the arena more than half garbage triggers one at the same length.
+ *
+ * Probing, DEL markers, MAX_LOAD_FACTOR and 2 * length + 1 growth work like
+ * LinearProbingHashMap, with Arrays.hashCode as the hash. Keys and values
+ * are copied in and out, so later changes to an array passed to or
+ * returned from the map never affect it.
+ *
+ * Record offsets are relative to the arena, so snapshot can write the table
+ * and arena to a file as they are, and load maps them back in without
+ * rebuilding anything.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class OffHeapBytesLinearProbingMap {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY =
+            LinearProbingHashMap.INITIAL_CAPACITY;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    private static final int EMPTY = 0;
+    private static final int FULL = 1;
+    private static final int DELETED = 2;
+
+    /**
+     * Bytes per slot: the record offset, the key's hash, then the state.
+     */
+    private static final int SLOT_BYTES = 16;
+
+    /**
+     * Bytes before the key in a record: the key length and value length.
+     */
+    private static final int HEADER_BYTES = 8;
+
+    /**
+     * The arena grows in chunks of 2^20 bytes.
+     */
+    private static final int ARENA_CHUNK_SHIFT = 20;
+
+    /**
+     * The first 8 bytes of every snapshot, "LPBB0001" in ASCII.
+     */
+    private static final long SNAPSHOT_MAGIC = 0x4c50424230303031L;
+
+    private final int arenaChunkShift;
+    private OffHeapMemory slots;
+    private OffHeapMemory arena;
+    private long arenaEnd;
+    private long garbage;
+    private int length;
+    private int size;
+
+    /**
+     * Constructs a new OffHeapBytesLinearProbingMap with a backing table of
+     * INITIAL_CAPACITY.
+     */
+    public OffHeapBytesLinearProbingMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new OffHeapBytesLinearProbingMap.
+     *
+     * You may assume initialCapacity will always be positive.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public OffHeapBytesLinearProbingMap(int initialCapacity) {
+        this(initialCapacity, ARENA_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs a new OffHeapBytesLinearProbingMap whose arena grows in
+     * chunks of 2^arenaChunkShift bytes. load uses it to match the chunk
+     * size of the snapshot's arena.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     * @param arenaChunkShift log2 of the arena chunk size
+     */
+    OffHeapBytesLinearProbingMap(int initialCapacity, int arenaChunkShift) {
+        this.arenaChunkShift = arenaChunkShift;
+        slots = OffHeapMemory.allocate((long) initialCapacity * SLOT_BYTES);
+        arena = new OffHeapMemory(0, arenaChunkShift);
+        length = initialCapacity;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If the map already has this
+     * key, replace its value with the new one passed in.
+     *
+     * Grows the table to 2 * length + 1 before adding if the add would exceed
+     * MAX_LOAD_FACTOR, or compacts the arena if it is mostly garbage.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return true if the key was not already in the map, false if its value
+     *         was replaced
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     * @throws java.lang.IllegalStateException    if the table would have to
+     *                                            grow past
+     *                                            Integer.MAX_VALUE slots
+     */
+    public boolean put(byte[] key, byte[] value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into OffHeapBytesLinearProbingMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException("Tried to add null value into "
+                    + "OffHeapBytesLinearProbingMap");
+        }
+
+        if ((size + 1.0) / length > MAX_LOAD_FACTOR) {
+            if (length > (Integer.MAX_VALUE - 1) / 2) {
+                throw new IllegalStateException(
+                        "OffHeapBytesLinearProbingMap cannot grow past "
+                                + length + " slots");
+            }
+            resizeBackingTable(2 * length + 1);
+        } else if (garbage > (1L << arenaChunkShift) && 2 * garbage > arenaEnd) {
+            resizeBackingTable(length);
+        }
+
+        int hash = Arrays.hashCode(key);
+        int index = Math.abs(hash % length);
+        int insert = -1;
+        for (int probe = 0; probe < length; probe++) {
+            int state = stateAt(index);
+            if (state == EMPTY) {
+                break;
+            }
+            if (state == DELETED) {
+                // remember the first DEL marker to insert into
+                if (insert == -1) {
+                    insert = index;
+                }
+            } else if (matches(index, hash, key)) {
+                // duplicate case
+                long record = recordAt(index);
+                if (arena.getInt(record + 4) == value.length) {
+                    arena.put(record + HEADER_BYTES + key.length, value);
+                } else {
+                    garbage += recordBytes(record);
+                    slots.putLong((long) index * SLOT_BYTES,
+                            append(key, value));
+                }
+                return false;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+
+        if (insert == -1) {
+            insert = index;
+        }
+        writeSlot(insert, append(key, value), hash);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DEL
+     * marker in its slot.
+     *
+     * @param key the key to remove
+     * @return a copy of the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public byte[] remove(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to remove null key from "
+                    + "OffHeapBytesLinearProbingMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in OffHeapBytesLinearProbingMap");
+        }
+
+        long record = recordAt(index);
+        byte[] removed = readValue(record);
+        slots.putInt((long) index * SLOT_BYTES + 12, DELETED);
+        garbage += recordBytes(record);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return a copy of the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public byte[] get(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to get null key from "
+                    + "OffHeapBytesLinearProbingMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in OffHeapBytesLinearProbingMap");
+        }
+        return readValue(recordAt(index));
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Tried to query if "
+                    + "OffHeapBytesLinearProbingMap contains null key");
+        }
+
+        return find(key) != -1;
+    }
+
+    /**
+     * Calls action on a copy of every entry in the map, in order of
+     * increasing table index.
+     *
+     * @param action the action to perform on each entry
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void forEach(BiConsumer<byte[], byte[]> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Tried to call forEach on "
+                    + "OffHeapBytesLinearProbingMap with null action");
+        }
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (stateAt(i) == FULL) {
+                long record = recordAt(i);
+                byte[] key = new byte[arena.getInt(record)];
+                arena.get(record + HEADER_BYTES, key);
+                action.accept(key, readValue(record));
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Resize the backing table to newLength, disregarding the load factor.
+     *
+     * Entries are reinserted in order of increasing old index, DEL markers
+     * are dropped, and the live records are copied into a new arena so that
+     * no garbage is left.
+     *
+     * @param newLength new length of the backing table
+     * @throws java.lang.IllegalArgumentException if newLength is less than
+     *                                            the number of items in the
+     *                                            hash map
+     */
+    public void resizeBackingTable(int newLength) {
+        if (size > newLength) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than number "
+                            + "of elements in OffHeapBytesLinearProbingMap");
+        }
+
+        OffHeapMemory oldSlots = slots;
+        OffHeapMemory oldArena = arena;
+        int oldLength = length;
+        slots = OffHeapMemory.allocate((long) newLength * SLOT_BYTES);
+        arena = new OffHeapMemory(arenaEnd - garbage, arenaChunkShift);
+        arenaEnd = 0;
+        garbage = 0;
+        length = newLength;
+
+        for (int i = 0; i < oldLength; i++) {
+            long slot = (long) i * SLOT_BYTES;
+            if (oldSlots.getInt(slot + 12) == FULL) {
+                int hash = oldSlots.getInt(slot + 8);
+                int index = Math.abs(hash % length);
+                while (stateAt(index) != EMPTY) {
+                    if (++index == length) {
+                        index = 0;
+                    }
+                }
+                writeSlot(index, copyRecord(oldArena, oldSlots.getLong(slot)),
+                        hash);
+            }
+        }
+    }
+
+    /**
+     * Writes the map to a file that load can map back in. The file is
+     * replaced atomically, so it may be the very file this map was loaded
+     * from.
+     *
+     * The arena is written as is, garbage included. Call
+     * resizeBackingTable(capacity()) first for a compact snapshot.
+     *
+     * @param file the file to write
+     * @throws java.lang.IllegalArgumentException if file is null
+     * @throws java.io.IOException                if the file cannot be
+     *                                            written
+     */
+    public void snapshot(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Tried to snapshot "
+                    + "OffHeapBytesLinearProbingMap to null file");
+        }
+
+        ByteBuffer header = OffHeapSnapshot.header(SNAPSHOT_MAGIC)
+                .putInt(length).putInt(size)
+                .putInt(slots.chunkShift()).putInt(arenaChunkShift)
+                .putLong(arenaEnd).putLong(garbage);
+        OffHeapSnapshot.write(file, header, channel -> {
+            long position = OffHeapSnapshot.HEADER_BYTES;
+            position += slots.writeTo(channel, position,
+                    (long) length * SLOT_BYTES);
+            arena.writeTo(channel, position, arenaEnd);
+        });
+    }
+
+    /**
+     * Maps a map written by snapshot back in from a file, without reading
+     * the file up front. Changes made to the loaded map never reach the
+     * file; snapshot it again to keep them.
+     *
+     * @param file the file to load, which must be readable and writable
+     * @return the loaded map
+     * @throws java.lang.IllegalArgumentException if file is null
+     * @throws java.io.IOException                if the file is not a
+     *                                            snapshot of this kind of
+     *                                            map, is truncated or
+     *                                            corrupt, or cannot be read
+     */
+    public static OffHeapBytesLinearProbingMap load(Path file)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Tried to load "
+                    + "OffHeapBytesLinearProbingMap from null file");
+        }
+
+        // private mappings need a channel open for writing, though nothing
+        // is ever written through them
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = OffHeapSnapshot.readHeader(channel,
+                    SNAPSHOT_MAGIC, "OffHeapBytesLinearProbingMap");
+            int length = header.getInt();
+            int size = header.getInt();
+            int slotsShift = header.getInt();
+            int arenaShift = header.getInt();
+            long arenaEnd = header.getLong();
+            long garbage = header.getLong();
+            String name = "OffHeapBytesLinearProbingMap";
+            OffHeapSnapshot.checkTable(length, size, name);
+            if (garbage < 0 || garbage > arenaEnd) {
+                throw OffHeapSnapshot.corrupt(name);
+            }
+            OffHeapSnapshot.checkFileSize(channel,
+                    OffHeapSnapshot.sectionBytes((long) length * SLOT_BYTES,
+                            slotsShift, name)
+                    + OffHeapSnapshot.sectionBytes(arenaEnd, arenaShift, name),
+                    name);
+
+            OffHeapBytesLinearProbingMap map =
+                    new OffHeapBytesLinearProbingMap(1, arenaShift);
+            long position = OffHeapSnapshot.HEADER_BYTES;
+            map.slots = OffHeapMemory.map(channel, position,
+                    (long) length * SLOT_BYTES, slotsShift);
+            position += map.slots.capacity();
+            map.arena = OffHeapMemory.map(channel, position, arenaEnd,
+                    arenaShift);
+            map.arenaEnd = arenaEnd;
+            map.garbage = garbage;
+            map.length = length;
+            map.size = size;
+            return map;
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to INITIAL_CAPACITY, empties the arena and resets the
+     * size.
+     */
+    public void clear() {
+        slots = OffHeapMemory.allocate((long) INITIAL_CAPACITY * SLOT_BYTES);
+        arena = new OffHeapMemory(0, arenaChunkShift);
+        arenaEnd = 0;
+        garbage = 0;
+        length = INITIAL_CAPACITY;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return length;
+    }
+
+    /**
+     * Returns how many bytes of the arena are in use, garbage included.
+     *
+     * @return the end of the last record in the arena
+     */
+    public long dataBytes() {
+        return arenaEnd;
+    }
+
+    /**
+     * Returns the index of the slot holding key.
+     *
+     * @param key the non-null key to look for
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(byte[] key) {
+        int hash = Arrays.hashCode(key);
+        int index = Math.abs(hash % length);
+        for (int probe = 0; probe < length; probe++) {
+            int state = stateAt(index);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && matches(index, hash, key)) {
+                return index;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether a full slot holds key, comparing the stored hash and
+     * length before any key bytes.
+     *
+     * @param index the index of a full slot
+     * @param hash  the hash of key
+     * @param key   the key to compare
+     * @return true if the slot holds key
+     */
+    private boolean matches(int index, int hash, byte[] key) {
+        if (slots.getInt((long) index * SLOT_BYTES + 8) != hash) {
+            return false;
+        }
+        long record = recordAt(index);
+        return arena.getInt(record) == key.length
+                && arena.matches(record + HEADER_BYTES, key);
+    }
+
+    /**
+     * Returns the state of a slot.
+     *
+     * @param index the index of the slot
+     * @return EMPTY, FULL or DELETED
+     */
+    private int stateAt(int index) {
+        return slots.getInt((long) index * SLOT_BYTES + 12);
+    }
+
+    /**
+     * Returns the arena offset of the record in a slot.
+     *
+     * @param index the index of the slot
+     * @return the offset of the record
+     */
+    private long recordAt(int index) {
+        return slots.getLong((long) index * SLOT_BYTES);
+    }
+
+    /**
+     * Fills a slot.
+     *
+     * @param index  the index of the slot
+     * @param record the arena offset of the entry's record
+     * @param hash   the hash of the entry's key
+     */
+    private void writeSlot(int index, long record, int hash) {
+        long slot = (long) index * SLOT_BYTES;
+        slots.putLong(slot, record);
+        slots.putInt(slot + 8, hash);
+        slots.putInt(slot + 12, FULL);
+    }
+
+    /**
+     * Appends a record to the arena, growing it if needed.
+     *
+     * @param key   the key of the record
+     * @param value the value of the record
+     * @return the offset of the new record
+     */
+    private long append(byte[] key, byte[] value) {
+        long record = arenaEnd;
+        arenaEnd += align(HEADER_BYTES + (long) key.length + value.length);
+        arena.ensureCapacity(arenaEnd);
+        arena.putInt(record, key.length);
+        arena.putInt(record + 4, value.length);
+        arena.put(record + HEADER_BYTES, key);
+        arena.put(record + HEADER_BYTES + key.length, value);
+        return record;
+    }
+
+    /**
+     * Appends a copy of a record from another arena to this one. Records
+     * are padded to whole longs in both arenas, so the copy moves a long at
+     * a time and allocates nothing.
+     *
+     * @param from   the arena to copy from
+     * @param record the offset of the record in from
+     * @return the offset of the copy
+     */
+    private long copyRecord(OffHeapMemory from, long record) {
+        long bytes = align(HEADER_BYTES + (long) from.getInt(record)
+                + from.getInt(record + 4));
+        long copy = arenaEnd;
+        arenaEnd += bytes;
+        arena.ensureCapacity(arenaEnd);
+        for (long i = 0; i < bytes; i += 8) {
+            arena.putLong(copy + i, from.getLong(record + i));
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the value of a record.
+     *
+     * @param record the offset of the record
+     * @return the value bytes
+     */
+    private byte[] readValue(long record) {
+        byte[] value = new byte[arena.getInt(record + 4)];
+        arena.get(record + HEADER_BYTES + arena.getInt(record), value);
+        return value;
+    }
+
+    /**
+     * Returns the number of arena bytes a record takes up.
+     *
+     * @param record the offset of the record
+     * @return the size of the record, padding included
+     */
+    private long recordBytes(long record) {
+        return align(HEADER_BYTES + (long) arena.getInt(record)
+                + arena.getInt(record + 4));
+    }
+
+    /**
+     * Rounds a record size up to a multiple of 8, so that every record
+     * header is aligned.
+     *
+     * @param bytes the unpadded size
+     * @return the padded size
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
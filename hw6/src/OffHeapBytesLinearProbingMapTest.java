@@ -0,0 +1,253 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for OffHeapBytesLinearProbingMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class OffHeapBytesLinearProbingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(timeout = TIMEOUT)
+    public void testPutGetRemove() {
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap();
+        assertTrue(map.put(bytes("a"), bytes("apple")));
+        assertTrue(map.put(bytes(""), bytes("empty key")));
+        assertTrue(map.put(bytes("b"), new byte[0]));
+        assertFalse(map.put(bytes("a"), bytes("avocado")));
+
+        assertEquals(3, map.size());
+        assertArrayEquals(bytes("avocado"), map.get(bytes("a")));
+        assertArrayEquals(bytes("empty key"), map.get(bytes("")));
+        assertArrayEquals(new byte[0], map.get(bytes("b")));
+
+        assertArrayEquals(bytes("avocado"), map.remove(bytes("a")));
+        assertFalse(map.containsKey(bytes("a")));
+        assertEquals(2, map.size());
+
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.get(bytes("a")));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.put(null, bytes("x")));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.put(bytes("x"), null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCopiesInAndOut() {
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap();
+        byte[] key = bytes("key");
+        byte[] value = bytes("value");
+        map.put(key, value);
+        key[0] = 'x';
+        value[0] = 'x';
+        map.get(bytes("key"))[0] = 'x';
+
+        assertArrayEquals(bytes("value"), map.get(bytes("key")));
+        assertFalse(map.containsKey(key));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesHashMapAcrossChunks() {
+        // 16 byte arena chunks, so almost every record straddles chunks
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap(13, 4);
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 1000; i++) {
+            String key = "k" + random.nextInt(100);
+            String value = "v".repeat(random.nextInt(40));
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(!expected.containsKey(key),
+                        map.put(bytes(key), bytes(value)));
+                expected.put(key, value);
+            } else if (op == 1 && expected.containsKey(key)) {
+                assertArrayEquals(bytes(expected.remove(key)),
+                        map.remove(bytes(key)));
+            } else {
+                assertEquals(expected.containsKey(key),
+                        map.containsKey(bytes(key)));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<String, String> actual = new HashMap<>();
+        map.forEach((key, value) -> actual.put(
+                new String(key, StandardCharsets.UTF_8),
+                new String(value, StandardCharsets.UTF_8)));
+        assertEquals(expected, actual);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChurnCompactsArena() {
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap(64, 10);
+        byte[] value = new byte[100];
+        for (int i = 0; i < 2000; i++) {
+            map.put(bytes("k" + i), value);
+            if (i >= 10) {
+                map.remove(bytes("k" + (i - 10)));
+            }
+        }
+
+        // 10 live records of 112 bytes, plus at most half garbage and a
+        // chunk of slack before compaction kicks in
+        assertEquals(10, map.size());
+        assertTrue(map.dataBytes() < 4096);
+        assertEquals(64, map.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotAndLoad() throws IOException {
+        // small arena chunks, so the arena spans many mapped chunks
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap(13, 6);
+        for (int i = 0; i < 500; i++) {
+            map.put(bytes("k" + i), bytes("v".repeat(i % 20)));
+        }
+        map.remove(bytes("k0"));
+        Path file = folder.getRoot().toPath().resolve("map.snapshot");
+        map.snapshot(file);
+
+        OffHeapBytesLinearProbingMap loaded =
+                OffHeapBytesLinearProbingMap.load(file);
+        assertEquals(499, loaded.size());
+        assertEquals(map.dataBytes(), loaded.dataBytes());
+        assertFalse(loaded.containsKey(bytes("k0")));
+        for (int i = 1; i < 500; i++) {
+            assertArrayEquals(bytes("v".repeat(i % 20)),
+                    loaded.get(bytes("k" + i)));
+        }
+
+        // the arena keeps growing after its mapped chunks
+        for (int i = 500; i < 1500; i++) {
+            loaded.put(bytes("k" + i), bytes("value " + i));
+        }
+        assertArrayEquals(bytes("value 1499"), loaded.get(bytes("k1499")));
+        assertArrayEquals(bytes("v"), loaded.get(bytes("k1")));
+        assertEquals(499, OffHeapBytesLinearProbingMap.load(file).size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLoadRejectsTruncatedAndCorruptSnapshots()
+            throws IOException {
+        OffHeapBytesLinearProbingMap map =
+                new OffHeapBytesLinearProbingMap();
+        for (int i = 0; i < 500; i++) {
+            map.put(bytes("k" + i), bytes("value " + i));
+        }
+        Path file = folder.getRoot().toPath().resolve("map.snapshot");
+        map.snapshot(file);
+        long fileSize = Files.size(file);
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(fileSize - 1);
+        }
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapBytesLinearProbingMap.load(file));
+
+        // header: magic, length, size, slots shift, arena shift, arena end,
+        // garbage
+        assertLoadRejects(map, file, 8, 0);
+        assertLoadRejects(map, file, 12, -1);
+        assertLoadRejects(map, file, 12, Integer.MAX_VALUE);
+        assertLoadRejects(map, file, 16, 31);
+        assertLoadRejects(map, file, 20, 0);
+        // negative arena end, then garbage past the arena end
+        assertLoadRejects(map, file, 24, -1L);
+        assertLoadRejects(map, file, 32, Long.MAX_VALUE);
+    }
+
+    /**
+     * Snapshots a map, overwrites one int of the header and checks that
+     * load rejects the file.
+     *
+     * @param map    the map to snapshot
+     * @param file   the file to write
+     * @param offset the offset of the int in the header
+     * @param value  the int to write there
+     * @throws java.io.IOException if the file cannot be written
+     */
+    private static void assertLoadRejects(OffHeapBytesLinearProbingMap map,
+            Path file, int offset, int value) throws IOException {
+        assertLoadRejects(map, file, offset, ByteBuffer.allocate(Integer.BYTES)
+                .order(ByteOrder.nativeOrder()).putInt(0, value));
+    }
+
+    /**
+     * Snapshots a map, overwrites one long of the header and checks that
+     * load rejects the file.
+     *
+     * @param map    the map to snapshot
+     * @param file   the file to write
+     * @param offset the offset of the long in the header
+     * @param value  the long to write there
+     * @throws java.io.IOException if the file cannot be written
+     */
+    private static void assertLoadRejects(OffHeapBytesLinearProbingMap map,
+            Path file, int offset, long value) throws IOException {
+        assertLoadRejects(map, file, offset, ByteBuffer.allocate(Long.BYTES)
+                .order(ByteOrder.nativeOrder()).putLong(0, value));
+    }
+
+    /**
+     * Snapshots a map, overwrites part of the header and checks that load
+     * rejects the file.
+     *
+     * @param map    the map to snapshot
+     * @param file   the file to write
+     * @param offset the offset of the field in the header
+     * @param field  the bytes to write there
+     * @throws java.io.IOException if the file cannot be written
+     */
+    private static void assertLoadRejects(OffHeapBytesLinearProbingMap map,
+            Path file, int offset, ByteBuffer field) throws IOException {
+        map.snapshot(file);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(field, offset);
+        }
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapBytesLinearProbingMap.load(file));
+    }
+
+    /**
+     * Returns the UTF-8 bytes of a string.
+     *
+     * @param string the string
+     * @return its bytes
+     */
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
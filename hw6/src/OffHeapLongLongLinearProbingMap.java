@@ -0,0 +1,448 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * A LinearProbingHashMap from long keys to long values whose table lives
+ * outside the Java heap.
+ *
+ * Slot i of the table is a state byte in one block of OffHeapMemory and a
+ * 16 byte key-value pair in another. The garbage collector never scans or
+ * copies the table, so a map of hundreds of millions of entries adds
+ * nothing to collection pauses. The heap only holds this object and the
+ * handful of chunk objects behind it.
+ *
+ * Probing, DEL markers, MAX_LOAD_FACTOR and 2 * length + 1 growth all work
+ * exactly like LinearProbingHashMap with Long keys, so a key's home slot is
+ * |Long.hashCode(key) % length|. The table holds at most Integer.MAX_VALUE
+ * slots.
+ *
+ * The off-heap memory of an old table is released once the garbage
+ * collector reclaims the small heap object that owns it. Its size can be
+ * capped with -XX:MaxDirectMemorySize.
+ *
+ * Because the table is nothing but bytes, snapshot can write it to a file
+ * as is, and load maps that file straight back in without a single put or
+ * rehash. A loaded map reads its table in from the file a page at a time
+ * as it is probed, so it is usable immediately however large it is.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class OffHeapLongLongLinearProbingMap {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY =
+            LinearProbingHashMap.INITIAL_CAPACITY;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+
+    /**
+     * Bytes per slot of the pair memory: the key, then the value.
+     */
+    private static final int SLOT_BYTES = 16;
+
+    /**
+     * The first 8 bytes of every snapshot, "LPLL0001" in ASCII.
+     */
+    private static final long SNAPSHOT_MAGIC = 0x4c504c4c30303031L;
+
+    private OffHeapMemory states;
+    private OffHeapMemory pairs;
+    private int length;
+    private int size;
+
+    /**
+     * Receives the entries of the map one at a time without boxing.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Receives one entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(long key, long value);
+    }
+
+    /**
+     * Constructs a new OffHeapLongLongLinearProbingMap with a backing table
+     * of INITIAL_CAPACITY.
+     */
+    public OffHeapLongLongLinearProbingMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new OffHeapLongLongLinearProbingMap.
+     *
+     * You may assume initialCapacity will always be positive.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public OffHeapLongLongLinearProbingMap(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If the map already has this
+     * key, replace its value with the new one passed in.
+     *
+     * Grows the table to 2 * length + 1 before adding if the add would exceed
+     * MAX_LOAD_FACTOR.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return true if the key was not already in the map, false if its value
+     *         was replaced
+     * @throws java.lang.IllegalStateException if the table would have to
+     *                                         grow past Integer.MAX_VALUE
+     *                                         slots
+     */
+    public boolean put(long key, long value) {
+        if ((size + 1.0) / length > MAX_LOAD_FACTOR) {
+            if (length > (Integer.MAX_VALUE - 1) / 2) {
+                throw new IllegalStateException(
+                        "OffHeapLongLongLinearProbingMap cannot grow past "
+                                + length + " slots");
+            }
+            resizeBackingTable(2 * length + 1);
+        }
+
+        int index = home(key);
+        int insert = -1;
+        for (int probe = 0; probe < length; probe++) {
+            byte state = states.getByte(index);
+            if (state == EMPTY) {
+                break;
+            }
+            if (state == DELETED) {
+                // remember the first DEL marker to insert into
+                if (insert == -1) {
+                    insert = index;
+                }
+            } else if (keyAt(index) == key) {
+                // duplicate case
+                pairs.putLong((long) index * SLOT_BYTES + 8, value);
+                return false;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+
+        if (insert == -1) {
+            insert = index;
+        }
+        write(insert, key, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, leaving a DEL
+     * marker in its slot.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public long remove(long key) {
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in OffHeapLongLongLinearProbingMap");
+        }
+
+        states.putByte(index, DELETED);
+        size--;
+        return valueAt(index);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public long get(long key) {
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in OffHeapLongLongLinearProbingMap");
+        }
+        return valueAt(index);
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     */
+    public boolean containsKey(long key) {
+        return find(key) != -1;
+    }
+
+    /**
+     * Calls action on every entry in the map, in order of increasing table
+     * index, without boxing.
+     *
+     * @param action the action to perform on each entry
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void forEach(EntryConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Tried to call forEach on "
+                    + "OffHeapLongLongLinearProbingMap with null action");
+        }
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (states.getByte(i) == FULL) {
+                action.accept(keyAt(i), valueAt(i));
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Resize the backing table to newLength, disregarding the load factor.
+     *
+     * Entries are reinserted in order of increasing old index, and DEL
+     * markers are dropped.
+     *
+     * @param newLength new length of the backing table
+     * @throws java.lang.IllegalArgumentException if newLength is less than
+     *                                            the number of items in the
+     *                                            hash map
+     */
+    public void resizeBackingTable(int newLength) {
+        if (size > newLength) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than number "
+                            + "of elements in OffHeapLongLongLinearProbingMap");
+        }
+
+        OffHeapMemory oldStates = states;
+        OffHeapMemory oldPairs = pairs;
+        allocate(newLength);
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (oldStates.getByte(i) == FULL) {
+                long key = oldPairs.getLong((long) i * SLOT_BYTES);
+                int index = home(key);
+                while (states.getByte(index) != EMPTY) {
+                    if (++index == length) {
+                        index = 0;
+                    }
+                }
+                write(index, key, oldPairs.getLong((long) i * SLOT_BYTES + 8));
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to INITIAL_CAPACITY and resets the size.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return length;
+    }
+
+    /**
+     * Writes the map to a file that load can map back in. The file is
+     * replaced atomically, so it may be the very file this map was loaded
+     * from.
+     *
+     * The file holds the whole table, DEL markers included, so it is about
+     * 17 * capacity() bytes.
+     *
+     * @param file the file to write
+     * @throws java.lang.IllegalArgumentException if file is null
+     * @throws java.io.IOException                if the file cannot be
+     *                                            written
+     */
+    public void snapshot(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Tried to snapshot "
+                    + "OffHeapLongLongLinearProbingMap to null file");
+        }
+
+        ByteBuffer header = OffHeapSnapshot.header(SNAPSHOT_MAGIC)
+                .putInt(length).putInt(size)
+                .putInt(states.chunkShift()).putInt(pairs.chunkShift());
+        OffHeapSnapshot.write(file, header, channel -> {
+            long position = OffHeapSnapshot.HEADER_BYTES;
+            position += states.writeTo(channel, position, length);
+            pairs.writeTo(channel, position, (long) length * SLOT_BYTES);
+        });
+    }
+
+    /**
+     * Maps a map written by snapshot back in from a file, without reading
+     * the file up front. Changes made to the loaded map never reach the
+     * file; snapshot it again to keep them.
+     *
+     * @param file the file to load, which must be readable and writable
+     * @return the loaded map
+     * @throws java.lang.IllegalArgumentException if file is null
+     * @throws java.io.IOException                if the file is not a
+     *                                            snapshot of this kind of
+     *                                            map, is truncated or
+     *                                            corrupt, or cannot be read
+     */
+    public static OffHeapLongLongLinearProbingMap load(Path file)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Tried to load "
+                    + "OffHeapLongLongLinearProbingMap from null file");
+        }
+
+        // private mappings need a channel open for writing, though nothing
+        // is ever written through them
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = OffHeapSnapshot.readHeader(channel,
+                    SNAPSHOT_MAGIC, "OffHeapLongLongLinearProbingMap");
+            int length = header.getInt();
+            int size = header.getInt();
+            int statesShift = header.getInt();
+            int pairsShift = header.getInt();
+            String name = "OffHeapLongLongLinearProbingMap";
+            OffHeapSnapshot.checkTable(length, size, name);
+            OffHeapSnapshot.checkFileSize(channel,
+                    OffHeapSnapshot.sectionBytes(length, statesShift, name)
+                    + OffHeapSnapshot.sectionBytes((long) length * SLOT_BYTES,
+                            pairsShift, name), name);
+
+            OffHeapLongLongLinearProbingMap map =
+                    new OffHeapLongLongLinearProbingMap(1);
+            long position = OffHeapSnapshot.HEADER_BYTES;
+            map.states = OffHeapMemory.map(channel, position, length,
+                    statesShift);
+            position += map.states.capacity();
+            map.pairs = OffHeapMemory.map(channel, position,
+                    (long) length * SLOT_BYTES, pairsShift);
+            map.length = length;
+            map.size = size;
+            return map;
+        }
+    }
+
+    /**
+     * Returns the index of the slot holding key.
+     *
+     * @param key the key to look for
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(long key) {
+        int index = home(key);
+        for (int probe = 0; probe < length; probe++) {
+            byte state = states.getByte(index);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && keyAt(index) == key) {
+                return index;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot a key hashes to.
+     *
+     * @param key the key
+     * @return the home slot of the key
+     */
+    private int home(long key) {
+        return Math.abs(Long.hashCode(key) % length);
+    }
+
+    /**
+     * Returns the key stored in a slot.
+     *
+     * @param index the index of the slot
+     * @return the key
+     */
+    private long keyAt(int index) {
+        return pairs.getLong((long) index * SLOT_BYTES);
+    }
+
+    /**
+     * Returns the value stored in a slot.
+     *
+     * @param index the index of the slot
+     * @return the value
+     */
+    private long valueAt(int index) {
+        return pairs.getLong((long) index * SLOT_BYTES + 8);
+    }
+
+    /**
+     * Fills a slot.
+     *
+     * @param index the index of the slot
+     * @param key   the key to store
+     * @param value the value to store
+     */
+    private void write(int index, long key, long value) {
+        states.putByte(index, FULL);
+        pairs.putLong((long) index * SLOT_BYTES, key);
+        pairs.putLong((long) index * SLOT_BYTES + 8, value);
+    }
+
+    /**
+     * Replaces the table with an empty one of the given length.
+     *
+     * @param newLength the number of slots
+     */
+    private void allocate(int newLength) {
+        states = OffHeapMemory.allocate(newLength);
+        pairs = OffHeapMemory.allocate((long) newLength * SLOT_BYTES);
+        length = newLength;
+    }
+}
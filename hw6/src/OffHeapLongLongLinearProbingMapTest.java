@@ -0,0 +1,205 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for OffHeapLongLongLinearProbingMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class OffHeapLongLongLinearProbingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(timeout = TIMEOUT)
+    public void testPutGetRemove() {
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        assertTrue(map.put(1, 10));
+        assertTrue(map.put(Long.MIN_VALUE, -1));
+        assertTrue(map.put(14, 140)); // collides with 1 in a table of 13
+        assertFalse(map.put(1, 11));
+
+        assertEquals(3, map.size());
+        assertEquals(11, map.get(1));
+        assertEquals(-1, map.get(Long.MIN_VALUE));
+        assertEquals(140, map.get(14));
+
+        assertEquals(11, map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(140, map.get(14));
+        assertEquals(2, map.size());
+
+        Assert.assertThrows(NoSuchElementException.class, () -> map.get(1));
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> map.remove(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowsLikeLinearProbingHashMap() {
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        LinearProbingHashMap<Long, Long> original =
+                new LinearProbingHashMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i);
+            original.put(i, i);
+            assertEquals(original.getTable().length, map.capacity());
+        }
+
+        map.resizeBackingTable(500);
+        assertEquals(500, map.capacity());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> map.resizeBackingTable(99));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(OffHeapLongLongLinearProbingMap.INITIAL_CAPACITY,
+                map.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesHashMap() {
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(1332);
+        for (int i = 0; i < 2000; i++) {
+            // keys that differ only in their high half share a hash code
+            long key = (long) random.nextInt(4) << 32 | random.nextInt(50);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(!expected.containsKey(key), map.put(key, i));
+                expected.put(key, (long) i);
+            } else if (op == 1 && expected.containsKey(key)) {
+                assertEquals((long) expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotAndLoad() throws IOException {
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i * 31, -i);
+        }
+        map.remove(0);
+        Path file = folder.getRoot().toPath().resolve("map.snapshot");
+        map.snapshot(file);
+
+        OffHeapLongLongLinearProbingMap loaded =
+                OffHeapLongLongLinearProbingMap.load(file);
+        assertEquals(999, loaded.size());
+        assertEquals(map.capacity(), loaded.capacity());
+        assertFalse(loaded.containsKey(0));
+        for (long i = 1; i < 1000; i++) {
+            assertEquals(-i, loaded.get(i * 31));
+        }
+
+        // changes stay in memory, and can grow past the mapped table
+        for (long i = 1000; i < 3000; i++) {
+            loaded.put(i * 31, -i);
+        }
+        assertEquals(999, OffHeapLongLongLinearProbingMap.load(file).size());
+
+        // replacing the file this map was loaded from is fine
+        loaded.snapshot(file);
+        OffHeapLongLongLinearProbingMap reloaded =
+                OffHeapLongLongLinearProbingMap.load(file);
+        assertEquals(2999, reloaded.size());
+        assertEquals(-2999, reloaded.get(2999 * 31));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLoadRejectsOtherFiles() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("other");
+        Files.write(file, new byte[100]);
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapLongLongLinearProbingMap.load(file));
+
+        new OffHeapBytesLinearProbingMap().snapshot(file);
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapLongLongLinearProbingMap.load(file));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLoadRejectsTruncatedAndCorruptSnapshots()
+            throws IOException {
+        OffHeapLongLongLinearProbingMap map =
+                new OffHeapLongLongLinearProbingMap();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        Path file = folder.getRoot().toPath().resolve("map.snapshot");
+        map.snapshot(file);
+        long fileSize = Files.size(file);
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(fileSize - 1);
+        }
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapLongLongLinearProbingMap.load(file));
+
+        // header: magic, length, size, states shift, pairs shift
+        assertLoadRejects(map, file, 8, 0);
+        assertLoadRejects(map, file, 8, -1);
+        assertLoadRejects(map, file, 12, -1);
+        assertLoadRejects(map, file, 12, map.capacity() + 1);
+        assertLoadRejects(map, file, 16, 40);
+        assertLoadRejects(map, file, 20, 2);
+        // a length past the end of the file
+        assertLoadRejects(map, file, 8, 1 << 24);
+    }
+
+    /**
+     * Snapshots a map, overwrites one int of the header and checks that
+     * load rejects the file.
+     *
+     * @param map    the map to snapshot
+     * @param file   the file to write
+     * @param offset the offset of the int in the header
+     * @param value  the int to write there
+     * @throws java.io.IOException if the file cannot be written
+     */
+    private static void assertLoadRejects(OffHeapLongLongLinearProbingMap map,
+            Path file, int offset, int value) throws IOException {
+        map.snapshot(file);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES)
+                    .order(ByteOrder.nativeOrder()).putInt(0, value), offset);
+        }
+        Assert.assertThrows(IOException.class,
+                () -> OffHeapLongLongLinearProbingMap.load(file));
+    }
+}
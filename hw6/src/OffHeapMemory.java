@@ -0,0 +1,318 @@
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * A growable block of memory outside the Java heap, addressed by long
+ * offsets.
+ *
+ * A single ByteBuffer holds at most 2 GB, so the memory is a list of
+ * equally sized direct ByteBuffer chunks. Growing adds chunks and never
+ * copies the existing ones. The garbage collector only ever sees the chunk
+ * objects, never their contents. A chunk's memory is released when the
+ * OffHeapMemory that holds it becomes unreachable.
+ *
+ * Ints and longs must be read and written at offsets aligned to their size,
+ * so they never straddle two chunks. Byte arrays may start anywhere.
+ * Freshly added memory reads as zero.
+ *
+ * The memory can also be written to a file whole chunks at a time and then
+ * mapped straight back in, chunk by chunk, without reading the file.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+final class OffHeapMemory {
+
+    /**
+     * The default log2 of the chunk size, giving 1 GB chunks.
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    /**
+     * Reads longs out of byte arrays in the same order the chunks use.
+     */
+    private static final VarHandle LONGS = MethodHandles
+            .byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+
+    /**
+     * Constructs memory of at least the given size in chunks of
+     * 2^chunkShift bytes.
+     *
+     * @param bytes      the initial size in bytes
+     * @param chunkShift log2 of the chunk size, at least 3 and at most 30
+     * @throws java.lang.IllegalArgumentException if chunkShift is out of
+     *                                            range
+     */
+    OffHeapMemory(long bytes, int chunkShift) {
+        if (chunkShift < 3 || chunkShift > DEFAULT_CHUNK_SHIFT) {
+            throw new IllegalArgumentException(
+                    "Tried to create OffHeapMemory with chunk shift "
+                            + chunkShift);
+        }
+
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        ensureCapacity(bytes);
+    }
+
+    /**
+     * Returns memory of at least the given size for a table that never grows
+     * in place. Up to 1 GB it is a single chunk rounded up to a power of two,
+     * so small tables do not reserve a whole default chunk.
+     *
+     * @param bytes the size in bytes
+     * @return the new memory
+     */
+    static OffHeapMemory allocate(long bytes) {
+        int shift = 64 - Long.numberOfLeadingZeros(Math.max(bytes, 8) - 1);
+        return new OffHeapMemory(bytes, Math.min(shift, DEFAULT_CHUNK_SHIFT));
+    }
+
+    /**
+     * Maps memory written by writeTo back in from a file. Every chunk is a
+     * private mapping of the file: pages are read in the first time they are
+     * touched, and writes to them never reach the file. Chunks added later
+     * by ensureCapacity are ordinary direct memory.
+     *
+     * @param channel    the file, open for reading and writing
+     * @param position   where writeTo started writing
+     * @param bytes      the number of bytes writeTo was asked to write
+     * @param chunkShift the chunk shift of the memory that was written
+     * @return the mapped memory, whose capacity is the number of file bytes
+     *         it covers
+     * @throws java.io.IOException if the file is too short or cannot be
+     *                             mapped
+     */
+    static OffHeapMemory map(FileChannel channel, long position, long bytes,
+            int chunkShift) throws IOException {
+        OffHeapMemory memory = new OffHeapMemory(0, chunkShift);
+        int count = memory.chunksFor(bytes);
+        if (position + ((long) count << chunkShift) > channel.size()) {
+            throw new IOException("Tried to map OffHeapMemory past the end "
+                    + "of the file");
+        }
+
+        memory.chunks = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            memory.chunks[i] = channel.map(FileChannel.MapMode.PRIVATE,
+                    position + ((long) i << chunkShift), 1 << chunkShift)
+                    .order(ByteOrder.nativeOrder());
+        }
+        return memory;
+    }
+
+    /**
+     * Writes the first bytes bytes of the memory to a file, then extends the
+     * file to the end of the last chunk written, so that map can map every
+     * chunk whole. The extension is left as a hole, which reads as zero and
+     * takes no disk space on most file systems.
+     *
+     * @param channel  the file, open for writing
+     * @param position where to write the first byte
+     * @param bytes    the number of bytes to write, at most capacity()
+     * @return the number of file bytes now taken up, a whole number of chunks
+     * @throws java.io.IOException if the write fails
+     */
+    long writeTo(FileChannel channel, long position, long bytes)
+            throws IOException {
+        int count = chunksFor(bytes);
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << chunkShift;
+            ByteBuffer chunk = chunks[i].duplicate();
+            chunk.limit((int) Math.min(bytes - start, chunk.capacity()));
+            while (chunk.hasRemaining()) {
+                channel.write(chunk, position + start + chunk.position());
+            }
+        }
+
+        long written = (long) count << chunkShift;
+        if (written > bytes) {
+            channel.write(ByteBuffer.allocate(1), position + written - 1);
+        }
+        return written;
+    }
+
+    /**
+     * Adds chunks until the memory holds at least the given number of bytes.
+     * Existing contents stay where they are.
+     *
+     * @param bytes the minimum size in bytes
+     */
+    void ensureCapacity(long bytes) {
+        int needed = chunksFor(bytes);
+        if (needed > chunks.length) {
+            int old = chunks.length;
+            chunks = Arrays.copyOf(chunks, needed);
+            for (int i = old; i < needed; i++) {
+                chunks[i] = ByteBuffer.allocateDirect(1 << chunkShift)
+                        .order(ByteOrder.nativeOrder());
+            }
+        }
+    }
+
+    /**
+     * Returns log2 of the chunk size.
+     *
+     * @return the chunk shift the memory was created with
+     */
+    int chunkShift() {
+        return chunkShift;
+    }
+
+    /**
+     * Returns the size of the memory in bytes.
+     *
+     * @return the number of addressable bytes
+     */
+    long capacity() {
+        return (long) chunks.length << chunkShift;
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @param offset the offset of the byte
+     * @return the byte at offset
+     */
+    byte getByte(long offset) {
+        return chunks[(int) (offset >>> chunkShift)]
+                .get((int) offset & chunkMask);
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param offset the offset of the byte
+     * @param value  the byte to write
+     */
+    void putByte(long offset, byte value) {
+        chunks[(int) (offset >>> chunkShift)]
+                .put((int) offset & chunkMask, value);
+    }
+
+    /**
+     * Reads an int at an offset that is a multiple of 4.
+     *
+     * @param offset the offset of the int
+     * @return the int at offset
+     */
+    int getInt(long offset) {
+        return chunks[(int) (offset >>> chunkShift)]
+                .getInt((int) offset & chunkMask);
+    }
+
+    /**
+     * Writes an int at an offset that is a multiple of 4.
+     *
+     * @param offset the offset of the int
+     * @param value  the int to write
+     */
+    void putInt(long offset, int value) {
+        chunks[(int) (offset >>> chunkShift)]
+                .putInt((int) offset & chunkMask, value);
+    }
+
+    /**
+     * Reads a long at an offset that is a multiple of 8.
+     *
+     * @param offset the offset of the long
+     * @return the long at offset
+     */
+    long getLong(long offset) {
+        return chunks[(int) (offset >>> chunkShift)]
+                .getLong((int) offset & chunkMask);
+    }
+
+    /**
+     * Writes a long at an offset that is a multiple of 8.
+     *
+     * @param offset the offset of the long
+     * @param value  the long to write
+     */
+    void putLong(long offset, long value) {
+        chunks[(int) (offset >>> chunkShift)]
+                .putLong((int) offset & chunkMask, value);
+    }
+
+    /**
+     * Copies bytes out of the memory, across chunk boundaries if needed.
+     *
+     * @param offset the offset of the first byte
+     * @param dst    the array to fill completely
+     */
+    void get(long offset, byte[] dst) {
+        int copied = 0;
+        while (copied < dst.length) {
+            long at = offset + copied;
+            int within = (int) at & chunkMask;
+            int count = Math.min(dst.length - copied, chunkMask + 1 - within);
+            chunks[(int) (at >>> chunkShift)].get(within, dst, copied, count);
+            copied += count;
+        }
+    }
+
+    /**
+     * Copies bytes into the memory, across chunk boundaries if needed.
+     *
+     * @param offset the offset to write the first byte at
+     * @param src    the bytes to write
+     */
+    void put(long offset, byte[] src) {
+        int copied = 0;
+        while (copied < src.length) {
+            long at = offset + copied;
+            int within = (int) at & chunkMask;
+            int count = Math.min(src.length - copied, chunkMask + 1 - within);
+            chunks[(int) (at >>> chunkShift)].put(within, src, copied, count);
+            copied += count;
+        }
+    }
+
+    /**
+     * Returns whether the bytes at offset equal an array.
+     *
+     * @param offset the offset of the first byte to compare
+     * @param bytes  the array to compare against
+     * @return true if the next bytes.length bytes match bytes
+     */
+    boolean matches(long offset, byte[] bytes) {
+        int i = 0;
+        // compare a whole long at a time once offset + i is aligned
+        while (i < bytes.length && ((offset + i) & 7) != 0) {
+            if (getByte(offset + i) != bytes[i]) {
+                return false;
+            }
+            i++;
+        }
+        for (; i + 8 <= bytes.length; i += 8) {
+            if (getLong(offset + i) != (long) LONGS.get(bytes, i)) {
+                return false;
+            }
+        }
+        for (; i < bytes.length; i++) {
+            if (getByte(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of chunks needed to hold the given number of bytes.
+     *
+     * @param bytes the number of bytes
+     * @return the number of chunks
+     */
+    private int chunksFor(long bytes) {
+        return (int) ((bytes + chunkMask) >>> chunkShift);
+    }
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File handling shared by the snapshots of the off-heap maps.
+ *
+ * A snapshot starts with a HEADER_BYTES header: a magic number naming the
+ * kind of map, then whatever fields that map needs. The map's OffHeapMemory
+ * follows, written with OffHeapMemory.writeTo. Everything is in native byte
+ * order, so a snapshot written on a machine of the other byte order fails
+ * the magic number check instead of loading garbage. A load checks every
+ * header field and the file size before mapping anything, since mapping
+ * past the end of a truncated file would fault on first access.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+final class OffHeapSnapshot {
+
+    /**
+     * The size of the header. A multiple of 8, so the memory after it keeps
+     * its longs aligned.
+     */
+    static final int HEADER_BYTES = 64;
+
+    /**
+     * Writes the body of a snapshot.
+     */
+    @FunctionalInterface
+    interface Body {
+
+        /**
+         * Writes everything after the header.
+         *
+         * @param channel the file, positioned nowhere in particular
+         * @throws java.io.IOException if the write fails
+         */
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Not meant to be constructed.
+     */
+    private OffHeapSnapshot() {
+    }
+
+    /**
+     * Returns an empty header that starts with the magic number.
+     *
+     * @param magic the magic number of the kind of map
+     * @return the header, positioned after the magic number
+     */
+    static ByteBuffer header(long magic) {
+        return ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder())
+                .putLong(magic);
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to file, then renames it
+     * over file. A crash mid-write never leaves a half written snapshot
+     * behind, and a map still mapping the old file keeps its contents.
+     *
+     * @param file   the file to write
+     * @param header the header
+     * @param body   writes the rest of the snapshot
+     * @throws java.io.IOException if the file cannot be written
+     */
+    static void write(Path file, ByteBuffer header, Body body)
+            throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(),
+                absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.WRITE)) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                body.writeTo(channel);
+                channel.force(false);
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads and checks the header of a snapshot.
+     *
+     * @param channel the file
+     * @param magic   the magic number of the kind of map expected
+     * @param name    the name of that kind of map, for the error message
+     * @return the header, positioned after the magic number
+     * @throws java.io.IOException if the file is not a snapshot of that kind
+     *                             of map
+     */
+    static ByteBuffer readHeader(FileChannel channel, long magic, String name)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .order(ByteOrder.nativeOrder());
+        while (header.hasRemaining()
+                && channel.read(header, header.position()) != -1) {
+            // keep reading until the header is full or the file ends
+        }
+        if (header.hasRemaining() || header.getLong(0) != magic) {
+            throw new IOException("Tried to load a file that is not a "
+                    + name + " snapshot");
+        }
+        return header.position(Long.BYTES);
+    }
+
+    /**
+     * Checks the table fields of a header.
+     *
+     * @param length the number of slots the header claims
+     * @param size   the number of entries the header claims
+     * @param name   the name of the kind of map, for the error message
+     * @throws java.io.IOException if length is not positive or size is not
+     *                             between 0 and length
+     */
+    static void checkTable(int length, int size, String name)
+            throws IOException {
+        if (length <= 0 || size < 0 || size > length) {
+            throw corrupt(name);
+        }
+    }
+
+    /**
+     * Returns the number of file bytes writeTo takes up for a section of the
+     * body, a whole number of chunks.
+     *
+     * @param bytes      the number of bytes in the section
+     * @param chunkShift the chunk shift the header claims for it
+     * @param name       the name of the kind of map, for the error message
+     * @return the number of file bytes of the section
+     * @throws java.io.IOException if bytes is negative or chunkShift is not
+     *                             one OffHeapMemory accepts
+     */
+    static long sectionBytes(long bytes, int chunkShift, String name)
+            throws IOException {
+        if (bytes < 0 || chunkShift < 3
+                || chunkShift > OffHeapMemory.DEFAULT_CHUNK_SHIFT) {
+            throw corrupt(name);
+        }
+        long chunk = 1L << chunkShift;
+        return (bytes + chunk - 1) / chunk * chunk;
+    }
+
+    /**
+     * Checks that the file holds the whole body after the header, so that
+     * nothing is ever mapped past its end.
+     *
+     * @param channel   the file
+     * @param bodyBytes the number of file bytes the body takes up
+     * @param name      the name of the kind of map, for the error message
+     * @throws java.io.IOException if the file is shorter than the header and
+     *                             body
+     */
+    static void checkFileSize(FileChannel channel, long bodyBytes,
+            String name) throws IOException {
+        if (channel.size() < HEADER_BYTES + bodyBytes) {
+            throw new IOException("Tried to load a truncated " + name
+                    + " snapshot");
+        }
+    }
+
+    /**
+     * Returns the exception for a header whose fields make no sense.
+     *
+     * @param name the name of the kind of map
+     * @return the exception to throw
+     */
+    static IOException corrupt(String name) {
+        return new IOException("Tried to load a corrupt " + name
+                + " snapshot");
+    }
+}
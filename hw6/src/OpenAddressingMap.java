@@ -0,0 +1,94 @@
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The public API shared by LinearProbingHashMap and its alternative
+ * open-addressing implementations, so callers and benchmarks can swap one
+ * for another.
+ *
+ * Keys and values may never be null. See LinearProbingHashMap for the full
+ * contract of each method.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Henry Liao
+ * @version 1.0
+ */
+public interface OpenAddressingMap<K, V> {
+
+    /**
+     * Adds the given key-value pair to the map, replacing the value if the
+     * key is already present.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     *         map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    V remove(K key);
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    V get(K key);
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    Set<K> keySet();
+
+    /**
+     * Returns a List of the values contained in this map, in table order.
+     *
+     * @return list of values in this map
+     */
+    List<V> values();
+
+    /**
+     * Resizes the backing table to length, disregarding the load factor.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the map
+     */
+    void resizeBackingTable(int length);
+
+    /**
+     * Clears the map.
+     */
+    void clear();
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    int size();
+}
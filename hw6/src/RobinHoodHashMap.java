@@ -0,0 +1,381 @@
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An open-addressing map that uses Robin Hood linear probing with
+ * backward-shift deletion.
+ *
+ * Every slot records how far its entry sits from its home slot. A put that
+ * meets an entry closer to home than itself takes that slot and carries the
+ * displaced entry further along, so probe lengths stay short and even. That
+ * ordering also lets a lookup stop at the first entry closer to home than
+ * the probe so far, so misses end early instead of scanning the whole
+ * cluster.
+ *
+ * A remove shifts the entries after it back by one slot until it reaches an
+ * empty slot or an entry already at home. Removing an entry therefore leaves
+ * the table as if it had never been added. No DEL markers are left behind,
+ * so heavy put/remove churn never degrades lookups.
+ *
+ * Tables are always a power of two. Hash codes are mixed with the same
+ * finalizer as TableSizing.POWER_OF_TWO, and the table doubles once an add
+ * would exceed MAX_LOAD_FACTOR.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class RobinHoodHashMap<K, V> implements OpenAddressingMap<K, V> {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR =
+            LinearProbingHashMap.MAX_LOAD_FACTOR;
+
+    /**
+     * For each slot, 0 if the slot is empty, or 1 + the number of slots its
+     * entry sits past its home slot.
+     */
+    private int[] distances;
+    private K[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a new RobinHoodHashMap with a backing table of
+     * INITIAL_CAPACITY.
+     */
+    public RobinHoodHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new RobinHoodHashMap.
+     *
+     * You may assume initialCapacity will always be positive. It is rounded
+     * up to a power of two.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public RobinHoodHashMap(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map already
+     * has this key, replace the entry's value with the new one passed in.
+     *
+     * Doubles the table before adding if the add would exceed
+     * MAX_LOAD_FACTOR.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the map,
+     *         return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into RobinHoodHashMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null value into RobinHoodHashMap");
+        }
+
+        int index = find(key);
+        if (index != -1) {
+            // duplicate case
+            V old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        if ((size + 1.0) / distances.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * distances.length);
+        }
+        insert(key, value);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map, shifting the rest
+     * of its cluster back so no DEL marker is needed.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to remove null key from RobinHoodHashMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in RobinHoodHashMap");
+        }
+
+        V removed = values[index];
+        // pull every displaced entry after the hole one slot closer to home
+        int next = (index + 1) & mask;
+        while (distances[next] > 1) {
+            distances[index] = distances[next] - 1;
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        distances[index] = 0;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from RobinHoodHashMap");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException(
+                    "Tried to get key that does not exist in RobinHoodHashMap");
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to query if RobinHoodHashMap contains null key");
+        }
+
+        return find(key) != -1;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (distances[i] != 0) {
+                keySet.add(keys[i]);
+                count++;
+            }
+        }
+        return keySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, in order of
+     * increasing table index.
+     *
+     * @return list of values in this map
+     */
+    @Override
+    public List<V> values() {
+        List<V> valueList = new LinkedList<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (distances[i] != 0) {
+                valueList.add(values[i]);
+                count++;
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, rounded up to a power of two,
+     * disregarding the load factor.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    @Override
+    public void resizeBackingTable(int length) {
+        if (size > length) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than "
+                            + "number of elements in RobinHoodHashMap");
+        }
+
+        int[] oldDistances = distances;
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(length);
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (oldDistances[i] != 0) {
+                insert(oldKeys[i], oldValues[i]);
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to new arrays of INITIAL_CAPACITY and resets the size.
+     *
+     * Must be O(1).
+     */
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return distances.length;
+    }
+
+    /**
+     * Returns a histogram of probe lengths in the same form as
+     * FlatLinearProbingHashMap.probeLengthHistogram().
+     *
+     * Must be O(capacity).
+     *
+     * @return the probe length histogram, as long as the longest probe + 1
+     */
+    public int[] probeLengthHistogram() {
+        int longest = -1;
+        for (int distance : distances) {
+            longest = Math.max(longest, distance - 1);
+        }
+        int[] histogram = new int[longest + 1];
+        for (int distance : distances) {
+            if (distance != 0) {
+                histogram[distance - 1]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the index of the slot holding key. The probe stops at an empty
+     * slot or at an entry closer to its home than the probe is to the key's,
+     * since Robin Hood insertion would have placed the key before it.
+     *
+     * @param key the non-null key to look for
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(K key) {
+        int index = Hashing.mix(key.hashCode()) & mask;
+        for (int distance = 1; distances[index] >= distance; distance++) {
+            if (distances[index] == distance && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Places a key known not to be in the map, swapping it with any entry
+     * that is closer to home so the richer entry moves on instead. Does not
+     * update the size.
+     *
+     * @param newKey   the key to place
+     * @param newValue the value to place
+     */
+    private void insert(K newKey, V newValue) {
+        K key = newKey;
+        V value = newValue;
+        int index = Hashing.mix(key.hashCode()) & mask;
+        int distance = 1;
+        while (distances[index] != 0) {
+            if (distances[index] < distance) {
+                int tempDistance = distances[index];
+                K tempKey = keys[index];
+                V tempValue = values[index];
+                distances[index] = distance;
+                keys[index] = key;
+                values[index] = value;
+                distance = tempDistance;
+                key = tempKey;
+                value = tempValue;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        distances[index] = distance;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Replaces the backing arrays with empty arrays of at least the given
+     * length, rounded up to a power of two.
+     *
+     * @param requested the requested length of the new arrays
+     */
+    private void allocate(int requested) {
+        int length = Hashing.powerOfTwoAtLeast(requested);
+        mask = length - 1;
+        distances = new int[length];
+        keys = (K[]) new Object[length];
+        values = (V[]) new Object[length];
+    }
+}
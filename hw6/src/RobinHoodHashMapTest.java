@@ -0,0 +1,53 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for RobinHoodHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class RobinHoodHashMapTest extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new RobinHoodHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLeavesNoTrace() {
+        RobinHoodHashMap<Integer, String> map = new RobinHoodHashMap<>(64);
+        for (int i = 0; i < 40; i++) {
+            map.put(i, "" + i);
+        }
+        int[] histogram = map.probeLengthHistogram();
+        Object[] values = map.values().toArray();
+
+        // a remove shifts its cluster back, so undoing an add restores the
+        // exact table the add started from
+        map.put(100, "100");
+        map.remove(100);
+        assertArrayEquals(histogram, map.probeLengthHistogram());
+        assertArrayEquals(values, map.values().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChurnKeepsProbesShort() {
+        RobinHoodHashMap<Integer, String> map = new RobinHoodHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            map.put(i, "" + i);
+        }
+        int capacity = map.capacity();
+
+        // backward shifts leave no tombstones to lengthen probes or force
+        // a resize
+        churn(map);
+        assertEquals(capacity, map.capacity());
+        assertTrue(map.probeLengthHistogram().length < 32);
+    }
+}
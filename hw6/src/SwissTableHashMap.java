@@ -0,0 +1,441 @@
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An open-addressing map in the style of a Swiss table: slots are probed in
+ * groups of eight, and each group is screened with a few long operations
+ * before any key is compared.
+ *
+ * Every slot has a control byte, and the eight control bytes of a group are
+ * packed into one long. A full slot's control byte holds seven bits of its
+ * key's mixed hash, and the high bit marks an empty or DEL slot. A lookup
+ * splits the mixed hash in two. The high bits pick the home group, and the
+ * low seven are compared against all eight control bytes at once with SWAR
+ * (SIMD within a register) arithmetic on the long. Only slots whose seven
+ * bits match, one in 128 for a wrong key, ever have equals called on their
+ * key, and a miss usually ends in the home group without comparing any key.
+ *
+ * Groups are probed in triangular order: the home group, then 1, 2, 3, ...
+ * groups further on. With a power-of-two number of groups that visits every
+ * group exactly once. A probe stops at the first group with an empty slot,
+ * so a remove only needs a DEL marker if its group has no empty slot left.
+ *
+ * Since lookups rarely compare keys, the table can run fuller than
+ * LinearProbingHashMap: it is rehashed once an add would make full slots
+ * plus DEL markers exceed MAX_LOAD_FACTOR. The rehash doubles the table if
+ * it is more than half full, and otherwise only clears the DEL markers.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class SwissTableHashMap<K, V> implements OpenAddressingMap<K, V> {
+
+    /**
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The max load factor of the map, counting DEL markers as full.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.875;
+
+    /**
+     * The number of slots in a group, one per byte of a long.
+     */
+    public static final int GROUP_SIZE = Long.BYTES;
+
+    private static final int EMPTY = 0x80;
+    private static final int DELETED = 0xFE;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long ALL_EMPTY = EMPTY * LOW_BITS;
+
+    /**
+     * The control bytes, GROUP_SIZE to a long. Byte i of controls[g], counting
+     * from the least significant end, belongs to slot g * GROUP_SIZE + i.
+     */
+    private long[] controls;
+    private K[] keys;
+    private V[] values;
+    private int groupMask;
+    private int size;
+    private int deleted;
+
+    /**
+     * Constructs a new SwissTableHashMap with a backing table of
+     * INITIAL_CAPACITY.
+     */
+    public SwissTableHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new SwissTableHashMap.
+     *
+     * You may assume initialCapacity will always be positive. It is rounded
+     * up to a power of two, and to at least GROUP_SIZE.
+     *
+     * @param initialCapacity the initial capacity of the backing table
+     */
+    public SwissTableHashMap(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map already
+     * has this key, replace the entry's value with the new one passed in.
+     *
+     * Rehashes the table before adding if the add would make full slots plus
+     * DEL markers exceed MAX_LOAD_FACTOR.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the map,
+     *         return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null key into SwissTableHashMap");
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Tried to add null value into SwissTableHashMap");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        int index = find(key, hash);
+        if (index != -1) {
+            // duplicate case
+            V old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        int capacity = keys.length;
+        if ((size + deleted + 1.0) / capacity > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * (size + 1) > capacity ? 2 * capacity
+                    : capacity);
+        }
+        insert(key, value, hash);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map. The slot is left
+     * as a DEL marker only if its group has no empty slot, since a probe that
+     * reaches a group with an empty slot never continues past it.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to remove null key from SwissTableHashMap");
+        }
+
+        int index = find(key, Hashing.mix(key.hashCode()));
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to remove key that does "
+                    + "not exist in SwissTableHashMap");
+        }
+
+        V removed = values[index];
+        if (matchEmpty(controls[index / GROUP_SIZE]) != 0) {
+            setControl(index, EMPTY);
+        } else {
+            setControl(index, DELETED);
+            deleted++;
+        }
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to get null key from SwissTableHashMap");
+        }
+
+        int index = find(key, Hashing.mix(key.hashCode()));
+        if (index == -1) {
+            throw new NoSuchElementException("Tried to get key that does not "
+                    + "exist in SwissTableHashMap");
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Tried to query if SwissTableHashMap contains null key");
+        }
+
+        return find(key, Hashing.mix(key.hashCode())) != -1;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (keys[i] != null) {
+                keySet.add(keys[i]);
+                count++;
+            }
+        }
+        return keySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, in order of
+     * increasing table index.
+     *
+     * @return list of values in this map
+     */
+    @Override
+    public List<V> values() {
+        List<V> valueList = new LinkedList<>();
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (keys[i] != null) {
+                valueList.add(values[i]);
+                count++;
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, rounded up to a power of two and to
+     * at least GROUP_SIZE, disregarding the load factor. DEL markers are
+     * dropped.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    @Override
+    public void resizeBackingTable(int length) {
+        if (size > length) {
+            throw new IllegalArgumentException(
+                    "Tried to resize to a backing array smaller than "
+                            + "number of elements in SwissTableHashMap");
+        }
+
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(length);
+
+        int count = 0;
+        for (int i = 0; count < size; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i],
+                        Hashing.mix(oldKeys[i].hashCode()));
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to new arrays of INITIAL_CAPACITY and resets the size.
+     *
+     * Must be O(1).
+     */
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the backing table.
+     *
+     * @return the number of slots in the table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of DEL markers in the table.
+     *
+     * @return the number of DEL markers
+     */
+    public int deletedCount() {
+        return deleted;
+    }
+
+    /**
+     * Returns the index of the slot holding key.
+     *
+     * @param key  the non-null key to look for
+     * @param hash the mixed hash of key
+     * @return the index of the key's slot, or -1 if it is not in the map
+     */
+    private int find(K key, int hash) {
+        long pattern = (hash & 0x7F) * LOW_BITS;
+        int group = (hash >>> 7) & groupMask;
+        for (int step = 1; step <= groupMask + 1; step++) {
+            long control = controls[group];
+            long matches = matchByte(control, pattern);
+            while (matches != 0) {
+                int index = group * GROUP_SIZE
+                        + Long.numberOfTrailingZeros(matches) / Byte.SIZE;
+                if (keys[index].equals(key)) {
+                    return index;
+                }
+                matches &= matches - 1;
+            }
+            if (matchEmpty(control) != 0) {
+                return -1;
+            }
+            group = (group + step) & groupMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Places a key known not to be in the map in the first empty or DEL slot
+     * of its probe sequence. Does not update the size.
+     *
+     * @param key   the key to place
+     * @param value the value to place
+     * @param hash  the mixed hash of key
+     */
+    private void insert(K key, V value, int hash) {
+        int group = (hash >>> 7) & groupMask;
+        long free = controls[group] & HIGH_BITS;
+        for (int step = 1; free == 0; step++) {
+            group = (group + step) & groupMask;
+            free = controls[group] & HIGH_BITS;
+        }
+        int index = group * GROUP_SIZE
+                + Long.numberOfTrailingZeros(free) / Byte.SIZE;
+        if (getControl(index) == DELETED) {
+            deleted--;
+        }
+        setControl(index, hash & 0x7F);
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Finds the bytes of a group of control bytes that equal the matching
+     * byte of pattern, with the classic has-zero-byte trick on their xor.
+     * The result can also flag a byte just above a true match that differs
+     * from its pattern byte only in the lowest bit, so every flagged slot
+     * still has its key compared.
+     *
+     * @param control the control bytes of a group
+     * @param pattern the byte to look for, repeated in every byte
+     * @return a long with the high bit of every matching byte set
+     */
+    private static long matchByte(long control, long pattern) {
+        long x = control ^ pattern;
+        return (x - LOW_BITS) & ~x & HIGH_BITS;
+    }
+
+    /**
+     * Finds the empty slots of a group. Full control bytes have a clear high
+     * bit, and of the two with it set, only EMPTY has a clear bit 6.
+     *
+     * @param control the control bytes of a group
+     * @return a long with the high bit of every empty slot's byte set
+     */
+    private static long matchEmpty(long control) {
+        return control & ~(control << 1) & HIGH_BITS;
+    }
+
+    /**
+     * Returns the control byte of a slot.
+     *
+     * @param index the slot
+     * @return the control byte, from 0 to 255
+     */
+    private int getControl(int index) {
+        int shift = (index % GROUP_SIZE) * Byte.SIZE;
+        return (int) (controls[index / GROUP_SIZE] >>> shift) & 0xFF;
+    }
+
+    /**
+     * Sets the control byte of a slot.
+     *
+     * @param index   the slot
+     * @param control the control byte, from 0 to 255
+     */
+    private void setControl(int index, int control) {
+        int shift = (index % GROUP_SIZE) * Byte.SIZE;
+        int group = index / GROUP_SIZE;
+        controls[group] = (controls[group] & ~(0xFFL << shift))
+                | ((long) control << shift);
+    }
+
+    /**
+     * Replaces the backing arrays with empty arrays of at least the given
+     * length, rounded up to a power of two and to at least GROUP_SIZE.
+     *
+     * @param requested the requested length of the new arrays
+     */
+    private void allocate(int requested) {
+        int length = Hashing.powerOfTwoAtLeast(
+                Math.max(requested, GROUP_SIZE));
+        groupMask = length / GROUP_SIZE - 1;
+        controls = new long[length / GROUP_SIZE];
+        Arrays.fill(controls, ALL_EMPTY);
+        keys = (K[]) new Object[length];
+        values = (V[]) new Object[length];
+        deleted = 0;
+    }
+}
@@ -0,0 +1,158 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for SwissTableHashMap.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class SwissTableHashMapTest extends AbstractOpenAddressingMapTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Override
+    protected OpenAddressingMap<Integer, String> createMap() {
+        return new SwissTableHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFullTable() {
+        // a table with no empty slot left has to probe every group to miss
+        SwissTableHashMap<Integer, String> map = new SwissTableHashMap<>();
+        for (int i = 0; i < 14; i++) {
+            map.put(i, "" + i);
+        }
+        map.resizeBackingTable(14);
+        assertEquals(16, map.capacity());
+        assertFalse(map.containsKey(100));
+        for (int i = 0; i < 14; i++) {
+            assertEquals("" + i, map.get(i));
+        }
+
+        map.put(14, "14");
+        map.put(15, "15");
+        map.put(16, "16");
+        assertEquals(32, map.capacity());
+        assertEquals(17, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLeavesDeletedOnlyInFullGroups() {
+        // 16 slots are two groups. Nine keys homed in group 0 fill it, and
+        // the ninth overflows into group 1.
+        SwissTableHashMap<Integer, String> map = new SwissTableHashMap<>();
+        List<Integer> keys = keysHomedAt(0, 2, 10);
+        for (int i = 0; i < 9; i++) {
+            map.put(keys.get(i), "" + i);
+        }
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8"),
+                map.values());
+
+        // group 1 still has empty slots, so its slot just becomes empty
+        map.remove(keys.get(8));
+        assertEquals(0, map.deletedCount());
+
+        // group 0 has none, so the probe for a key past it must go on
+        map.put(keys.get(8), "8");
+        map.remove(keys.get(0));
+        assertEquals(1, map.deletedCount());
+        assertEquals("8", map.get(keys.get(8)));
+        assertFalse(map.containsKey(keys.get(9)));
+
+        // the next key homed in group 0 takes the DEL marker's slot
+        map.put(keys.get(9), "9");
+        assertEquals(0, map.deletedCount());
+        assertEquals(List.of("9", "1", "2", "3", "4", "5", "6", "7", "8"),
+                map.values());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRehashInPlaceClearsDeletedMarkers() {
+        // fill group 0 with keys homed there and group 1 with six more, for
+        // 14 of 16 slots, the most MAX_LOAD_FACTOR allows
+        SwissTableHashMap<Integer, String> map = new SwissTableHashMap<>();
+        List<Integer> group0 = keysHomedAt(0, 2, 8);
+        List<Integer> group1 = keysHomedAt(1, 2, 7);
+        for (int i = 0; i < 8; i++) {
+            map.put(group0.get(i), "a" + i);
+        }
+        for (int i = 0; i < 6; i++) {
+            map.put(group1.get(i), "b" + i);
+        }
+
+        // every remove from the full group leaves a DEL marker
+        for (int i = 0; i < 7; i++) {
+            map.remove(group0.get(i));
+        }
+        assertEquals(7, map.size());
+        assertEquals(7, map.deletedCount());
+
+        // 7 full slots and 7 DEL markers leave no room, but 8 entries fit
+        // in half the table, so the rehash keeps its size
+        map.put(group1.get(6), "b6");
+        assertEquals(0, map.deletedCount());
+        assertEquals(16, map.capacity());
+        assertEquals(8, map.size());
+        assertEquals("a7", map.get(group0.get(7)));
+        for (int i = 0; i < 7; i++) {
+            assertEquals("b" + i, map.get(group1.get(i)));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTriangularProbeWrapsAround() {
+        // 32 slots are four groups. From home group 3 the probe visits
+        // groups 3, 0 (wrapping around), 2 and then 1.
+        SwissTableHashMap<Integer, String> map = new SwissTableHashMap<>(32);
+        List<Integer> keys = keysHomedAt(3, 4, 26);
+        for (int i = 0; i < 25; i++) {
+            map.put(keys.get(i), "" + i);
+        }
+        assertEquals(32, map.capacity());
+
+        // values() lists slots in order, so groups 0, 1, 2 then 3
+        List<String> expected = new ArrayList<>();
+        for (int i = 8; i < 16; i++) {
+            expected.add("" + i);
+        }
+        expected.add("24");
+        for (int i = 16; i < 24; i++) {
+            expected.add("" + i);
+        }
+        for (int i = 0; i < 8; i++) {
+            expected.add("" + i);
+        }
+        assertEquals(expected, map.values());
+
+        // a miss follows the same order and ends in group 1
+        assertFalse(map.containsKey(keys.get(25)));
+        for (int i = 0; i < 25; i++) {
+            assertEquals("" + i, map.get(keys.get(i)));
+        }
+    }
+
+    /**
+     * Returns the first non-negative Integers whose home group is group.
+     *
+     * @param group      the home group wanted
+     * @param groupCount the number of groups in the table, a power of two
+     * @param count      the number of keys to return
+     * @return the keys, in increasing order
+     */
+    private static List<Integer> keysHomedAt(int group, int groupCount,
+            int count) {
+        List<Integer> keys = new ArrayList<>();
+        for (int key = 0; keys.size() < count; key++) {
+            if ((Hashing.mix(key) >>> 7 & (groupCount - 1)) == group) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
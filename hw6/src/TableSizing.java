@@ -0,0 +1,21 @@
+/**
+ * How an open-addressing map sizes its table and maps hashes to slots.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public enum TableSizing {
+    /**
+     * The LinearProbingHashMap scheme: tables grow to 2 * length + 1 and a
+     * key's home slot is |hashCode % length|. Odd lengths spread keys that
+     * share low bits, but every lookup pays for an integer division.
+     */
+    TWO_N_PLUS_ONE,
+
+    /**
+     * Tables are always a power of two and grow by doubling. The hash code
+     * is run through a MurmurHash3 finalizer and its low bits are masked
+     * off to pick the home slot, so there is no division anywhere.
+     */
+    POWER_OF_TWO
+}
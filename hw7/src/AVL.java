@@ -118,7 +118,7 @@ public class AVL<T extends Comparable<? super T>> {
                     "Tried to remove null data froo AVL");
         }
         AVLNode<T> removed = new AVLNode<T>(null);
-        this.remove(root, data, removed);
+        root = this.remove(root, data, removed);
         return removed.getData();
 
     }
@@ -196,7 +196,7 @@ public class AVL<T extends Comparable<? super T>> {
     private AVLNode<T> removeSuccessor(AVLNode<T> cur, AVLNode<T> successor) {
         if (cur.getLeft() == null) {
             successor.setData(cur.getData());
-            return null;
+            return cur.getRight();
         }
         cur.setLeft(removeSuccessor(cur.getLeft(), successor));
         this.update(cur);
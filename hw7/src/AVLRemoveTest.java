@@ -0,0 +1,86 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Regression tests for AVL.remove: the new subtree root must replace the
+ * old root, and removing a successor must keep its right subtree.
+ *
+ * @author Henry Liao
+ * @version 1.0
+ */
+public class AVLRemoveTest {
+
+    private static final int TIMEOUT = 200;
+    private AVL<Integer> avlTree;
+
+    @Before
+    public void setup() {
+        avlTree = new AVL<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveSuccessorWithRightChild() {
+        /*
+                    10                      12
+                  /    \                  /    \
+                 5      15               5      15
+                / \    /  \     ->      / \    /  \
+               3   7  12   20          3   7  13   20
+                        \
+                         13
+         */
+        for (int value : new int[] {10, 5, 15, 3, 7, 12, 20, 13}) {
+            avlTree.add(value);
+        }
+
+        assertEquals((Integer) 10, avlTree.remove(10));
+        assertEquals(7, avlTree.size());
+
+        AVLNode<Integer> root = avlTree.getRoot();
+        assertEquals((Integer) 12, root.getData());
+        assertEquals(2, root.getHeight());
+        assertEquals(0, root.getBalanceFactor());
+        AVLNode<Integer> right = root.getRight();
+        assertEquals((Integer) 15, right.getData());
+        assertEquals(1, right.getHeight());
+        assertEquals(0, right.getBalanceFactor());
+        assertEquals((Integer) 13, right.getLeft().getData());
+        assertEquals(0, right.getLeft().getHeight());
+        assertEquals((Integer) 20, right.getRight().getData());
+        assertEquals((Integer) 5, root.getLeft().getData());
+        assertEquals((Integer) 3, root.getLeft().getLeft().getData());
+        assertEquals((Integer) 7, root.getLeft().getRight().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveRebalancesRoot() {
+        /*
+                2                   3
+               / \                 / \
+              1   3      ->       2   4
+                   \
+                    4
+         */
+        for (int value : new int[] {2, 1, 3, 4}) {
+            avlTree.add(value);
+        }
+
+        assertEquals((Integer) 1, avlTree.remove(1));
+        assertEquals(3, avlTree.size());
+
+        AVLNode<Integer> root = avlTree.getRoot();
+        assertEquals((Integer) 3, root.getData());
+        assertEquals(1, root.getHeight());
+        assertEquals(0, root.getBalanceFactor());
+        assertEquals((Integer) 2, root.getLeft().getData());
+        assertEquals(0, root.getLeft().getHeight());
+        assertNull(root.getLeft().getLeft());
+        assertNull(root.getLeft().getRight());
+        assertEquals((Integer) 4, root.getRight().getData());
+        assertEquals(0, root.getRight().getHeight());
+        assertEquals(1, avlTree.height());
+    }
+}